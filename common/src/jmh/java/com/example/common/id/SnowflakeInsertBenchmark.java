@@ -0,0 +1,118 @@
+package com.example.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * INSERT 처리량 비교 (IDENTITY vs Snowflake ID + JDBC 배치)
+ * - identityInsert: Hibernate IDENTITY와 같이 행마다 INSERT 실행 후 생성 키 조회 (배치 불가)
+ * - snowflakeBatchInsert: ID를 미리 발급해 addBatch → executeBatch 1회
+ * - nextId / nextIdContended: 생성기 단독 처리량 (1스레드 / 8스레드 경합)
+ * 결과 단위: 행(ID)/ms
+ *
+ * 실행: ./gradlew :common:jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnowflakeInsertBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private Connection connection;
+    private PreparedStatement identityInsert;
+    private PreparedStatement snowflakeInsert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:snowflake-bench-" + Thread.currentThread().threadId());
+        connection.setAutoCommit(false);
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE identity_row (id BIGINT AUTO_INCREMENT PRIMARY KEY, payload VARCHAR(64))");
+            ddl.execute("CREATE TABLE snowflake_row (id BIGINT PRIMARY KEY, payload VARCHAR(64))");
+        }
+        identityInsert = connection.prepareStatement(
+                "INSERT INTO identity_row (payload) VALUES (?)", Statement.RETURN_GENERATED_KEYS);
+        snowflakeInsert = connection.prepareStatement("INSERT INTO snowflake_row (id, payload) VALUES (?, ?)");
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("TRUNCATE TABLE identity_row");
+            ddl.execute("TRUNCATE TABLE snowflake_row");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long identityInsert() throws SQLException {
+        long lastId = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            identityInsert.setString(1, "payload");
+            identityInsert.executeUpdate();
+            try (ResultSet keys = identityInsert.getGeneratedKeys()) {
+                keys.next();
+                lastId = keys.getLong(1);
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long snowflakeBatchInsert() throws SQLException {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.shared();
+        long lastId = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            lastId = generator.nextId();
+            snowflakeInsert.setLong(1, lastId);
+            snowflakeInsert.setString(2, "payload");
+            snowflakeInsert.addBatch();
+        }
+        snowflakeInsert.executeBatch();
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long nextId() {
+        return SnowflakeIdGenerator.shared().nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long nextIdContended() {
+        return SnowflakeIdGenerator.shared().nextId();
+    }
+}
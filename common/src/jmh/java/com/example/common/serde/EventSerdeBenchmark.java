@@ -0,0 +1,93 @@
+package com.example.common.serde;
+
+import com.example.common.event.OrderCreatedEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 직렬화 비교 (바이너리 코덱 vs 기존 JSON)
+ * - ns/event: 각 @Benchmark 결과
+ * - bytes/event: Setup에서 출력
+ *
+ * 실행: ./gradlew :common:jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerdeBenchmark {
+
+    private static final String TOPIC = "order-events";
+
+    private final BinaryEventSerializer binarySerializer = new BinaryEventSerializer();
+    private final BinaryEventDeserializer binaryDeserializer = new BinaryEventDeserializer();
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+    private final JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>();
+
+    private OrderCreatedEvent event;
+    private byte[] binaryBytes;
+    private byte[] jsonBytes;
+    private Headers jsonHeaders;
+
+    @Setup
+    public void setUp() {
+        jsonDeserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.example.common.event"), false);
+
+        event = OrderCreatedEvent.builder()
+                .orderId(1_234_567_890_123L)
+                .userId(42L)
+                .productId(7L)
+                .productName("클린 코드")
+                .quantity(2)
+                .price(new BigDecimal("33000.00"))
+                .totalPrice(new BigDecimal("66000.00"))
+                .createdAt(LocalDateTime.of(2024, 5, 17, 13, 45, 12, 123_000_000))
+                .preAuthorize(true)
+                .build();
+
+        binaryBytes = binarySerializer.serialize(TOPIC, new RecordHeaders(), event);
+        jsonHeaders = new RecordHeaders();
+        jsonBytes = jsonSerializer.serialize(TOPIC, jsonHeaders, event);
+
+        System.out.printf("%n[bytes/event] binary: %d, json: %d%n", binaryBytes.length, jsonBytes.length);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binarySerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() {
+        return binaryDeserializer.deserialize(TOPIC, binaryBytes);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return jsonDeserializer.deserialize(TOPIC, jsonHeaders, jsonBytes);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.common.vthread;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 실행 모드별 처리량 비교 (virtual-threads.enabled=false / true)
+ * - 요청 1건 = I/O 대기(sleep) 10ms를 흉내 낸 블로킹 작업, 1회 호출에 동시 요청 REQUESTS건 처리
+ * - PLATFORM: Tomcat 기본값과 같은 플랫폼 스레드 200개 풀 (virtual-threads.enabled=false)
+ * - VIRTUAL: 요청마다 가상 스레드 (VirtualThreadAutoConfiguration과 같은 Executor)
+ * - VIRTUAL_PINNED: synchronized 안에서 블로킹 → 캐리어 고정으로 CPU 코어 수만큼만 동시 처리
+ *   (jvm.threads.virtual.pinned 메트릭이 잡아내는 상황)
+ * - VIRTUAL_LOCK: 같은 구간을 ReentrantLock으로 바꾼 경우 (고정 없음)
+ * 결과 단위: 요청/s
+ *
+ * 실행: ./gradlew :common:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadThroughputBenchmark {
+
+    private static final int REQUESTS = 2_000;
+    private static final long IO_MILLIS = 10;
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"PLATFORM", "VIRTUAL", "VIRTUAL_PINNED", "VIRTUAL_LOCK"})
+    private String mode;
+
+    private ExecutorService executor;
+    private Runnable request;
+
+    @Setup
+    public void setUp() {
+        executor = "PLATFORM".equals(mode)
+                ? Executors.newFixedThreadPool(PLATFORM_POOL_SIZE)
+                : VirtualThreadAutoConfiguration.newVirtualThreadExecutor("bench-vt-");
+
+        request = switch (mode) {
+            case "VIRTUAL_PINNED" -> () -> {
+                Object monitor = new Object();  // 요청별 모니터 - 경합 없이 고정 효과만 측정
+                synchronized (monitor) {
+                    blockingIo();
+                }
+            };
+            case "VIRTUAL_LOCK" -> () -> {
+                ReentrantLock lock = new ReentrantLock();
+                lock.lock();
+                try {
+                    blockingIo();
+                } finally {
+                    lock.unlock();
+                }
+            };
+            default -> VirtualThreadThroughputBenchmark::blockingIo;
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void handleRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    request.run();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private static void blockingIo() {
+        try {
+            Thread.sleep(IO_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package com.example.common.config;
 
+import com.example.common.kafka.KeyOrderedParallelProcessor;
+import com.example.common.serde.BinaryEventDeserializer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,26 +30,76 @@ import java.util.Map;
 /**
  * 공통 Kafka Consumer 설정
  * 모든 마이크로서비스에서 재사용 가능
+ *
+ * - kafkaListenerContainerFactory: 기본 Factory (자동 커밋). 서비스에 Spring Boot 기본 Factory가 있으면 그쪽을 사용
+ * - highThroughputKafkaListenerContainerFactory: 대량 처리용 Factory (수동 배치 ACK)
+ *   @KafkaListener(containerFactory = "highThroughputKafkaListenerContainerFactory")로 리스너별 선택
+ * - keyOrderedKafkaListenerContainerFactory: 대량 처리용 + 키 순서 보장 병렬 처리 (KeyOrderedParallelProcessor)
  */
-@Configuration
+@AutoConfiguration(after = KafkaAutoConfiguration.class)
 @EnableKafka
+@ConditionalOnClass(name = "org.springframework.kafka.core.ConsumerFactory")
 public class KafkaConsumerConfig {
 
+    public static final String HIGH_THROUGHPUT_FACTORY = "highThroughputKafkaListenerContainerFactory";
+
+    public static final String KEY_ORDERED_FACTORY = "keyOrderedKafkaListenerContainerFactory";
+
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id:default-group}")
     private String groupId;
 
+    /**
+     * 동시 처리 Consumer 수 (토픽 파티션 수에 맞춤 - 파티션보다 많으면 남는 Consumer는 유휴)
+     */
+    @Value("${kafka.consumer.high-throughput.concurrency:3}")
+    private int concurrency;
+
+    /**
+     * 브로커가 응답 전에 모을 최소 바이트 (작은 fetch 왕복 감소)
+     */
+    @Value("${kafka.consumer.high-throughput.fetch-min-bytes:65536}")
+    private int fetchMinBytes;
+
+    /**
+     * fetch-min-bytes가 안 모였을 때 최대 대기 시간 (지연 상한)
+     */
+    @Value("${kafka.consumer.high-throughput.fetch-max-wait-ms:100}")
+    private int fetchMaxWaitMs;
+
+    @Value("${kafka.consumer.high-throughput.max-poll-records:1000}")
+    private int maxPollRecords;
+
+    /**
+     * 키 순서 보장 병렬 처리 - 제출 후 완료 전 레코드 최대 수 (도달하면 poll 지연)
+     */
+    @Value("${kafka.consumer.key-ordered.max-in-flight:5000}")
+    private int keyOrderedMaxInFlight;
+
+    /**
+     * 키 순서 보장 병렬 처리 - 동시에 실행하는 핸들러 최대 수 (DB 커넥션 풀 크기 고려)
+     */
+    @Value("${kafka.consumer.key-ordered.max-concurrency:64}")
+    private int keyOrderedMaxConcurrency;
+
+    @Value("${kafka.consumer.key-ordered.retries:3}")
+    private int keyOrderedRetries;
+
+    @Value("${kafka.consumer.key-ordered.retry-backoff-ms:1000}")
+    private long keyOrderedRetryBackoffMs;
+
+    /**
+     * 파티션 회수 시 처리 중 레코드 완료 대기 시간
+     */
+    @Value("${kafka.consumer.key-ordered.drain-timeout-ms:10000}")
+    private long keyOrderedDrainTimeoutMs;
+
     @Bean
+    @ConditionalOnMissingBean(ConsumerFactory.class)
     public ConsumerFactory<String, Object> consumerFactory() {
-        Map<String, Object> props = new HashMap<>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        Map<String, Object> props = baseConsumerProps();
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
         props.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, 1000);
 
@@ -44,6 +107,7 @@ public class KafkaConsumerConfig {
     }
 
     @Bean
+    @ConditionalOnMissingBean(name = "kafkaListenerContainerFactory")
     public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
@@ -56,4 +120,94 @@ public class KafkaConsumerConfig {
 
         return factory;
     }
+
+    /**
+     * 대량 처리용 Listener Factory
+     * - 자동 커밋 끔, AckMode.MANUAL: 리스너가 DB 커밋 후 ACK한 오프셋만 poll 단위로 모아서 커밋
+     *   (리밸런스로 파티션을 뺏기기 전에 ACK된 오프셋은 커밋되고, ACK 전 레코드는 새 소유자가 다시 처리)
+     * - concurrency, fetch.min.bytes, max.poll.records 튜닝
+     * - 메트릭: spring.kafka.listener (리스너별 처리 시간), kafka.consumer.fetch.manager.records.lag (파티션별 lag)
+     */
+    @Bean(HIGH_THROUGHPUT_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, Object> highThroughputKafkaListenerContainerFactory(
+            ObjectProvider<KafkaProperties> kafkaProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return manualAckFactory(kafkaProperties, meterRegistry);
+    }
+
+    /**
+     * 키 순서 보장 병렬 처리용 Listener Factory
+     * - 대량 처리용 Factory와 같은 Consumer 설정 + 파티션 회수 시 처리 중 레코드 대기/커밋
+     * - 리스너는 레코드를 KeyOrderedParallelProcessor.submit()으로 넘기고 바로 반환
+     */
+    @Bean(KEY_ORDERED_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, Object> keyOrderedKafkaListenerContainerFactory(
+            ObjectProvider<KafkaProperties> kafkaProperties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            KeyOrderedParallelProcessor keyOrderedParallelProcessor) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = manualAckFactory(kafkaProperties, meterRegistry);
+        factory.getContainerProperties().setConsumerRebalanceListener(keyOrderedParallelProcessor);
+        return factory;
+    }
+
+    @Bean
+    public KeyOrderedParallelProcessor keyOrderedParallelProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        KeyOrderedParallelProcessor processor = new KeyOrderedParallelProcessor(
+                keyOrderedMaxInFlight, keyOrderedMaxConcurrency, keyOrderedRetries,
+                keyOrderedRetryBackoffMs, keyOrderedDrainTimeoutMs);
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("kafka.consumer.key-ordered.in-flight", processor, KeyOrderedParallelProcessor::inFlightCount)
+                    .description("제출 후 완료 전 레코드 수")
+                    .register(registry);
+            Gauge.builder("kafka.consumer.key-ordered.lanes", processor, KeyOrderedParallelProcessor::activeLaneCount)
+                    .description("처리 중인 키 레인 수")
+                    .register(registry);
+        });
+        return processor;
+    }
+
+    /**
+     * 수동 ACK Factory 공통 구성 (대량 처리용 / 키 순서 보장 병렬 처리용)
+     */
+    private ConcurrentKafkaListenerContainerFactory<String, Object> manualAckFactory(
+            ObjectProvider<KafkaProperties> kafkaProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+
+        // spring.kafka.consumer.* 설정이 있으면 그대로 쓰고, 처리량 관련 값만 덮어씀
+        KafkaProperties bootProperties = kafkaProperties.getIfAvailable();
+        Map<String, Object> props = (bootProperties != null)
+                ? new HashMap<>(bootProperties.buildConsumerProperties())
+                : baseConsumerProps();
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        DefaultKafkaConsumerFactory<String, Object> consumerFactory = new DefaultKafkaConsumerFactory<>(props);
+        meterRegistry.ifAvailable(registry -> consumerFactory.addListener(new MicrometerConsumerListener<>(registry)));
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(concurrency);
+
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setMicrometerEnabled(true);
+
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, 3L)));
+        return factory;
+    }
+
+    private Map<String, Object> baseConsumerProps() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, BinaryEventDeserializer.class);  // 바이너리 + JSON 호환
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.example.common.event");  // JSON 호환 경로도 이벤트 패키지만 허용
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return props;
+    }
 }
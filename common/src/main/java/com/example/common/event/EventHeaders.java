@@ -0,0 +1,20 @@
+package com.example.common.event;
+
+/**
+ * 이벤트 Kafka 헤더 이름
+ */
+public final class EventHeaders {
+
+    /**
+     * 이벤트 고유 ID (UUID) - 발행 시 생성, 재전송되어도 동일
+     */
+    public static final String EVENT_ID = "eventId";
+
+    /**
+     * 이벤트 타입 (클래스 단순 이름) - Consumer가 역직렬화 전에 구독 여부 판단
+     */
+    public static final String EVENT_TYPE = "eventType";
+
+    private EventHeaders() {
+    }
+}
@@ -51,4 +51,10 @@ public class InventoryReservedEvent implements Serializable {
      * 이벤트 발생 시각
      */
     private LocalDateTime reservedAt;
+
+    /**
+     * 결제 선승인 병렬 모드 주문 여부 (OrderCreatedEvent에서 복사)
+     * - true면 Payment Service는 이 이벤트로 결제하지 않음 (Order Service가 매입 요청)
+     */
+    private Boolean preAuthorized;
 }
@@ -40,4 +40,22 @@ public class OrderCancelledEvent implements Serializable {
      * 이벤트 발생 시각
      */
     private LocalDateTime cancelledAt;
+
+    /**
+     * 상품 ID
+     */
+    private Long productId;
+
+    /**
+     * 보상으로 복구할 재고 수량
+     * - Saga 시간 초과 등 재고 확보 후 취소된 경우에만 설정
+     * - null이면 복구 불필요 (예약 전 취소, 또는 결제 실패 경로에서 이미 복구됨)
+     */
+    private Integer releaseQuantity;
+
+    /**
+     * 보상으로 취소할 결제 ID
+     * - 결제 완료 후 Saga가 시간 초과된 경우에만 설정 (null이면 결제 취소 불필요)
+     */
+    private String refundPaymentId;
 }
@@ -62,4 +62,10 @@ public class OrderCreatedEvent implements Serializable {
      * 이벤트 발생 시각
      */
     private LocalDateTime createdAt;
+
+    /**
+     * 결제 선승인 병렬 모드 여부
+     * - true면 Payment Service가 재고 확보를 기다리지 않고 바로 선승인(hold)
+     */
+    private Boolean preAuthorize;
 }
@@ -0,0 +1,38 @@
+package com.example.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 선승인(hold) 실패 이벤트
+ * - Order Service가 구독하여 주문 취소 (재고가 이미 확보됐으면 복구 요청)
+ * - PaymentFailedEvent와 달리 Inventory Service가 직접 재고를 복구하지 않음 (재고 확보 전일 수 있으므로)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentAuthorizationFailedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 주문 ID
+     */
+    private Long orderId;
+
+    /**
+     * 실패 사유
+     */
+    private String reason;
+
+    /**
+     * 이벤트 발생 시각
+     */
+    private LocalDateTime failedAt;
+}
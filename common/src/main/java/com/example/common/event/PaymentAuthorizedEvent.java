@@ -0,0 +1,44 @@
+package com.example.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 선승인(hold) 성공 이벤트
+ * - Payment Service가 결제 선승인 병렬 모드 주문에 대해 발행
+ * - Order Service가 재고 확보 결과와 합쳐 매입(capture) 또는 승인 취소(void) 결정
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentAuthorizedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 주문 ID
+     */
+    private Long orderId;
+
+    /**
+     * 결제 ID (외부 PG사 트랜잭션 ID)
+     */
+    private String paymentId;
+
+    /**
+     * 선승인 금액
+     */
+    private BigDecimal amount;
+
+    /**
+     * 이벤트 발생 시각
+     */
+    private LocalDateTime authorizedAt;
+}
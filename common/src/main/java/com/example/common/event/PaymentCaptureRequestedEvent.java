@@ -0,0 +1,54 @@
+package com.example.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 매입(capture) 요청 이벤트
+ * - Order Service가 재고 확보 + 결제 선승인이 모두 성공했을 때 발행
+ * - Payment Service가 구독하여 매입 후 PaymentCompletedEvent(성공) / PaymentFailedEvent(실패) 발행
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentCaptureRequestedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 주문 ID
+     */
+    private Long orderId;
+
+    /**
+     * 선승인된 결제 ID
+     */
+    private String paymentId;
+
+    /**
+     * 상품 ID (매입 실패 시 재고 복구용)
+     */
+    private Long productId;
+
+    /**
+     * 수량 (매입 실패 시 재고 복구용)
+     */
+    private Integer quantity;
+
+    /**
+     * 매입 금액
+     */
+    private BigDecimal amount;
+
+    /**
+     * 이벤트 발생 시각
+     */
+    private LocalDateTime requestedAt;
+}
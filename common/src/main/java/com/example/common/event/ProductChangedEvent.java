@@ -0,0 +1,54 @@
+package com.example.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 변경 이벤트 (변경 후 주문에 필요한 상품 정보 전체)
+ * - Product Service가 상품 생성/가격 변경/비활성화 시 발행
+ * - Order Service가 구독하여 상품 로컬 캐시 갱신 (조회 없이 이벤트 값으로 교체)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductChangedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 상품 ID
+     */
+    private Long productId;
+
+    /**
+     * 상품명
+     */
+    private String name;
+
+    /**
+     * 판매 가격
+     */
+    private BigDecimal price;
+
+    /**
+     * 판매 중 여부 (false면 주문 불가)
+     */
+    private Boolean active;
+
+    /**
+     * 변경 유형 (CREATED, PRICE_CHANGED, DEACTIVATED)
+     */
+    private String changeType;
+
+    /**
+     * 이벤트 발생 시각
+     */
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,38 @@
+package com.example.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 정보 변경 이벤트
+ * - User Service가 사용자 수정/삭제 시 발행
+ * - Order Service가 구독하여 사용자 로컬 캐시 무효화
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 사용자 ID
+     */
+    private Long userId;
+
+    /**
+     * 변경 유형 (UPDATED, DELETED)
+     */
+    private String changeType;
+
+    /**
+     * 이벤트 발생 시각
+     */
+    private LocalDateTime changedAt;
+}
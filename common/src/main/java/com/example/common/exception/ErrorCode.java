@@ -19,6 +19,9 @@ public enum ErrorCode {
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C004", "잘못된 타입입니다."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "C005", "접근 권한이 없습니다."),
 
+    // ===== User (1500번대) =====
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "사용자를 찾을 수 없습니다."),
+
     // ===== Product (2000번대) =====
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "상품을 찾을 수 없습니다."),
     PRODUCT_ALREADY_DEACTIVATED(HttpStatus.BAD_REQUEST, "P002", "이미 비활성화된 상품입니다."),
@@ -30,6 +33,7 @@ public enum ErrorCode {
     ORDER_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "O002", "이미 취소된 주문입니다."),
     ORDER_CANNOT_CANCEL(HttpStatus.BAD_REQUEST, "O003", "취소할 수 없는 주문 상태입니다."),
     ORDER_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "O004", "주문 항목을 찾을 수 없습니다."),
+    ORDER_INTAKE_NOT_FOUND(HttpStatus.NOT_FOUND, "O005", "접수된 주문을 찾을 수 없습니다."),
 
     // ===== Payment (4000번대) =====
     PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "PAY001", "결제 정보를 찾을 수 없습니다."),
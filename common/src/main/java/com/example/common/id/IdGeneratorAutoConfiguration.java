@@ -0,0 +1,34 @@
+package com.example.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Snowflake ID 생성기 자동 설정
+ * - 설정된 workerId로 생성기를 만들어 @SnowflakeId 엔티티가 사용하도록 등록
+ */
+@Slf4j
+@AutoConfiguration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorAutoConfiguration {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(IdGeneratorProperties properties, Environment environment) {
+        int workerId = properties.getWorkerId();
+        if (workerId < 0) {
+            String instanceId = environment.getProperty("eureka.instance.instance-id",
+                    SnowflakeIdGenerator.defaultInstanceId());
+            workerId = SnowflakeIdGenerator.workerIdOf(instanceId);
+            log.warn("⚠️ [ID Generator] workerId 미설정 - 인스턴스 ID 해시 사용 (instanceId: {}, workerId: {}) - " +
+                    "인스턴스 간 충돌 방지를 위해 id.generator.worker-id 지정 권장", instanceId, workerId);
+        }
+
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(workerId);
+        SnowflakeIdGenerator.install(generator);
+        log.info("✅ [ID Generator] Snowflake ID 생성기 등록 - workerId: {}", workerId);
+        return generator;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.common.id;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * ID 생성기 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "id.generator")
+public class IdGeneratorProperties {
+
+    /**
+     * 워커 ID (0~1023, 인스턴스마다 달라야 함)
+     * - 음수면 Eureka 인스턴스 ID(없으면 호스트명 + PID)를 해시해서 사용
+     */
+    private int workerId = -1;
+}
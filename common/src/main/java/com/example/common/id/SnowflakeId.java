@@ -0,0 +1,18 @@
+package com.example.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Snowflake ID 자동 발급 (@GeneratedValue 대신 @Id 필드에 사용)
+ * - persist 시점에 DB 왕복 없이 id가 정해지므로 Hibernate JDBC 배치 INSERT 가능
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,115 @@
+package com.example.common.id;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서 64bit ID 생성기 (Snowflake 방식)
+ * - [1bit 0][41bit EPOCH 이후 ms][10bit workerId][12bit 순번] → 약 69년, 워커 1024개, ms당 4096개
+ * - 락 없음: (ms, 순번)을 long 하나에 담아 CAS로 증가
+ * - 인스턴스 내 단조 증가: 같은 ms거나 시계가 뒤로 가면 직전 값 + 1
+ *   (ms당 4096개를 넘기면 다음 ms를 미리 사용하고, 실제 시계가 따라오면 다시 맞춰짐)
+ * - 인스턴스 간에는 ms 단위로 시간 순서 (workerId가 겹치지 않아야 중복 없음)
+ */
+public final class SnowflakeIdGenerator {
+
+    /**
+     * 2024-01-01T00:00:00Z
+     */
+    public static final long EPOCH_MILLIS = 1704067200000L;
+
+    public static final int MAX_WORKER_ID = (1 << 10) - 1;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int WORKER_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = 10 + SEQUENCE_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile SnowflakeIdGenerator shared;
+
+    private final int workerId;
+    private final long workerBits;
+    private final LongSupplier clock;
+
+    /**
+     * 마지막으로 발급한 (EPOCH 이후 ms << 12 | 순번)
+     */
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeIdGenerator(int workerId) {
+        this(workerId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int workerId, LongSupplier clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("workerId는 0~" + MAX_WORKER_ID + " 범위여야 합니다: " + workerId);
+        }
+        this.workerId = workerId;
+        this.workerBits = (long) workerId << WORKER_SHIFT;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long prev = last.get();
+            long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            long next = now > prev ? now : prev + 1;
+            if (last.compareAndSet(prev, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return (millis << TIMESTAMP_SHIFT) | workerBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public int getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * ID에 담긴 발급 시각 (epoch ms)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+
+    /**
+     * Hibernate 식별자 생성기가 사용하는 인스턴스
+     * - IdGeneratorAutoConfiguration이 설정된 workerId로 등록
+     * - 등록 전(스프링 밖 사용 등)에는 호스트명 + PID로 workerId를 정함
+     */
+    public static SnowflakeIdGenerator shared() {
+        SnowflakeIdGenerator generator = shared;
+        if (generator == null) {
+            synchronized (SnowflakeIdGenerator.class) {
+                if (shared == null) {
+                    shared = new SnowflakeIdGenerator(workerIdOf(defaultInstanceId()));
+                }
+                generator = shared;
+            }
+        }
+        return generator;
+    }
+
+    static synchronized void install(SnowflakeIdGenerator generator) {
+        shared = generator;
+    }
+
+    /**
+     * 인스턴스 식별 문자열 → workerId (해시 충돌 가능성이 있으므로 운영에서는 id.generator.worker-id 지정 권장)
+     */
+    static int workerIdOf(String instanceId) {
+        return Math.floorMod(instanceId.hashCode(), MAX_WORKER_ID + 1);
+    }
+
+    static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + ManagementFactory.getRuntimeMXBean().getName();
+    }
+}
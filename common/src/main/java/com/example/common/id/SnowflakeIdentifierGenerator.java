@@ -0,0 +1,15 @@
+package com.example.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Hibernate 식별자 생성기 - SnowflakeIdGenerator.shared()에 위임
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return SnowflakeIdGenerator.shared().nextId();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.common.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 멱등 Consumer 자동 설정 (idempotency.enabled=true 일 때만)
+ */
+@AutoConfiguration(after = JdbcTemplateAutoConfiguration.class)
+@AutoConfigurationPackage(basePackageClasses = ProcessedEvent.class)
+@ConditionalOnProperty(prefix = "idempotency", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyAutoConfiguration {
+
+    @Bean
+    public IdempotentConsumerStore idempotentConsumerStore(JdbcTemplate jdbcTemplate,
+                                                           IdempotencyProperties properties,
+                                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        return new IdempotentConsumerStore(jdbcTemplate, properties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    public ProcessedEventSweeper processedEventSweeper(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        return new ProcessedEventSweeper(jdbcTemplate, properties);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.common.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 멱등 Consumer 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * 멱등 Consumer 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 최근 처리 이벤트 메모리 캐시 크기 (LRU)
+     */
+    private int cacheSize = 100_000;
+
+    /**
+     * 처리 기록 보관 시간 (시간) - 토픽 보관 기간보다 길어야 함
+     */
+    private long retentionHours = 168;
+
+    /**
+     * 만료 기록 정리 주기 (분)
+     */
+    private long sweepIntervalMinutes = 10;
+}
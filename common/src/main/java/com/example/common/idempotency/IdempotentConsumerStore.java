@@ -0,0 +1,98 @@
+package com.example.common.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 Consumer 저장소 (consumer group, event id)
+ *
+ * 동작:
+ * 1. LRU 캐시에 있으면 중복 → DB 접근 없이 즉시 false
+ * 2. processed_event에 INSERT (핸들러 트랜잭션에 참여)
+ *    - PK 충돌이면 이미 처리된 이벤트 → false
+ *    - 같은 이벤트를 다른 스레드가 처리 중이면 그 트랜잭션이 끝날 때까지 대기 후 판정
+ * 3. 커밋 후 LRU 캐시에 등록
+ *
+ * 핸들러가 실패해 롤백되면 INSERT도 함께 롤백되므로 재전달 시 다시 처리됨
+ */
+@Slf4j
+public class IdempotentConsumerStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO processed_event (consumer_group, event_id, processed_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecentEventCache recentEvents;
+    private final Counter cacheHitCounter;
+    private final Counter duplicateCounter;
+
+    public IdempotentConsumerStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recentEvents = new RecentEventCache(properties.getCacheSize());
+        this.cacheHitCounter = Counter.builder("idempotency.duplicates")
+                .tag("source", "cache")
+                .description("중복 수신으로 건너뛴 이벤트 수")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("idempotency.duplicates")
+                .tag("source", "db")
+                .description("중복 수신으로 건너뛴 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 처리 권한 획득 (Kafka 헤더 원본 바이트)
+     * @return 처음 처리하는 이벤트면 true, 이미 처리된 이벤트면 false
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryAcquire(String consumerGroup, byte[] eventIdHeader) {
+        if (eventIdHeader == null) {
+            log.debug("[Idempotency] eventId 헤더 없음 - 중복 검사 생략 (group: {})", consumerGroup);
+            return true;
+        }
+        return tryAcquire(consumerGroup, new String(eventIdHeader, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 이벤트 처리 권한 획득
+     * - 반드시 핸들러의 DB 트랜잭션 안에서 호출해야 함
+     * @return 처음 처리하는 이벤트면 true, 이미 처리된 이벤트면 false
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryAcquire(String consumerGroup, String eventId) {
+        String cacheKey = consumerGroup + ':' + eventId;
+        if (recentEvents.contains(cacheKey)) {
+            cacheHitCounter.increment();
+            log.info("⏭️ [Idempotency] 중복 이벤트 건너뜀 (캐시) - group: {}, eventId: {}", consumerGroup, eventId);
+            return false;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_SQL, consumerGroup, eventId, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            recentEvents.add(cacheKey);
+            duplicateCounter.increment();
+            log.info("⏭️ [Idempotency] 중복 이벤트 건너뜀 - group: {}, eventId: {}", consumerGroup, eventId);
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentEvents.add(cacheKey);
+            }
+        });
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.common.idempotency;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료 이벤트 (멱등 Consumer 중복 제거 테이블)
+ * - 핸들러의 DB 변경과 같은 트랜잭션에서 저장됨
+ * - 저장은 IdempotentConsumerStore가 JDBC로 직접 수행 (엔티티는 스키마 정의용)
+ */
+@Entity
+@Table(name = "processed_event",
+        indexes = @Index(name = "idx_processed_event_at", columnList = "processedAt"))
+@IdClass(ProcessedEventId.class)
+@Getter
+@NoArgsConstructor
+public class ProcessedEvent {
+
+    @Id
+    @Column(length = 100)
+    private String consumerGroup;
+
+    @Id
+    @Column(length = 64)
+    private String eventId;
+
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+}
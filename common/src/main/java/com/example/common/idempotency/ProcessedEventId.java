@@ -0,0 +1,21 @@
+package com.example.common.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 처리 완료 이벤트 복합 키 (consumer group, event id)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ProcessedEventId implements Serializable {
+
+    private String consumerGroup;
+    private String eventId;
+}
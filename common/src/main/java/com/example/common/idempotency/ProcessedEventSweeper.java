@@ -0,0 +1,63 @@
+package com.example.common.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료된 처리 기록 정리
+ * - retention-hours가 지난 기록을 processed_at 인덱스로 삭제
+ */
+@Slf4j
+public class ProcessedEventSweeper implements SmartLifecycle {
+
+    private static final String DELETE_SQL = "DELETE FROM processed_event WHERE processed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public ProcessedEventSweeper(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "idempotency-sweeper"));
+        scheduler.scheduleWithFixedDelay(this::sweep, properties.getSweepIntervalMinutes(),
+                properties.getSweepIntervalMinutes(), TimeUnit.MINUTES);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void sweep() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minusHours(properties.getRetentionHours());
+            int deleted = jdbcTemplate.update(DELETE_SQL, Timestamp.valueOf(before));
+            if (deleted > 0) {
+                log.info("🧹 [Idempotency] 만료된 처리 기록 정리 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("❌ [Idempotency] 처리 기록 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.common.idempotency;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 처리 이벤트 LRU 캐시
+ * - 중복 수신(재전달)은 대부분 직후에 발생하므로, 최근 키만 메모리에 두고 DB 조회 없이 걸러냄
+ * - 임계 구역이 HashMap 연산 1회라 락 경합 비용은 마이크로초 미만
+ */
+class RecentEventCache {
+
+    private final Map<String, Boolean> entries;
+
+    RecentEventCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 1 << 16), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    synchronized boolean contains(String key) {
+        return entries.get(key) != null;
+    }
+
+    synchronized void add(String key) {
+        entries.put(key, Boolean.TRUE);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.common.kafka;
+
+import com.example.common.event.EventHeaders;
+import com.example.common.serde.BinaryEventDeserializer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 헤더 기반 이벤트 타입 라우터
+ * - 여러 이벤트 타입이 섞인 토픽을 byte[] 그대로 받아, eventType 헤더만 보고 구독 여부 판단
+ * - 구독하지 않는 타입은 역직렬화 없이 건너뜀 (CPU 절약, 타입 불일치로 인한 ErrorHandler 재시도 없음)
+ * - 구독하는 타입만 역직렬화 후 타입별 핸들러 호출
+ *
+ * 사용 예:
+ * <pre>
+ * private final EventTypeRouter router = EventTypeRouter.builder()
+ *         .on(PaymentFailedEvent.class, this::handlePaymentFailed)
+ *         .build();
+ *
+ * &#64;KafkaListener(topics = "payment-events", properties = EventTypeRouter.RAW_VALUE_DESERIALIZER)
+ * public void onPaymentEvent(ConsumerRecord&lt;String, byte[]&gt; record) {
+ *     router.route(record);
+ * }
+ * </pre>
+ */
+@Slf4j
+public class EventTypeRouter {
+
+    /**
+     * &#64;KafkaListener(properties = ...)에 지정하여 값 역직렬화를 라우터로 미룸
+     */
+    public static final String RAW_VALUE_DESERIALIZER =
+            "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer";
+
+    private static final String JSON_TYPE_ID_HEADER = "__TypeId__";
+
+    private final Map<String, Route<?>> routes;
+    private final BinaryEventDeserializer deserializer = new BinaryEventDeserializer();
+
+    private EventTypeRouter(Map<String, Route<?>> routes) {
+        this.routes = routes;
+        this.deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.example.common.event"), false);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 구독 중인 이벤트 타입인지 판단 (역직렬화 없음)
+     * - 타입 헤더가 없는 레코드는 판단 불가 → true (route 시 역직렬화 후 판단)
+     */
+    public boolean isSubscribed(ConsumerRecord<String, ?> record) {
+        String typeName = typeName(record);
+        return typeName == null || routes.containsKey(typeName);
+    }
+
+    /**
+     * 타입별 핸들러로 전달
+     * @return 핸들러가 호출되었으면 true, 구독하지 않는 타입이라 건너뛰었으면 false
+     */
+    public boolean route(ConsumerRecord<String, ?> record) {
+        String typeName = typeName(record);
+        if (typeName != null && !routes.containsKey(typeName)) {
+            log.trace("[Event Router] 구독하지 않는 이벤트 건너뜀 - topic: {}, type: {}", record.topic(), typeName);
+            return false;
+        }
+
+        Object event = decode(record);
+        if (event == null) {
+            return false;
+        }
+
+        Route<?> route = routes.get(event.getClass().getSimpleName());
+        if (route == null) {
+            return false;
+        }
+        route.dispatch(event);
+        return true;
+    }
+
+    /**
+     * 레코드 값을 이벤트 객체로 변환 (이미 역직렬화된 값이면 그대로 반환)
+     */
+    public Object decode(ConsumerRecord<String, ?> record) {
+        Object value = record.value();
+        if (value instanceof byte[] bytes) {
+            return deserializer.deserialize(record.topic(), record.headers(), bytes);
+        }
+        return value;
+    }
+
+    /**
+     * 헤더 값 조회 (없으면 null)
+     */
+    public static byte[] headerValue(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header == null ? null : header.value();
+    }
+
+    private String typeName(ConsumerRecord<String, ?> record) {
+        byte[] eventType = headerValue(record, EventHeaders.EVENT_TYPE);
+        if (eventType != null) {
+            return new String(eventType, StandardCharsets.UTF_8);
+        }
+
+        // JSON으로 발행된 이전 이벤트: Spring JSON 타입 헤더(FQCN)로 판단
+        byte[] jsonTypeId = headerValue(record, JSON_TYPE_ID_HEADER);
+        if (jsonTypeId != null) {
+            String className = new String(jsonTypeId, StandardCharsets.UTF_8);
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+        return null;
+    }
+
+    private record Route<T>(Class<T> type, Consumer<T> handler) {
+
+        void dispatch(Object event) {
+            handler.accept(type.cast(event));
+        }
+    }
+
+    public static class Builder {
+
+        private final Map<String, Route<?>> routes = new HashMap<>();
+
+        public <T> Builder on(Class<T> type, Consumer<T> handler) {
+            routes.put(type.getSimpleName(), new Route<>(type, handler));
+            return this;
+        }
+
+        public EventTypeRouter build() {
+            return new EventTypeRouter(Map.copyOf(routes));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.common.kafka;
+
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 수동 ACK 유틸
+ */
+public final class KafkaAcks {
+
+    private KafkaAcks() {
+    }
+
+    /**
+     * DB 트랜잭션 커밋 후 ACK (롤백되면 ACK하지 않아 재전달됨)
+     * - 트랜잭션 밖에서 호출하면 즉시 ACK
+     */
+    public static void acknowledgeAfterCommit(Acknowledgment ack) {
+        if (ack == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ack.acknowledge();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ack.acknowledge();
+            }
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.common.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 순서 보장 병렬 처리기 (Confluent parallel-consumer 방식)
+ * - 같은 키(orderId)의 레코드는 도착 순서대로 순차 처리, 다른 키는 Virtual Thread에서 동시 처리
+ *   → 처리 병렬도가 파티션 수에 묶이지 않음
+ * - 파티션별로 가장 낮은 미완료 오프셋 직전까지만 ACK (그보다 뒤의 완료분은 커밋 보류)
+ *   → 재시작/리밸런스 시 미완료 레코드부터 재전달 (이미 처리된 뒤쪽 레코드는 멱등 Consumer가 건너뜀)
+ * - 처리 대기 레코드가 maxInFlight에 도달하면 Consumer 스레드를 멈춰 poll 속도 조절 (backpressure)
+ *
+ * KafkaConsumerConfig.KEY_ORDERED_FACTORY (AckMode.MANUAL)와 함께 사용:
+ * 다른 스레드의 ACK는 컨테이너가 Consumer 스레드에서 모아서 커밋
+ */
+@Slf4j
+public class KeyOrderedParallelProcessor implements ConsumerAwareRebalanceListener, DisposableBean {
+
+    private final int maxInFlight;
+    private final int retries;
+    private final long retryBackoffMs;
+    private final long drainTimeoutMs;
+
+    private final Semaphore inFlightPermits;   // 제출 후 완료 전 레코드 수 제한
+    private final Semaphore runningPermits;    // 동시에 실행 중인 핸들러 수 제한 (DB 커넥션 풀 보호)
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("key-ordered-", 0).factory());
+
+    private final Map<Object, CompletableFuture<Void>> lanes = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, PartitionOffsetTracker> trackers = new ConcurrentHashMap<>();
+
+    public KeyOrderedParallelProcessor(int maxInFlight, int maxConcurrency, int retries,
+                                       long retryBackoffMs, long drainTimeoutMs) {
+        this.maxInFlight = maxInFlight;
+        this.retries = retries;
+        this.retryBackoffMs = retryBackoffMs;
+        this.drainTimeoutMs = drainTimeoutMs;
+        this.inFlightPermits = new Semaphore(maxInFlight);
+        this.runningPermits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * 레코드를 키 레인에 넣고 즉시 반환 (Consumer 스레드에서 호출)
+     * - 키가 없으면 파티션 단위로 순차 처리
+     * - 처리 완료 후 연속 완료 구간이 늘어나면 ack.acknowledge()
+     */
+    public <K, V> void submit(ConsumerRecord<K, V> record, Acknowledgment ack,
+                              java.util.function.Consumer<ConsumerRecord<K, V>> handler) {
+        acquireInFlightPermit();
+
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        PartitionOffsetTracker tracker = trackers.computeIfAbsent(partition, tp -> new PartitionOffsetTracker());
+        tracker.started(record.offset(), ack);
+
+        Object laneKey = record.key() != null ? record.key() : partition;
+        CompletableFuture<Void> tail = lanes.compute(laneKey, (key, previous) ->
+                (previous != null ? previous : CompletableFuture.<Void>completedFuture(null))
+                        .thenRunAsync(() -> process(record, handler, tracker), executor));
+
+        // 레인이 비면 정리 (그 사이 새 레코드가 이어졌으면 tail이 바뀌어 제거되지 않음)
+        tail.whenComplete((result, error) -> lanes.remove(laneKey, tail));
+    }
+
+    public int inFlightCount() {
+        return maxInFlight - inFlightPermits.availablePermits();
+    }
+
+    public int activeLaneCount() {
+        return lanes.size();
+    }
+
+    /**
+     * 파티션 회수 전: 해당 파티션의 처리 중 레코드를 기다린 뒤 완료 구간까지 동기 커밋
+     * - drainTimeoutMs 안에 끝나지 않은 레코드는 새 소유자가 다시 처리
+     */
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        long deadline = System.currentTimeMillis() + drainTimeoutMs;
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+
+        for (TopicPartition partition : partitions) {
+            PartitionOffsetTracker tracker = trackers.get(partition);
+            if (tracker == null) {
+                continue;
+            }
+            while (!tracker.isDrained() && System.currentTimeMillis() < deadline) {
+                sleepQuietly(10);
+            }
+            if (!tracker.isDrained()) {
+                log.warn("⚠️ [Key-Ordered Consumer] 파티션 회수 전 처리 미완료 - partition: {}, 미완료: {}건 (재전달 예정)",
+                        partition, tracker.size());
+            }
+            long committable = tracker.revoke();  // 이후 완료분은 ACK하지 않음 (새 소유자가 재처리)
+            if (committable >= 0) {
+                offsets.put(partition, new OffsetAndMetadata(committable));
+            }
+        }
+
+        if (!offsets.isEmpty()) {
+            consumer.commitSync(offsets);
+        }
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        partitions.forEach(trackers::remove);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            PartitionOffsetTracker tracker = trackers.remove(partition);
+            if (tracker != null) {
+                tracker.revoke();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <K, V> void process(ConsumerRecord<K, V> record,
+                                java.util.function.Consumer<ConsumerRecord<K, V>> handler,
+                                PartitionOffsetTracker tracker) {
+        boolean processed = false;
+        runningPermits.acquireUninterruptibly();
+        try {
+            processed = handleWithRetry(record, handler);
+        } finally {
+            runningPermits.release();
+            inFlightPermits.release();
+        }
+
+        // 종료 중 인터럽트로 처리하지 못한 레코드는 ACK하지 않음 (재전달)
+        if (!processed) {
+            return;
+        }
+        tracker.completed(record.offset());
+    }
+
+    /**
+     * 핸들러 실행 + 재시도 (컨테이너 DefaultErrorHandler와 같은 정책: 간격 retryBackoffMs, retries회)
+     * - 재시도 소진 시 로그 후 건너뜀 (뒤 레코드의 커밋을 막지 않음)
+     * @return 처리(또는 건너뜀) 완료 여부 - 인터럽트로 중단되면 false
+     */
+    private <K, V> boolean handleWithRetry(ConsumerRecord<K, V> record,
+                                           java.util.function.Consumer<ConsumerRecord<K, V>> handler) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                handler.accept(record);
+                return true;
+            } catch (Exception e) {
+                if (attempt >= retries) {
+                    log.error("❌ [Key-Ordered Consumer] 재시도 소진, 레코드 건너뜀 - topic: {}, partition: {}, offset: {}, key: {}",
+                            record.topic(), record.partition(), record.offset(), record.key(), e);
+                    return true;
+                }
+                log.warn("⚠️ [Key-Ordered Consumer] 처리 실패, 재시도 {}/{} - topic: {}, offset: {}, error: {}",
+                        attempt + 1, retries, record.topic(), record.offset(), e.getMessage());
+                if (!sleepQuietly(retryBackoffMs)) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void acquireInFlightPermit() {
+        try {
+            while (!inFlightPermits.tryAcquire(1, TimeUnit.SECONDS)) {
+                log.debug("[Key-Ordered Consumer] 처리 대기 레코드 한도 도달 ({}건) - poll 지연", maxInFlight);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Key-Ordered Consumer 중단", e);
+        }
+    }
+
+    private static boolean sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
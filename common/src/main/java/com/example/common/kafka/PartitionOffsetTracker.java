@@ -0,0 +1,68 @@
+package com.example.common.kafka;
+
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 파티션별 오프셋 완료 추적
+ * - 레코드는 키별로 병렬 완료되므로 오프셋 순서와 완료 순서가 다름
+ * - 가장 낮은 미완료 오프셋 직전까지만 ACK (그 뒤의 완료분은 앞쪽이 끝날 때까지 보류)
+ * - ACK는 락 안에서 호출 → 여러 처리 스레드가 동시에 완료해도 커밋 오프셋이 뒤로 가지 않음
+ * - 회수(revoke) 후에는 ACK하지 않음 (새 소유자가 처리 중인 파티션의 오프셋을 덮어쓰지 않도록)
+ */
+final class PartitionOffsetTracker {
+
+    private final TreeMap<Long, Acknowledgment> pending = new TreeMap<>();  // 아직 ACK하지 않은 오프셋
+    private final Set<Long> completed = new HashSet<>();                    // pending 중 처리 완료된 오프셋
+    private long committableOffset = -1;                                    // 다음 커밋 오프셋 (마지막 연속 완료 + 1)
+    private boolean revoked;
+
+    synchronized void started(long offset, Acknowledgment ack) {
+        pending.put(offset, ack);
+    }
+
+    /**
+     * 처리 완료 표시 - 연속 완료 구간이 늘어났으면 그 마지막 레코드를 ACK
+     * @return ACK했으면 true
+     */
+    synchronized boolean completed(long offset) {
+        completed.add(offset);
+
+        Acknowledgment commitUpTo = null;
+        while (!pending.isEmpty() && completed.remove(pending.firstKey())) {
+            Map.Entry<Long, Acknowledgment> lowest = pending.pollFirstEntry();
+            commitUpTo = lowest.getValue();
+            committableOffset = lowest.getKey() + 1;
+        }
+        if (commitUpTo == null || revoked) {
+            return false;
+        }
+        commitUpTo.acknowledge();
+        return true;
+    }
+
+    /**
+     * 파티션 회수 - 이후 완료분은 ACK하지 않음
+     * @return 회수 시점의 다음 커밋 오프셋 (완료 구간이 없으면 -1)
+     */
+    synchronized long revoke() {
+        revoked = true;
+        return committableOffset;
+    }
+
+    synchronized long committableOffset() {
+        return committableOffset;
+    }
+
+    synchronized boolean isDrained() {
+        return pending.isEmpty();
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+}
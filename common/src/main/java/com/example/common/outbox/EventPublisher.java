@@ -0,0 +1,23 @@
+package com.example.common.outbox;
+
+/**
+ * 도메인 이벤트 발행 API
+ * - outbox.enabled=true: OutboxEventPublisher (호출자 트랜잭션에 참여, 커밋 후 Dispatcher가 발행)
+ * - outbox.enabled=false: KafkaEventPublisher (즉시 비동기 전송)
+ */
+public interface EventPublisher {
+
+    /**
+     * 이벤트 발행
+     * @param topic Kafka 토픽
+     * @param key 파티션 키 (같은 키의 이벤트는 순서 보장)
+     * @param event 이벤트 객체
+     */
+    void publish(String topic, String key, Object event);
+
+    /**
+     * 버퍼에 쌓인 이벤트 즉시 전송 (Outbox 방식에서는 의미 없음)
+     */
+    default void flush() {
+    }
+}
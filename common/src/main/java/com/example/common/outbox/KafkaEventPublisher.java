@@ -0,0 +1,41 @@
+package com.example.common.outbox;
+
+import com.example.common.event.EventHeaders;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Kafka 직접 발행 (fire-and-forget)
+ * - 전송 실패 시 로그만 남기므로 유실 가능 → 유실이 허용되지 않으면 Outbox 사용
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class KafkaEventPublisher implements EventPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Override
+    public void publish(String topic, String key, Object event) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(topic, key, event);
+        record.headers().add(EventHeaders.EVENT_ID, UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+
+        kafkaTemplate.send(record).whenComplete((result, ex) -> {
+            if (ex == null) {
+                log.debug("✅ [Kafka Producer] 이벤트 발행 성공 - topic: {}, key: {}, partition: {}, offset: {}",
+                        topic, key, result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
+            } else {
+                log.error("❌ [Kafka Producer] 이벤트 발행 실패 - topic: {}, key: {}", topic, key, ex);
+            }
+        });
+    }
+
+    @Override
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Outbox 자동 설정
+ * - 서비스는 EventPublisher만 주입받고, outbox.enabled 값으로 구현체가 바뀜
+ * - OutboxEvent 엔티티/Repository는 AutoConfigurationPackage로 각 서비스의 JPA 스캔에 포함
+ */
+@AutoConfiguration(after = KafkaAutoConfiguration.class)
+@ConditionalOnClass(KafkaTemplate.class)
+@AutoConfigurationPackage(basePackageClasses = OutboxEvent.class)
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(EventPublisher.class)
+    @ConditionalOnProperty(prefix = "outbox", name = "enabled", havingValue = "true")
+    public EventPublisher outboxEventPublisher(OutboxEventRepository outboxEventRepository,
+                                               ObjectProvider<ObjectMapper> objectMapper) {
+        return new OutboxEventPublisher(outboxEventRepository, objectMapper.getIfAvailable(this::defaultObjectMapper));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(EventPublisher.class)
+    @ConditionalOnProperty(prefix = "outbox", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public EventPublisher kafkaEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
+        return new KafkaEventPublisher(kafkaTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "outbox", name = "enabled", havingValue = "true")
+    public OutboxDispatcher outboxDispatcher(OutboxEventRepository outboxEventRepository,
+                                             KafkaTemplate<String, Object> kafkaTemplate,
+                                             ObjectProvider<ObjectMapper> objectMapper,
+                                             OutboxProperties properties,
+                                             PlatformTransactionManager transactionManager,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OutboxDispatcher(outboxEventRepository, kafkaTemplate,
+                objectMapper.getIfAvailable(this::defaultObjectMapper), properties, transactionManager,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    private ObjectMapper defaultObjectMapper() {
+        return new ObjectMapper().findAndRegisterModules();
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.common.outbox;
+
+import com.example.common.event.EventHeaders;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox Dispatcher
+ * - PENDING 이벤트를 id 순서로 배치 조회 (FOR UPDATE SKIP LOCKED → 인스턴스 간 중복 발행 없음)
+ * - Kafka 기본 파티셔너와 같은 방식(murmur2)으로 파티션을 계산해 파티션별로 묶고,
+ *   파티션 묶음을 전송 스레드에 나눠 병렬 전송 (같은 파티션은 한 스레드가 순서대로 전송)
+ * - 전부 send → flush 1회 → 성공한 행을 일괄 SENT 처리
+ * - 배치가 가득 차 있으면 대기 없이 다음 배치를 이어서 처리
+ * - 전송 실패 행은 PENDING으로 남아 다음 주기에 재발행 (at-least-once)
+ * - 같은 키의 행이 실패하면 배치 안의 그 키 뒤쪽 행은 보내지 않거나 SENT 처리하지 않음
+ *   → 다음 주기에 실패한 행부터 순서대로 다시 발행 (키별 순서 유지)
+ *
+ * 메트릭:
+ * - outbox.relay.lag: 가장 오래된 미발행 이벤트의 대기 시간 (ms)
+ * - outbox.relay.batch.size: 배치당 발행 건수
+ * - outbox.relay.failures: 발행 실패 건수
+ */
+@Slf4j
+public class OutboxDispatcher implements SmartLifecycle {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Integer> partitionCounts = new ConcurrentHashMap<>();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final DistributionSummary batchSizeSummary;
+    private final Counter failureCounter;
+
+    private ScheduledExecutorService poller;
+    private ExecutorService senders;
+    private volatile boolean running;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            KafkaTemplate<String, Object> kafkaTemplate,
+                            ObjectMapper objectMapper,
+                            OutboxProperties properties,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("outbox.relay.lag", lagMillis, AtomicLong::get)
+                .description("가장 오래된 미발행 Outbox 이벤트의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("outbox.relay.batch.size")
+                .description("배치당 발행 건수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.relay.failures")
+                .description("Outbox 이벤트 발행 실패 건수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        poller = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "outbox-poller"));
+        senders = Executors.newFixedThreadPool(properties.getDispatcherThreads(), r -> new Thread(r, "outbox-sender"));
+        poller.scheduleWithFixedDelay(this::dispatch, properties.getPollIntervalMs(),
+                properties.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+        poller.scheduleWithFixedDelay(this::purgeSent, 1, 60, TimeUnit.MINUTES);
+        running = true;
+
+        log.info("📤 [Outbox] Dispatcher 시작 - batchSize: {}, threads: {}",
+                properties.getBatchSize(), properties.getDispatcherThreads());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        poller.shutdown();
+        try {
+            poller.awaitTermination(properties.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        senders.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void dispatch() {
+        try {
+            while (running && dispatchBatch()) {
+                // 배치가 가득 찼고 모두 성공 → 곧바로 다음 배치
+            }
+        } catch (Exception e) {
+            log.error("❌ [Outbox] 배치 발행 중 오류 - 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 배치 1회 발행
+     * @return 다음 배치를 바로 이어서 처리해야 하면 true
+     */
+    private boolean dispatchBatch() {
+        Boolean hasMore = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.findBatchForUpdate(
+                    OutboxStatus.PENDING, PageRequest.of(0, properties.getBatchSize()));
+            if (batch.isEmpty()) {
+                lagMillis.set(0);
+                return false;
+            }
+            lagMillis.set(Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+
+            // 전송 스레드별로 파티션 묶음 분배 (묶음 내부는 id 순서 유지)
+            int threads = properties.getDispatcherThreads();
+            Map<Integer, List<OutboxEvent>> lanes = new TreeMap<>();
+            for (OutboxEvent outboxEvent : batch) {
+                int lane = Math.floorMod(partitionOf(outboxEvent), threads);
+                lanes.computeIfAbsent(lane, k -> new ArrayList<>()).add(outboxEvent);
+            }
+
+            List<CompletableFuture<LaneResult>> laneFutures = lanes.values().stream()
+                    .map(lane -> CompletableFuture.supplyAsync(() -> sendLane(lane), senders))
+                    .toList();
+            List<LaneResult> laneResults = laneFutures.stream().map(CompletableFuture::join).toList();
+            kafkaTemplate.flush();
+
+            List<Long> sentIds = new ArrayList<>(batch.size());
+            List<Long> failedIds = new ArrayList<>();
+            int sending = 0;
+            for (LaneResult laneResult : laneResults) {
+                sentIds.addAll(awaitSent(laneResult.sending(), laneResult.futures(), laneResult.failedKeys()));
+                failedIds.addAll(laneResult.failedIds());
+                sending += laneResult.sending().size();
+            }
+
+            if (!sentIds.isEmpty()) {
+                outboxEventRepository.updateStatus(sentIds, OutboxStatus.SENT, LocalDateTime.now());
+            }
+            if (!failedIds.isEmpty()) {
+                outboxEventRepository.updateStatus(failedIds, OutboxStatus.FAILED, null);
+            }
+
+            batchSizeSummary.record(sentIds.size());
+            log.debug("📤 [Outbox] 배치 발행 - 조회: {}건, 성공: {}건, 파티션 묶음: {}, 지연: {}ms",
+                    batch.size(), sentIds.size(), lanes.size(), lagMillis.get());
+
+            return batch.size() == properties.getBatchSize() && sentIds.size() == sending;
+        });
+        return Boolean.TRUE.equals(hasMore);
+    }
+
+    private LaneResult sendLane(List<OutboxEvent> lane) {
+        List<OutboxEvent> sending = new ArrayList<>(lane.size());
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(lane.size());
+        List<Long> failedIds = new ArrayList<>();
+        Set<String> failedKeys = new HashSet<>();
+        Map<String, CompletableFuture<SendResult<String, Object>>> lastSendByKey = new HashMap<>();
+
+        for (OutboxEvent outboxEvent : lane) {
+            String key = keyOf(outboxEvent);
+            CompletableFuture<SendResult<String, Object>> lastSend = lastSendByKey.get(key);
+            if (lastSend != null && lastSend.isCompletedExceptionally()) {
+                failedKeys.add(key);  // 전송 중 이미 확인된 실패 (나머지는 awaitSent에서 확인)
+            }
+            if (failedKeys.contains(key)) {
+                continue;  // 앞선 같은 키 행이 실패 → 다음 주기에 순서대로 재발행
+            }
+            Object event = deserialize(outboxEvent);
+            if (event == null) {
+                failedIds.add(outboxEvent.getId());
+                continue;
+            }
+            sending.add(outboxEvent);
+            ProducerRecord<String, Object> record =
+                    new ProducerRecord<>(outboxEvent.getTopic(), outboxEvent.getEventKey(), event);
+            record.headers().add(EventHeaders.EVENT_ID, outboxEvent.getEventId().getBytes(StandardCharsets.UTF_8));
+            try {
+                CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(record);
+                futures.add(future);
+                lastSendByKey.put(key, future);
+            } catch (Exception e) {
+                sending.remove(sending.size() - 1);
+                failedKeys.add(key);
+                failureCounter.increment();
+                log.warn("⚠️ [Outbox] 이벤트 발행 실패, 다음 주기에 재시도 - outboxId: {}, topic: {}, key: {}",
+                        outboxEvent.getId(), outboxEvent.getTopic(), outboxEvent.getEventKey(), e);
+            }
+        }
+        return new LaneResult(sending, futures, failedIds, failedKeys);
+    }
+
+    /**
+     * 전송 결과 대기 → SENT 처리할 행 id
+     * - 같은 키의 앞선 행이 실패했으면 뒤쪽 행은 전송됐더라도 PENDING으로 남김 (다음 주기에 실패한 행 뒤로 재발행)
+     */
+    private List<Long> awaitSent(List<OutboxEvent> sending,
+                                 List<CompletableFuture<SendResult<String, Object>>> futures,
+                                 Set<String> failedKeys) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMs());
+        List<Long> sentIds = new ArrayList<>(sending.size());
+
+        for (int i = 0; i < futures.size(); i++) {
+            OutboxEvent outboxEvent = sending.get(i);
+            if (failedKeys.contains(keyOf(outboxEvent))) {
+                continue;
+            }
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                futures.get(i).get(remaining, TimeUnit.NANOSECONDS);
+                sentIds.add(outboxEvent.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failureCounter.increment();
+                break;
+            } catch (Exception e) {
+                failedKeys.add(keyOf(outboxEvent));
+                failureCounter.increment();
+                log.warn("⚠️ [Outbox] 이벤트 발행 실패, 다음 주기에 재시도 - outboxId: {}, topic: {}, key: {}",
+                        outboxEvent.getId(), outboxEvent.getTopic(), outboxEvent.getEventKey());
+            }
+        }
+        return sentIds;
+    }
+
+    private static String keyOf(OutboxEvent outboxEvent) {
+        return outboxEvent.getTopic() + '\u0000' + outboxEvent.getEventKey();
+    }
+
+    /**
+     * Kafka 기본 파티셔너와 같은 파티션 계산 (키가 같으면 항상 같은 파티션)
+     */
+    private int partitionOf(OutboxEvent outboxEvent) {
+        int partitions = partitionCounts.computeIfAbsent(outboxEvent.getTopic(),
+                topic -> Math.max(1, kafkaTemplate.partitionsFor(topic).size()));
+        byte[] keyBytes = outboxEvent.getEventKey().getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(keyBytes)) % partitions;
+    }
+
+    private Object deserialize(OutboxEvent outboxEvent) {
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), Class.forName(outboxEvent.getEventType()));
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("❌ [Outbox] 이벤트 역직렬화 실패 - outboxId: {}, type: {}",
+                    outboxEvent.getId(), outboxEvent.getEventType(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 정리
+     */
+    void purgeSent() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minusHours(properties.getRetentionHours());
+            Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteSentBefore(before));
+            if (deleted != null && deleted > 0) {
+                log.info("🧹 [Outbox] 발행 완료 이벤트 정리 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("❌ [Outbox] 발행 완료 이벤트 정리 실패", e);
+        }
+    }
+
+    private record LaneResult(List<OutboxEvent> sending,
+                              List<CompletableFuture<SendResult<String, Object>>> futures,
+                              List<Long> failedIds,
+                              Set<String> failedKeys) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.common.outbox;
+
+import com.example.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional Outbox
+ * - 도메인 변경과 같은 트랜잭션에서 저장되어, 커밋된 변경의 이벤트는 유실되지 않음
+ * - OutboxDispatcher가 PENDING 행을 id 순서로 읽어 Kafka로 발행
+ * - 생성/수정 시각은 저장 직전에 직접 채움 (JPA Auditing을 켜지 않은 서비스에서도 사용되므로)
+ */
+@Entity
+@Table(name = "outbox_event",
+        indexes = @Index(name = "idx_outbox_status_id", columnList = "status, id"))
+@Getter
+@NoArgsConstructor
+public class OutboxEvent extends BaseEntity {
+
+    /**
+     * 이벤트 고유 ID (Kafka eventId 헤더로 전송, Consumer 중복 제거 키)
+     */
+    @Column(nullable = false, length = 36)
+    private String eventId;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(nullable = false)
+    private String eventKey;
+
+    /**
+     * 이벤트 클래스 FQCN (발행 시 역직렬화 타입)
+     */
+    @Column(nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    private LocalDateTime sentAt;
+
+    public OutboxEvent(String eventId, String topic, String eventKey, String eventType, String payload) {
+        this.eventId = eventId;
+        this.topic = topic;
+        this.eventKey = eventKey;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    /**
+     * Auditing이 켜진 서비스에서는 AuditingEntityListener가 먼저 채우므로 비어 있을 때만 설정
+     */
+    @PrePersist
+    void fillTimestamps() {
+        LocalDateTime now = LocalDateTime.now();
+        if (getCreatedAt() == null) {
+            setCreatedAt(now);
+        }
+        if (getUpdatedAt() == null) {
+            setUpdatedAt(now);
+        }
+    }
+}
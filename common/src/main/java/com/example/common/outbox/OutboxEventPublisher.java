@@ -0,0 +1,34 @@
+package com.example.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Outbox 발행
+ * - 호출자 트랜잭션이 있으면 참여하여 도메인 변경과 원자적으로 저장
+ * - 트랜잭션 밖에서 호출되면 단독 트랜잭션으로 저장 (저장 이후의 유실은 없음)
+ */
+@RequiredArgsConstructor
+public class OutboxEventPublisher implements EventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional
+    public void publish(String topic, String key, Object event) {
+        outboxEventRepository.save(new OutboxEvent(UUID.randomUUID().toString(), topic, key, event.getClass().getName(), toJson(event)));
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.common.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 발행 대기 이벤트 배치 조회 (FOR UPDATE SKIP LOCKED)
+     * - 여러 인스턴스의 Relay가 같은 행을 중복 발행하지 않도록 잠긴 행은 건너뜀
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEvent o WHERE o.status = :status ORDER BY o.id")
+    List<OutboxEvent> findBatchForUpdate(@Param("status") OutboxStatus status, Pageable pageable);
+
+    /**
+     * 토픽별 발행 대기 이벤트 조회 (잠금 없음 - 기동 시 복구 등 읽기 전용)
+     */
+    @Query("SELECT o FROM OutboxEvent o WHERE o.status = com.example.common.outbox.OutboxStatus.PENDING " +
+            "AND o.topic IN :topics AND o.createdAt >= :since ORDER BY o.id")
+    List<OutboxEvent> findPendingByTopics(@Param("topics") Collection<String> topics,
+                                          @Param("since") LocalDateTime since);
+
+    /**
+     * 상태 일괄 변경
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent o SET o.status = :status, o.sentAt = :sentAt WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") OutboxStatus status,
+                     @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.status = com.example.common.outbox.OutboxStatus.SENT AND o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,44 @@
+package com.example.common.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Outbox 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    /**
+     * Outbox 사용 여부 (false면 Kafka 직접 발행)
+     */
+    private boolean enabled = false;
+
+    /**
+     * Outbox 폴링 주기 (ms) - 배치가 가득 차 있으면 대기 없이 연속 처리
+     */
+    private long pollIntervalMs = 100;
+
+    /**
+     * 한 번에 발행할 최대 이벤트 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 전송 스레드 수 - 같은 파티션의 이벤트는 항상 같은 스레드가 순서대로 전송
+     */
+    private int dispatcherThreads = 4;
+
+    /**
+     * 배치 전송 결과 대기 시간 (ms)
+     */
+    private long sendTimeoutMs = 10000;
+
+    /**
+     * 발행 완료 이벤트 보관 시간 (시간)
+     */
+    private long retentionHours = 24;
+}
@@ -0,0 +1,7 @@
+package com.example.common.outbox;
+
+public enum OutboxStatus {
+    PENDING,   // 발행 대기
+    SENT,      // 발행 완료
+    FAILED     // 발행 불가 (역직렬화 실패 등, 수동 확인 필요)
+}
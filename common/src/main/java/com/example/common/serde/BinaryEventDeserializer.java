@@ -0,0 +1,52 @@
+package com.example.common.serde;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * common 이벤트 바이너리 Deserializer
+ * - 첫 바이트가 MAGIC이면 바이너리 코덱으로 복원
+ * - 아니면 JsonDeserializer로 위임 (전환 기간 중 JSON으로 발행된 이벤트 호환)
+ */
+public class BinaryEventDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> jsonFallback = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonFallback.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length == 0 || (data[0] & 0xFF) != BinaryEventSerializer.MAGIC) {
+            return headers == null ? jsonFallback.deserialize(topic, data) : jsonFallback.deserialize(topic, headers, data);
+        }
+
+        EventDataInput in = new EventDataInput(data, 1);
+        int typeId = in.readVarInt();
+        int version = in.readVarInt();
+
+        EventCodec<?> codec = EventCodecs.forTypeId(typeId);
+        if (codec == null) {
+            throw new EventSerializationException("알 수 없는 이벤트 typeId: " + typeId + ", topic: " + topic);
+        }
+        return codec.read(in, version);
+    }
+
+    @Override
+    public void close() {
+        jsonFallback.close();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.common.serde;
+
+import com.example.common.event.EventHeaders;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * common 이벤트 바이너리 Serializer
+ * - 와이어 포맷: [MAGIC 1B][typeId varint][version varint][필드...]
+ * - 코덱이 없는 타입은 JsonSerializer로 위임 (기존 방식 그대로)
+ * - eventType 헤더에 클래스 단순 이름 기록 (EventTypeRouter가 역직렬화 없이 라우팅)
+ */
+public class BinaryEventSerializer implements Serializer<Object> {
+
+    static final int MAGIC = 0xEB;  // JSON('{' = 0x7B)과 구분되는 첫 바이트
+
+    private final JsonSerializer<Object> jsonFallback = new JsonSerializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonFallback.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+
+        if (headers != null) {
+            headers.remove(EventHeaders.EVENT_TYPE);
+            headers.add(EventHeaders.EVENT_TYPE, data.getClass().getSimpleName().getBytes(StandardCharsets.UTF_8));
+        }
+
+        EventCodec<?> codec = EventCodecs.forClass(data.getClass());
+        if (codec == null) {
+            return headers == null ? jsonFallback.serialize(topic, data) : jsonFallback.serialize(topic, headers, data);
+        }
+
+        EventDataOutput out = new EventDataOutput(64);
+        out.writeByte(MAGIC);
+        out.writeVarInt(codec.typeId());
+        out.writeVarInt(codec.version());
+        codec.write(data, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void close() {
+        jsonFallback.close();
+    }
+}
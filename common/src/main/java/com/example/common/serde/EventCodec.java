@@ -0,0 +1,30 @@
+package com.example.common.serde;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * 이벤트 타입별 바이너리 코덱
+ *
+ * 스키마 변경 규칙:
+ * - 필드는 뒤에만 추가하고 version을 올림 (기존 필드 순서/타입 변경 금지)
+ * - 읽는 쪽은 payload version을 보고, 구버전 이벤트에 없는 필드는 기본값으로 채움
+ * - 신버전 이벤트를 구버전 코덱이 읽으면 뒤쪽 필드는 무시됨
+ *
+ * @param typeId 와이어 상의 타입 식별자 (한번 정하면 변경 금지)
+ * @param version 현재 쓰기 스키마 버전
+ */
+public record EventCodec<T>(int typeId,
+                            int version,
+                            Class<T> type,
+                            BiConsumer<T, EventDataOutput> writer,
+                            BiFunction<EventDataInput, Integer, T> reader) {
+
+    void write(Object event, EventDataOutput out) {
+        writer.accept(type.cast(event), out);
+    }
+
+    T read(EventDataInput in, int payloadVersion) {
+        return reader.apply(in, payloadVersion);
+    }
+}
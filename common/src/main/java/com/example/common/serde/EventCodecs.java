@@ -0,0 +1,306 @@
+package com.example.common.serde;
+
+import com.example.common.event.DeliveryCompletedEvent;
+import com.example.common.event.DeliveryFailedEvent;
+import com.example.common.event.DeliveryStartedEvent;
+import com.example.common.event.InventoryReservationFailedEvent;
+import com.example.common.event.InventoryReservedEvent;
+import com.example.common.event.OrderCancelledEvent;
+import com.example.common.event.OrderCompletedEvent;
+import com.example.common.event.OrderCreatedEvent;
+import com.example.common.event.PaymentAuthorizationFailedEvent;
+import com.example.common.event.PaymentAuthorizedEvent;
+import com.example.common.event.PaymentCaptureRequestedEvent;
+import com.example.common.event.PaymentCompletedEvent;
+import com.example.common.event.PaymentFailedEvent;
+import com.example.common.event.ProductChangedEvent;
+import com.example.common.event.UserChangedEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * common 이벤트 바이너리 코덱 등록부
+ * - typeId 대역: 1~9 Order, 10~19 Inventory, 20~29 Payment, 30~39 Delivery, 40~49 User, 50~59 Product
+ * - 필드 순서는 이벤트 클래스 선언 순서와 동일
+ */
+public final class EventCodecs {
+
+    private static final Map<Integer, EventCodec<?>> BY_TYPE_ID = new HashMap<>();
+    private static final Map<Class<?>, EventCodec<?>> BY_CLASS = new HashMap<>();
+
+    static {
+        // v2: preAuthorize 추가
+        register(new EventCodec<>(1, 2, OrderCreatedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeLong(e.getUserId());
+                    out.writeLong(e.getProductId());
+                    out.writeString(e.getProductName());
+                    out.writeInt(e.getQuantity());
+                    out.writeDecimal(e.getPrice());
+                    out.writeDecimal(e.getTotalPrice());
+                    out.writeDateTime(e.getCreatedAt());
+                    out.writeBoolean(e.getPreAuthorize());
+                },
+                (in, version) -> OrderCreatedEvent.builder()
+                        .orderId(in.readLong())
+                        .userId(in.readLong())
+                        .productId(in.readLong())
+                        .productName(in.readString())
+                        .quantity(in.readInt())
+                        .price(in.readDecimal())
+                        .totalPrice(in.readDecimal())
+                        .createdAt(in.readDateTime())
+                        .preAuthorize(version >= 2 ? in.readBoolean() : null)
+                        .build()));
+
+        // v2: productId, releaseQuantity, refundPaymentId 추가 (v1 레코드는 null로 복원)
+        register(new EventCodec<>(2, 2, OrderCancelledEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeLong(e.getUserId());
+                    out.writeString(e.getReason());
+                    out.writeDateTime(e.getCancelledAt());
+                    out.writeLong(e.getProductId());
+                    out.writeInt(e.getReleaseQuantity());
+                    out.writeString(e.getRefundPaymentId());
+                },
+                (in, version) -> {
+                    OrderCancelledEvent.OrderCancelledEventBuilder builder = OrderCancelledEvent.builder()
+                            .orderId(in.readLong())
+                            .userId(in.readLong())
+                            .reason(in.readString())
+                            .cancelledAt(in.readDateTime());
+                    if (version >= 2) {
+                        builder.productId(in.readLong())
+                                .releaseQuantity(in.readInt())
+                                .refundPaymentId(in.readString());
+                    }
+                    return builder.build();
+                }));
+
+        register(new EventCodec<>(3, 1, OrderCompletedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeLong(e.getUserId());
+                    out.writeString(e.getProductName());
+                    out.writeInt(e.getQuantity());
+                    out.writeString(e.getPaymentId());
+                    out.writeDateTime(e.getCompletedAt());
+                },
+                (in, version) -> OrderCompletedEvent.builder()
+                        .orderId(in.readLong())
+                        .userId(in.readLong())
+                        .productName(in.readString())
+                        .quantity(in.readInt())
+                        .paymentId(in.readString())
+                        .completedAt(in.readDateTime())
+                        .build()));
+
+        register(new EventCodec<>(4, 1, PaymentCaptureRequestedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeString(e.getPaymentId());
+                    out.writeLong(e.getProductId());
+                    out.writeInt(e.getQuantity());
+                    out.writeDecimal(e.getAmount());
+                    out.writeDateTime(e.getRequestedAt());
+                },
+                (in, version) -> PaymentCaptureRequestedEvent.builder()
+                        .orderId(in.readLong())
+                        .paymentId(in.readString())
+                        .productId(in.readLong())
+                        .quantity(in.readInt())
+                        .amount(in.readDecimal())
+                        .requestedAt(in.readDateTime())
+                        .build()));
+
+        // v2: preAuthorized 추가
+        register(new EventCodec<>(10, 2, InventoryReservedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeLong(e.getProductId());
+                    out.writeString(e.getProductName());
+                    out.writeInt(e.getQuantity());
+                    out.writeDecimal(e.getTotalPrice());
+                    out.writeDateTime(e.getReservedAt());
+                    out.writeBoolean(e.getPreAuthorized());
+                },
+                (in, version) -> InventoryReservedEvent.builder()
+                        .orderId(in.readLong())
+                        .productId(in.readLong())
+                        .productName(in.readString())
+                        .quantity(in.readInt())
+                        .totalPrice(in.readDecimal())
+                        .reservedAt(in.readDateTime())
+                        .preAuthorized(version >= 2 ? in.readBoolean() : null)
+                        .build()));
+
+        register(new EventCodec<>(11, 1, InventoryReservationFailedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeLong(e.getProductId());
+                    out.writeInt(e.getRequestedQuantity());
+                    out.writeInt(e.getAvailableQuantity());
+                    out.writeString(e.getReason());
+                    out.writeDateTime(e.getFailedAt());
+                },
+                (in, version) -> InventoryReservationFailedEvent.builder()
+                        .orderId(in.readLong())
+                        .productId(in.readLong())
+                        .requestedQuantity(in.readInt())
+                        .availableQuantity(in.readInt())
+                        .reason(in.readString())
+                        .failedAt(in.readDateTime())
+                        .build()));
+
+        register(new EventCodec<>(20, 1, PaymentCompletedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeString(e.getPaymentId());
+                    out.writeDecimal(e.getAmount());
+                    out.writeString(e.getPaymentMethod());
+                    out.writeDateTime(e.getCompletedAt());
+                },
+                (in, version) -> PaymentCompletedEvent.builder()
+                        .orderId(in.readLong())
+                        .paymentId(in.readString())
+                        .amount(in.readDecimal())
+                        .paymentMethod(in.readString())
+                        .completedAt(in.readDateTime())
+                        .build()));
+
+        register(new EventCodec<>(21, 1, PaymentFailedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeLong(e.getProductId());
+                    out.writeInt(e.getQuantity());
+                    out.writeString(e.getReason());
+                    out.writeDateTime(e.getFailedAt());
+                },
+                (in, version) -> PaymentFailedEvent.builder()
+                        .orderId(in.readLong())
+                        .productId(in.readLong())
+                        .quantity(in.readInt())
+                        .reason(in.readString())
+                        .failedAt(in.readDateTime())
+                        .build()));
+
+        register(new EventCodec<>(22, 1, PaymentAuthorizedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeString(e.getPaymentId());
+                    out.writeDecimal(e.getAmount());
+                    out.writeDateTime(e.getAuthorizedAt());
+                },
+                (in, version) -> PaymentAuthorizedEvent.builder()
+                        .orderId(in.readLong())
+                        .paymentId(in.readString())
+                        .amount(in.readDecimal())
+                        .authorizedAt(in.readDateTime())
+                        .build()));
+
+        register(new EventCodec<>(23, 1, PaymentAuthorizationFailedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeString(e.getReason());
+                    out.writeDateTime(e.getFailedAt());
+                },
+                (in, version) -> PaymentAuthorizationFailedEvent.builder()
+                        .orderId(in.readLong())
+                        .reason(in.readString())
+                        .failedAt(in.readDateTime())
+                        .build()));
+
+        register(new EventCodec<>(30, 1, DeliveryStartedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeString(e.getDeliveryId());
+                    out.writeString(e.getAddress());
+                    out.writeString(e.getCarrier());
+                    out.writeDateTime(e.getStartedAt());
+                },
+                (in, version) -> DeliveryStartedEvent.builder()
+                        .orderId(in.readLong())
+                        .deliveryId(in.readString())
+                        .address(in.readString())
+                        .carrier(in.readString())
+                        .startedAt(in.readDateTime())
+                        .build()));
+
+        register(new EventCodec<>(31, 1, DeliveryCompletedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeString(e.getDeliveryId());
+                    out.writeDateTime(e.getCompletedAt());
+                },
+                (in, version) -> DeliveryCompletedEvent.builder()
+                        .orderId(in.readLong())
+                        .deliveryId(in.readString())
+                        .completedAt(in.readDateTime())
+                        .build()));
+
+        register(new EventCodec<>(32, 1, DeliveryFailedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getOrderId());
+                    out.writeString(e.getDeliveryId());
+                    out.writeString(e.getReason());
+                    out.writeDateTime(e.getFailedAt());
+                },
+                (in, version) -> DeliveryFailedEvent.builder()
+                        .orderId(in.readLong())
+                        .deliveryId(in.readString())
+                        .reason(in.readString())
+                        .failedAt(in.readDateTime())
+                        .build()));
+
+        register(new EventCodec<>(40, 1, UserChangedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getUserId());
+                    out.writeString(e.getChangeType());
+                    out.writeDateTime(e.getChangedAt());
+                },
+                (in, version) -> UserChangedEvent.builder()
+                        .userId(in.readLong())
+                        .changeType(in.readString())
+                        .changedAt(in.readDateTime())
+                        .build()));
+
+        register(new EventCodec<>(50, 1, ProductChangedEvent.class,
+                (e, out) -> {
+                    out.writeLong(e.getProductId());
+                    out.writeString(e.getName());
+                    out.writeDecimal(e.getPrice());
+                    out.writeBoolean(e.getActive());
+                    out.writeString(e.getChangeType());
+                    out.writeDateTime(e.getChangedAt());
+                },
+                (in, version) -> ProductChangedEvent.builder()
+                        .productId(in.readLong())
+                        .name(in.readString())
+                        .price(in.readDecimal())
+                        .active(in.readBoolean())
+                        .changeType(in.readString())
+                        .changedAt(in.readDateTime())
+                        .build()));
+    }
+
+    private EventCodecs() {
+    }
+
+    public static EventCodec<?> forTypeId(int typeId) {
+        return BY_TYPE_ID.get(typeId);
+    }
+
+    public static EventCodec<?> forClass(Class<?> type) {
+        return BY_CLASS.get(type);
+    }
+
+    private static void register(EventCodec<?> codec) {
+        if (BY_TYPE_ID.putIfAbsent(codec.typeId(), codec) != null) {
+            throw new IllegalStateException("중복된 이벤트 typeId: " + codec.typeId());
+        }
+        BY_CLASS.put(codec.type(), codec);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.common.serde;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 바이너리 이벤트 읽기 버퍼 (EventDataOutput과 대칭)
+ */
+public class EventDataInput {
+
+    private final byte[] buffer;
+    private int position;
+
+    public EventDataInput(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    /**
+     * 남은 바이트 존재 여부 - 구버전 스키마로 쓰인 이벤트에 없는 뒤쪽 필드 판단용
+     */
+    public boolean hasRemaining() {
+        return position < buffer.length;
+    }
+
+    public int readByte() {
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long raw = 0;
+        int shift = 0;
+        while (true) {
+            byte b = buffer[position++];
+            raw |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new EventSerializationException("잘못된 varint 인코딩");
+            }
+        }
+        return (raw >>> 1) ^ -(raw & 1);  // ZigZag 복원
+    }
+
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    public Long readLong() {
+        return readByte() == 0 ? null : readVarLong();
+    }
+
+    public Integer readInt() {
+        return readByte() == 0 ? null : readVarInt();
+    }
+
+    public Boolean readBoolean() {
+        int flag = readByte();
+        return flag == 0 ? null : flag == 2;
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public BigDecimal readDecimal() {
+        int tag = readByte();
+        if (tag == 0) {
+            return null;
+        }
+        int scale = readVarInt();
+        if (tag == 1) {
+            return BigDecimal.valueOf(readVarLong(), scale);
+        }
+        int length = readVarInt();
+        byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+
+    public LocalDateTime readDateTime() {
+        if (readByte() == 0) {
+            return null;
+        }
+        long epochSecond = readVarLong();
+        int nano = readVarInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.common.serde;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 바이너리 이벤트 쓰기 버퍼
+ * - 정수: ZigZag + varint (작은 값은 1~2바이트)
+ * - 문자열: 길이(varint, null이면 0) + UTF-8
+ * - BigDecimal: scale + unscaled 값 (long 범위면 varint, 아니면 바이트 배열)
+ * - LocalDateTime: epoch second(UTC 기준 벽시계 값) + nano
+ */
+public class EventDataOutput {
+
+    private byte[] buffer;
+    private int position;
+
+    public EventDataOutput(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        long v = (value << 1) ^ (value >> 63);  // ZigZag
+        while ((v & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buffer[position++] = (byte) v;
+    }
+
+    public void writeVarInt(int value) {
+        writeVarLong(value);
+    }
+
+    public void writeLong(Long value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeVarLong(value);
+    }
+
+    public void writeInt(Integer value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeVarLong(value);
+    }
+
+    public void writeBoolean(Boolean value) {
+        writeByte(value == null ? 0 : (value ? 2 : 1));
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeDecimal(BigDecimal value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < 64) {
+            writeByte(1);
+            writeVarInt(value.scale());
+            writeVarLong(unscaled.longValue());
+            return;
+        }
+        byte[] bytes = unscaled.toByteArray();
+        writeByte(2);
+        writeVarInt(value.scale());
+        writeVarInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+        writeVarInt(value.getNano());
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
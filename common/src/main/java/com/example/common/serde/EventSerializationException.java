@@ -0,0 +1,13 @@
+package com.example.common.serde;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * 바이너리 이벤트 직렬화/역직렬화 실패
+ */
+public class EventSerializationException extends SerializationException {
+
+    public EventSerializationException(String message) {
+        super(message);
+    }
+}
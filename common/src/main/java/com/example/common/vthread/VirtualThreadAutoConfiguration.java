@@ -0,0 +1,102 @@
+package com.example.common.vthread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.kafka.config.AbstractKafkaListenerContainerFactory;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 실행 모드 자동 설정 (virtual-threads.enabled=true 일 때만)
+ * - Tomcat: 요청마다 가상 스레드 (스레드 풀 크기 제한 대신 DB 커넥션 풀 등 실제 자원이 동시성 상한)
+ * - @Async / Spring MVC 비동기 처리: applicationTaskExecutor를 가상 스레드 Executor로 대체
+ * - Kafka Listener: Consumer 스레드를 가상 스레드로 (모든 Listener Container Factory)
+ * - 캐리어 스레드 고정(pinning) 감지 메트릭 (VirtualThreadPinningMonitor)
+ *
+ * 서비스가 직접 정의한 taskExecutor는 virtual-threads.enabled=false 일 때만 등록하도록 조건을 걸어야 함 (빈 이름 충돌)
+ */
+@Slf4j
+@AutoConfiguration(before = TaskExecutionAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "virtual-threads", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadAutoConfiguration {
+
+    /**
+     * @Async 기본 Executor + Spring MVC 비동기 Executor (이 빈이 있으면 Spring Boot 기본 스레드 풀은 생성되지 않음)
+     */
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        log.info("✅ [Virtual Thread] @Async / MVC 비동기 처리 - 가상 스레드");
+        return new TaskExecutorAdapter(newVirtualThreadExecutor("async-vt-"));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "virtual-threads", name = "pinning-monitor-enabled", havingValue = "true",
+            matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                   VirtualThreadProperties properties) {
+        return new VirtualThreadPinningMonitor(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), properties);
+    }
+
+    static ExecutorService newVirtualThreadExecutor(String namePrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 0).factory());
+    }
+
+    /**
+     * Tomcat 요청 처리 스레드 → 가상 스레드
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "org.apache.coyote.ProtocolHandler")
+    static class TomcatVirtualThreadConfiguration {
+
+        @Bean
+        public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+            log.info("✅ [Virtual Thread] Tomcat 요청 처리 - 가상 스레드");
+            return protocolHandler -> protocolHandler.setExecutor(newVirtualThreadExecutor("tomcat-vt-"));
+        }
+    }
+
+    /**
+     * Kafka Listener Consumer 스레드 → 가상 스레드 (Executor를 직접 지정한 Factory는 유지)
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.kafka.config.AbstractKafkaListenerContainerFactory")
+    static class KafkaVirtualThreadConfiguration {
+
+        @Bean
+        public static BeanPostProcessor virtualThreadKafkaListenerPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof AbstractKafkaListenerContainerFactory<?, ?, ?> factory
+                            && factory.getContainerProperties().getListenerTaskExecutor() == null) {
+                        factory.getContainerProperties().setListenerTaskExecutor(
+                                new TaskExecutorAdapter(newVirtualThreadExecutor("kafka-vt-")));
+                        log.info("✅ [Virtual Thread] Kafka Listener - 가상 스레드 - factory: {}", beanName);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.common.vthread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감지
+ * - synchronized 블록 / 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어(플랫폼) 스레드를 놓지 못함
+ *   (JDBC 드라이버, 커넥션 풀, Redisson 등) → 캐리어 수(CPU 코어 수)만큼만 동시 처리되어 처리량 급감
+ * - JFR jdk.VirtualThreadPinned 이벤트를 JVM 안에서 구독 (별도 JFR 파일/에이전트 불필요)
+ *
+ * 메트릭: jvm.threads.virtual.pinned{site=클래스.메서드} (횟수, 고정 시간)
+ * 위치별 첫 발생 시 스택을 WARN 로그로 남김
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String OTHER_SITE = "other";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final VirtualThreadProperties properties;
+    private final Map<String, Timer> timersBySite = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, VirtualThreadProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(properties.getPinningThreshold())
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+        log.info("✅ [Virtual Thread] 캐리어 고정 감지 시작 - threshold: {}", properties.getPinningThreshold());
+    }
+
+    private void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = siteOf(frames);
+
+        Timer timer = timersBySite.get(site);
+        if (timer == null) {
+            String tag = timersBySite.size() < properties.getPinningMaxSites() ? site : OTHER_SITE;
+            timer = timersBySite.computeIfAbsent(tag, this::pinnedTimer);
+            if (tag.equals(site)) {
+                log.warn("⚠️ [Virtual Thread] 캐리어 스레드 고정 - site: {}, duration: {}ms\n{}",
+                        site, event.getDuration().toMillis(), format(frames));
+            }
+        }
+        timer.record(event.getDuration());
+    }
+
+    private Timer pinnedTimer(String site) {
+        return Timer.builder("jvm.threads.virtual.pinned")
+                .description("캐리어 스레드를 고정한 가상 스레드 블로킹 (횟수, 시간)")
+                .tag("site", site)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 고정 위치 = 스택에서 처음 나오는 JDK 밖 프레임 (애플리케이션/라이브러리 코드)
+     */
+    private static String siteOf(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.")) {
+                continue;
+            }
+            return className + "." + frame.getMethod().getName();
+        }
+        return "unknown";
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
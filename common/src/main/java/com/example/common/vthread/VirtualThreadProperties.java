@@ -0,0 +1,36 @@
+package com.example.common.vthread;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadProperties {
+
+    /**
+     * 가상 스레드 사용 여부 (Tomcat 요청 처리, @Async, Kafka Listener) - false면 기존 플랫폼 스레드 풀
+     */
+    private boolean enabled = false;
+
+    /**
+     * 캐리어 스레드 고정(pinning) 감지 사용 여부 (JFR jdk.VirtualThreadPinned 이벤트)
+     */
+    private boolean pinningMonitorEnabled = true;
+
+    /**
+     * 이 시간 이상 고정된 경우만 기록 (짧은 synchronized 구간은 무시)
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+
+    /**
+     * 고정 발생 위치(site) 태그 최대 개수 - 초과분은 "other"로 집계 (메트릭 카디널리티 제한)
+     */
+    private int pinningMaxSites = 100;
+}
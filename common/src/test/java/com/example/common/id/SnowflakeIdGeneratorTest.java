@@ -0,0 +1,143 @@
+package com.example.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Snowflake ID 생성기 테스트
+ * - 동시 발급 시 중복 없음 + 스레드별 단조 증가
+ * - 시계 역행 / ms당 순번 초과 시에도 단조 증가
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final long T = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+    private static final int WORKER_ID = 7;
+    private static final int SEQUENCE_PER_MS = 1 << 12;
+
+    private final AtomicLong clock = new AtomicLong(T);
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(WORKER_ID, clock::get);
+
+    @Test
+    void ID에_발급_시각과_workerId가_담긴다() {
+        long id = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(T);
+        assertThat(workerOf(id)).isEqualTo(WORKER_ID);
+        assertThat(sequenceOf(id)).isZero();
+    }
+
+    @Test
+    void 같은_ms에서는_순번이_증가한다() {
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(SnowflakeIdGenerator.timestampOf(second)).isEqualTo(T);
+    }
+
+    @Test
+    void 시계가_뒤로_가도_단조_증가한다() {
+        long beforeRollback = generator.nextId();
+
+        clock.set(T - 5_000);  // NTP 보정 등으로 5초 역행
+        long afterRollback = generator.nextId();
+
+        assertThat(afterRollback).isGreaterThan(beforeRollback);
+        assertThat(SnowflakeIdGenerator.timestampOf(afterRollback)).isEqualTo(T);
+
+        clock.set(T + 1);  // 시계가 따라오면 실제 시각으로 복귀
+        long recovered = generator.nextId();
+        assertThat(recovered).isGreaterThan(afterRollback);
+        assertThat(SnowflakeIdGenerator.timestampOf(recovered)).isEqualTo(T + 1);
+        assertThat(sequenceOf(recovered)).isZero();
+    }
+
+    @Test
+    void ms당_순번을_넘기면_다음_ms를_미리_사용한다() {
+        long last = 0;
+        for (int i = 0; i < SEQUENCE_PER_MS; i++) {
+            last = generator.nextId();
+        }
+        assertThat(SnowflakeIdGenerator.timestampOf(last)).isEqualTo(T);
+        assertThat(sequenceOf(last)).isEqualTo(SEQUENCE_PER_MS - 1);
+
+        long overflow = generator.nextId();
+        assertThat(overflow).isGreaterThan(last);
+        assertThat(SnowflakeIdGenerator.timestampOf(overflow)).isEqualTo(T + 1);
+        assertThat(sequenceOf(overflow)).isZero();
+        assertThat(workerOf(overflow)).isEqualTo(WORKER_ID);
+
+        // 실제 시계가 미리 쓴 ms에 도달해도 이어서 증가 (중복 없음)
+        clock.set(T + 1);
+        long caughtUp = generator.nextId();
+        assertThat(caughtUp).isGreaterThan(overflow);
+        assertThat(sequenceOf(caughtUp)).isEqualTo(1);
+    }
+
+    @Test
+    void 동시에_발급해도_중복이_없고_스레드별로_단조_증가한다() throws Exception {
+        SnowflakeIdGenerator realClock = new SnowflakeIdGenerator(WORKER_ID);
+        int threads = 8;
+        int idsPerThread = 50_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[idsPerThread];
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids[i] = realClock.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<Long> all = new HashSet<>(threads * idsPerThread * 2);
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get(30, TimeUnit.SECONDS);
+                for (int i = 0; i < ids.length; i++) {
+                    if (i > 0) {
+                        assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                    }
+                    all.add(ids[i]);
+                }
+            }
+            assertThat(all).hasSize(threads * idsPerThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void workerId_범위를_벗어나면_예외() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_WORKER_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long workerOf(long id) {
+        return (id >>> 12) & SnowflakeIdGenerator.MAX_WORKER_ID;
+    }
+
+    private static long sequenceOf(long id) {
+        return id & (SEQUENCE_PER_MS - 1);
+    }
+}
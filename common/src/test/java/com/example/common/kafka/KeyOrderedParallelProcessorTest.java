@@ -0,0 +1,81 @@
+package com.example.common.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 키 순서 보장 병렬 처리기 테스트
+ * - 파티션 회수 시 완료 구간까지만 커밋하고, 회수 후 끝난 레코드는 ACK하지 않음
+ */
+class KeyOrderedParallelProcessorTest {
+
+    private static final String TOPIC = "order-events";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final KeyOrderedParallelProcessor processor = new KeyOrderedParallelProcessor(100, 10, 0, 10, 50);
+    private final List<Long> acked = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void tearDown() {
+        processor.destroy();
+    }
+
+    @Test
+    void 파티션_회수_시_완료_구간까지_커밋하고_이후_완료분은_ACK하지_않는다() throws InterruptedException {
+        CountDownLatch firstAcked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch lastHandled = new CountDownLatch(1);
+
+        processor.submit(record(0, "A"), () -> {
+            acked.add(0L);
+            firstAcked.countDown();
+        }, r -> { });
+        processor.submit(record(1, "B"), ack(1), r -> awaitQuietly(release));  // 회수 시점까지 미완료
+        processor.submit(record(2, "C"), ack(2), r -> { });
+        processor.submit(record(3, "B"), ack(3), r -> lastHandled.countDown());
+        assertThat(firstAcked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Consumer<?, ?> consumer = mock(Consumer.class);
+        processor.onPartitionsRevokedBeforeCommit(consumer, List.of(PARTITION));
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(1)));
+
+        // 회수 후 나머지 레코드 완료 (같은 키 레인의 offset 3은 offset 1의 완료 처리 뒤에 실행)
+        release.countDown();
+        assertThat(lastHandled.await(5, TimeUnit.SECONDS)).isTrue();
+        processor.onPartitionsRevokedAfterCommit(consumer, List.of(PARTITION));
+
+        assertThat(acked).containsExactly(0L);
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String key) {
+        return new ConsumerRecord<>(TOPIC, PARTITION.partition(), offset, key, "payload-" + offset);
+    }
+
+    private Acknowledgment ack(long offset) {
+        return () -> acked.add(offset);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
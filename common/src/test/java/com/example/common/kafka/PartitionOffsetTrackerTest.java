@@ -0,0 +1,94 @@
+package com.example.common.kafka;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파티션 오프셋 추적 테스트
+ * - 가장 낮은 미완료 오프셋 직전까지만 ACK / 동시 완료에도 ACK 오프셋 단조 증가 / 회수 후 ACK 없음
+ */
+class PartitionOffsetTrackerTest {
+
+    private final PartitionOffsetTracker tracker = new PartitionOffsetTracker();
+    private final List<Long> acked = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void 뒤쪽_오프셋이_먼저_끝나면_앞쪽이_끝날_때까지_ACK를_보류한다() {
+        start(10, 11, 12);
+
+        assertThat(tracker.completed(12)).isFalse();
+        assertThat(tracker.committableOffset()).isEqualTo(-1);
+
+        assertThat(tracker.completed(10)).isTrue();
+        assertThat(tracker.committableOffset()).isEqualTo(11);
+
+        assertThat(tracker.completed(11)).isTrue();
+        assertThat(tracker.committableOffset()).isEqualTo(13);  // 11, 12 연속 완료 → 마지막 레코드만 ACK
+        assertThat(acked).containsExactly(10L, 12L);
+        assertThat(tracker.isDrained()).isTrue();
+    }
+
+    @Test
+    void 회수된_뒤에_끝난_레코드는_ACK하지_않는다() {
+        start(0, 1);
+        tracker.completed(0);
+
+        assertThat(tracker.revoke()).isEqualTo(1);
+        assertThat(tracker.completed(1)).isFalse();
+
+        assertThat(acked).containsExactly(0L);
+    }
+
+    @Test
+    void 여러_스레드가_동시에_완료해도_ACK_오프셋은_뒤로_가지_않는다() throws InterruptedException {
+        int records = 10_000;
+        start(LongStream.range(0, records).toArray());
+        List<Long> offsets = new ArrayList<>(LongStream.range(0, records).boxed().toList());
+        Collections.shuffle(offsets);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch ready = new CountDownLatch(1);
+        for (Long offset : offsets) {
+            executor.execute(() -> {
+                awaitQuietly(ready);
+                tracker.completed(offset);
+            });
+        }
+        ready.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(acked).isSorted().doesNotHaveDuplicates();
+        assertThat(acked.get(acked.size() - 1)).isEqualTo(records - 1);
+        assertThat(tracker.committableOffset()).isEqualTo(records);
+    }
+
+    private void start(long... offsets) {
+        for (long offset : offsets) {
+            tracker.started(offset, ack(offset));
+        }
+    }
+
+    private Acknowledgment ack(long offset) {
+        return () -> acked.add(offset);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.common.serde;
+
+import com.example.common.event.DeliveryCompletedEvent;
+import com.example.common.event.DeliveryFailedEvent;
+import com.example.common.event.DeliveryStartedEvent;
+import com.example.common.event.EventHeaders;
+import com.example.common.event.InventoryReservationFailedEvent;
+import com.example.common.event.InventoryReservedEvent;
+import com.example.common.event.OrderCancelledEvent;
+import com.example.common.event.OrderCompletedEvent;
+import com.example.common.event.OrderCreatedEvent;
+import com.example.common.event.PaymentAuthorizationFailedEvent;
+import com.example.common.event.PaymentAuthorizedEvent;
+import com.example.common.event.PaymentCaptureRequestedEvent;
+import com.example.common.event.PaymentCompletedEvent;
+import com.example.common.event.PaymentFailedEvent;
+import com.example.common.event.ProductChangedEvent;
+import com.example.common.event.UserChangedEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 바이너리 이벤트 Serde 테스트
+ * - 등록된 모든 이벤트의 왕복 (값 / null 필드)
+ * - 구버전(v1) 페이로드 복원, 신버전 페이로드의 뒤쪽 필드 무시
+ * - JSON으로 발행된 이벤트 호환
+ */
+class BinaryEventSerdeTest {
+
+    private static final String TOPIC = "test-events";
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 17, 13, 45, 12, 123_456_789);
+
+    private final BinaryEventSerializer serializer = new BinaryEventSerializer();
+    private final BinaryEventDeserializer deserializer = new BinaryEventDeserializer();
+
+    static Stream<Object> events() {
+        return Stream.of(
+                OrderCreatedEvent.builder().orderId(1L).userId(2L).productId(3L).productName("MacBook Pro 16")
+                        .quantity(2).price(new BigDecimal("3500000.00")).totalPrice(new BigDecimal("7000000.00"))
+                        .createdAt(NOW).preAuthorize(true).build(),
+                OrderCancelledEvent.builder().orderId(1L).userId(2L).reason("결제 시간 초과").cancelledAt(NOW)
+                        .productId(3L).releaseQuantity(2).refundPaymentId("PAY-1").build(),
+                OrderCompletedEvent.builder().orderId(1L).userId(2L).productName("클린 코드").quantity(1)
+                        .paymentId("PAY-1").completedAt(NOW).build(),
+                PaymentCaptureRequestedEvent.builder().orderId(1L).paymentId("PAY-1").productId(3L).quantity(2)
+                        .amount(new BigDecimal("7000000.00")).requestedAt(NOW).build(),
+                InventoryReservedEvent.builder().orderId(1L).productId(3L).productName("iPhone 15 Pro").quantity(2)
+                        .totalPrice(new BigDecimal("3100000")).reservedAt(NOW).preAuthorized(false).build(),
+                InventoryReservationFailedEvent.builder().orderId(1L).productId(3L).requestedQuantity(5)
+                        .availableQuantity(0).reason("재고 부족").failedAt(NOW).build(),
+                PaymentCompletedEvent.builder().orderId(1L).paymentId("PAY-1").amount(new BigDecimal("-0.01"))
+                        .paymentMethod("CARD").completedAt(NOW).build(),
+                PaymentFailedEvent.builder().orderId(1L).productId(3L).quantity(2).reason("잔액 부족")
+                        .failedAt(NOW).build(),
+                PaymentAuthorizedEvent.builder().orderId(1L).paymentId("PAY-1")
+                        .amount(new BigDecimal("123456789012345678901234567890.123456789")).authorizedAt(NOW).build(),
+                PaymentAuthorizationFailedEvent.builder().orderId(Long.MAX_VALUE).reason("한도 초과")
+                        .failedAt(NOW).build(),
+                DeliveryStartedEvent.builder().orderId(1L).deliveryId("DLV-1").address("서울시 강남구 테헤란로 1")
+                        .carrier("CJ대한통운").startedAt(NOW).build(),
+                DeliveryCompletedEvent.builder().orderId(1L).deliveryId("DLV-1").completedAt(NOW).build(),
+                DeliveryFailedEvent.builder().orderId(Long.MIN_VALUE).deliveryId("DLV-1").reason("주소 불명")
+                        .failedAt(NOW).build(),
+                UserChangedEvent.builder().userId(2L).changeType("UPDATED").changedAt(NOW).build(),
+                ProductChangedEvent.builder().productId(3L).name("나이키 에어맥스").price(new BigDecimal("189000"))
+                        .active(true).changeType("PRICE_CHANGED").changedAt(NOW).build()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("events")
+    void 이벤트를_왕복하면_모든_필드가_같다(Object event) {
+        Headers headers = new RecordHeaders();
+
+        byte[] bytes = serializer.serialize(TOPIC, headers, event);
+        Object decoded = deserializer.deserialize(TOPIC, headers, bytes);
+
+        assertThat(bytes[0] & 0xFF).isEqualTo(BinaryEventSerializer.MAGIC);
+        assertThat(new String(headers.lastHeader(EventHeaders.EVENT_TYPE).value(), StandardCharsets.UTF_8))
+                .isEqualTo(event.getClass().getSimpleName());
+        assertThat(decoded).isInstanceOf(event.getClass());
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @ParameterizedTest
+    @MethodSource("events")
+    void null_필드도_null로_복원된다(Object event) throws Exception {
+        Object empty = event.getClass().getDeclaredConstructor().newInstance();
+
+        Object decoded = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, empty));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(empty);
+    }
+
+    @Test
+    void 모든_common_이벤트에_코덱이_등록되어_있다() {
+        events().forEach(event -> assertThat(EventCodecs.forClass(event.getClass()))
+                .as(event.getClass().getSimpleName())
+                .isNotNull());
+    }
+
+    @Test
+    void v1_OrderCreatedEvent는_preAuthorize_없이_복원된다() {
+        EventDataOutput out = header(1, 1);
+        out.writeLong(1L);
+        out.writeLong(2L);
+        out.writeLong(3L);
+        out.writeString("MacBook Pro 16");
+        out.writeInt(2);
+        out.writeDecimal(new BigDecimal("3500000.00"));
+        out.writeDecimal(new BigDecimal("7000000.00"));
+        out.writeDateTime(NOW);
+
+        OrderCreatedEvent decoded = (OrderCreatedEvent) deserializer.deserialize(TOPIC, out.toByteArray());
+
+        assertThat(decoded.getOrderId()).isEqualTo(1L);
+        assertThat(decoded.getProductName()).isEqualTo("MacBook Pro 16");
+        assertThat(decoded.getTotalPrice()).isEqualByComparingTo("7000000.00");
+        assertThat(decoded.getCreatedAt()).isEqualTo(NOW);
+        assertThat(decoded.getPreAuthorize()).isNull();
+    }
+
+    @Test
+    void v1_OrderCancelledEvent는_보상_필드_없이_복원된다() {
+        EventDataOutput out = header(2, 1);
+        out.writeLong(1L);
+        out.writeLong(2L);
+        out.writeString("재고 부족");
+        out.writeDateTime(NOW);
+
+        OrderCancelledEvent decoded = (OrderCancelledEvent) deserializer.deserialize(TOPIC, out.toByteArray());
+
+        assertThat(decoded.getOrderId()).isEqualTo(1L);
+        assertThat(decoded.getReason()).isEqualTo("재고 부족");
+        assertThat(decoded.getCancelledAt()).isEqualTo(NOW);
+        assertThat(decoded.getProductId()).isNull();
+        assertThat(decoded.getReleaseQuantity()).isNull();
+        assertThat(decoded.getRefundPaymentId()).isNull();
+    }
+
+    @Test
+    void v1_InventoryReservedEvent는_preAuthorized_없이_복원된다() {
+        EventDataOutput out = header(10, 1);
+        out.writeLong(1L);
+        out.writeLong(3L);
+        out.writeString("iPhone 15 Pro");
+        out.writeInt(2);
+        out.writeDecimal(new BigDecimal("3100000"));
+        out.writeDateTime(NOW);
+
+        InventoryReservedEvent decoded = (InventoryReservedEvent) deserializer.deserialize(TOPIC, out.toByteArray());
+
+        assertThat(decoded.getQuantity()).isEqualTo(2);
+        assertThat(decoded.getReservedAt()).isEqualTo(NOW);
+        assertThat(decoded.getPreAuthorized()).isNull();
+    }
+
+    @Test
+    void 신버전_페이로드의_뒤쪽_필드는_무시된다() {
+        EventDataOutput out = header(40, 2);
+        out.writeLong(2L);
+        out.writeString("UPDATED");
+        out.writeDateTime(NOW);
+        out.writeString("v2에만 있는 필드");
+        out.writeLong(99L);
+
+        UserChangedEvent decoded = (UserChangedEvent) deserializer.deserialize(TOPIC, out.toByteArray());
+
+        assertThat(decoded.getUserId()).isEqualTo(2L);
+        assertThat(decoded.getChangeType()).isEqualTo("UPDATED");
+        assertThat(decoded.getChangedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void JSON으로_발행된_이벤트도_복원된다() {
+        JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.example.common.event"), false);
+        Object event = events().findFirst().orElseThrow();
+        Headers headers = new RecordHeaders();
+
+        byte[] json = jsonSerializer.serialize(TOPIC, headers, event);
+        Object decoded = deserializer.deserialize(TOPIC, headers, json);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    void 알_수_없는_typeId는_예외() {
+        byte[] bytes = header(999, 1).toByteArray();
+
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, bytes))
+                .isInstanceOf(EventSerializationException.class)
+                .hasMessageContaining("999");
+    }
+
+    private static EventDataOutput header(int typeId, int version) {
+        EventDataOutput out = new EventDataOutput(64);
+        out.writeByte(BinaryEventSerializer.MAGIC);
+        out.writeVarInt(typeId);
+        out.writeVarInt(version);
+        return out;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.common.vthread;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 실행 모드 자동 설정 테스트
+ * - 모드별로 @Async Executor / Kafka Listener Executor가 바뀌는지
+ */
+class VirtualThreadAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    VirtualThreadAutoConfiguration.class, TaskExecutionAutoConfiguration.class))
+            .withUserConfiguration(KafkaFactoryConfig.class)
+            .withPropertyValues("virtual-threads.pinning-monitor-enabled=false");
+
+    @Test
+    void 비활성화하면_플랫폼_스레드_풀을_그대로_사용한다() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class);
+            assertThat(runsOnVirtualThread(context.getBean(
+                    TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncTaskExecutor.class)))
+                    .isFalse();
+            assertThat(context.getBean("defaultFactory", ConcurrentKafkaListenerContainerFactory.class)
+                    .getContainerProperties().getListenerTaskExecutor()).isNull();
+        });
+    }
+
+    @Test
+    void 활성화하면_Async_Executor가_가상_스레드로_실행한다() {
+        contextRunner.withPropertyValues("virtual-threads.enabled=true").run(context -> {
+            AsyncTaskExecutor executor = context.getBean(
+                    TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncTaskExecutor.class);
+
+            assertThat(runsOnVirtualThread(executor)).isTrue();
+        });
+    }
+
+    @Test
+    void 활성화하면_Kafka_Listener_Factory에_가상_스레드_Executor를_지정한다() {
+        contextRunner.withPropertyValues("virtual-threads.enabled=true").run(context -> {
+            ConcurrentKafkaListenerContainerFactory<?, ?> defaultFactory =
+                    context.getBean("defaultFactory", ConcurrentKafkaListenerContainerFactory.class);
+            ConcurrentKafkaListenerContainerFactory<?, ?> customFactory =
+                    context.getBean("customExecutorFactory", ConcurrentKafkaListenerContainerFactory.class);
+
+            assertThat(defaultFactory.getContainerProperties().getListenerTaskExecutor()).isNotNull();
+            assertThat(customFactory.getContainerProperties().getListenerTaskExecutor())
+                    .as("Executor를 직접 지정한 Factory는 유지")
+                    .isSameAs(KafkaFactoryConfig.CUSTOM_EXECUTOR);
+        });
+    }
+
+    @Test
+    void 캐리어_고정_감지는_설정으로_켠다() {
+        contextRunner.withPropertyValues("virtual-threads.enabled=true", "virtual-threads.pinning-monitor-enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(VirtualThreadPinningMonitor.class));
+    }
+
+    private static boolean runsOnVirtualThread(AsyncTaskExecutor executor) throws Exception {
+        return executor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class KafkaFactoryConfig {
+
+        static final SimpleAsyncTaskExecutor CUSTOM_EXECUTOR = new SimpleAsyncTaskExecutor("custom-");
+
+        @Bean
+        ConcurrentKafkaListenerContainerFactory<String, Object> defaultFactory() {
+            return new ConcurrentKafkaListenerContainerFactory<>();
+        }
+
+        @Bean
+        ConcurrentKafkaListenerContainerFactory<String, Object> customExecutorFactory() {
+            ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+            factory.getContainerProperties().setListenerTaskExecutor(CUSTOM_EXECUTOR);
+            return factory;
+        }
+    }
+}
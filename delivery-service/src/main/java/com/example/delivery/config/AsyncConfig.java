@@ -1,28 +0,0 @@
-package com.example.delivery.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.springframework.context.annotation.Bean;
-
-import java.util.concurrent.Executor;
-
-/**
- * 비동기 처리 설정
- * @Async 어노테이션 활성화
- */
-@Configuration
-@EnableAsync
-public class AsyncConfig {
-
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("delivery-async-");
-        executor.initialize();
-        return executor;
-    }
-}
@@ -0,0 +1,79 @@
+package com.example.delivery.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 배송 상태 전이 예약 작업 (DeliveryTaskScheduler) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "delivery.task")
+public class DeliveryTaskConfig {
+
+    /**
+     * 예약 소유 인스턴스 식별자 - 고정값(호스트명 등)이면 재시작 시 자기 예약을 바로 다시 적재
+     * (비어 있으면 기동마다 새로 생성 → 이전 예약은 overdue-grace 후 복구, 최대 100자 - delivery_task.owner)
+     */
+    private String nodeId;
+
+    /**
+     * 배송 준비 → 배송 시작 (물류센터 출고 시뮬레이션)
+     */
+    private Duration startDelay = Duration.ofSeconds(3);
+
+    /**
+     * 배송 시작 → 배송 완료 (배송 중 시뮬레이션)
+     */
+    private Duration completeDelay = Duration.ofSeconds(5);
+
+    /**
+     * 배송 실패 확률 (수령 거부 시뮬레이션)
+     */
+    private double failureRate = 0.05;
+
+    /**
+     * 타이밍 휠 칸 간격 (ms) - 실행 시각 정밀도
+     */
+    private long tickMs = 100;
+
+    /**
+     * 타이밍 휠 칸 수 (1단계 범위 = tickMs × wheelSize, 넘으면 상위 휠)
+     */
+    private int wheelSize = 64;
+
+    /**
+     * 메모리 적재 범위 - 이 시간 안에 실행할 작업만 휠에 올림 (나머지는 DB에서 대기)
+     */
+    private Duration lookahead = Duration.ofSeconds(30);
+
+    /**
+     * DB 적재 주기 (ms)
+     */
+    private long loadIntervalMs = 1000;
+
+    /**
+     * 1회 조회 행 수
+     */
+    private int loadBatchSize = 1000;
+
+    /**
+     * 마감 후 이 시간이 지나도 남아 있는 작업은 소유 인스턴스와 무관하게 가져가서 실행
+     */
+    private Duration overdueGrace = Duration.ofSeconds(30);
+
+    /**
+     * 상태 전이 실행 스레드 수 (DB 커넥션 풀 크기 이하로 - Hikari 기본 10)
+     */
+    private int workerThreads = 8;
+
+    /**
+     * 실행 실패 시 재시도 간격
+     */
+    private Duration retryBackoff = Duration.ofSeconds(5);
+}
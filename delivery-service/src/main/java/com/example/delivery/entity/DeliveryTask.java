@@ -0,0 +1,66 @@
+package com.example.delivery.entity;
+
+import com.example.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배송 상태 전이 예약 작업 (지연 작업 영속 저장소)
+ * - 실행 시각(dueAt) 인덱스로 곧 실행할 작업만 메모리 타이밍 휠에 적재
+ * - 상태 전이와 같은 트랜잭션에서 삭제 → 행이 남아 있으면 아직 실행 전 (재시작/장애 시 복구 대상)
+ */
+@Entity
+@Table(name = "delivery_task",
+        indexes = {
+                @Index(name = "idx_delivery_task_owner_due", columnList = "owner, dueAt"),
+                @Index(name = "idx_delivery_task_due", columnList = "dueAt")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeliveryTask {
+
+    public static final int OWNER_MAX_LENGTH = 100;
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    /**
+     * 대상 배송 (Delivery.id)
+     */
+    @Column(nullable = false)
+    private Long deliveryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskType type;
+
+    /**
+     * 실행 시각
+     */
+    @Column(nullable = false)
+    private LocalDateTime dueAt;
+
+    /**
+     * 예약한 인스턴스 (해당 인스턴스가 휠에 적재, 마감이 한참 지나면 다른 인스턴스가 가져감)
+     * - nodeId(HOSTNAME, 최대 63자) 또는 UUID
+     */
+    @Column(nullable = false, length = OWNER_MAX_LENGTH)
+    private String owner;
+
+    public DeliveryTask(Long deliveryId, TaskType type, LocalDateTime dueAt, String owner) {
+        this.deliveryId = deliveryId;
+        this.type = type;
+        this.dueAt = dueAt;
+        this.owner = owner;
+    }
+
+    public enum TaskType {
+        START,      // 배송 시작 (물류센터 출고)
+        COMPLETE    // 배송 완료 / 실패
+    }
+}
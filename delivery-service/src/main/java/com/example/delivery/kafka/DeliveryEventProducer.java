@@ -3,24 +3,24 @@ package com.example.delivery.kafka;
 import com.example.common.event.DeliveryCompletedEvent;
 import com.example.common.event.DeliveryFailedEvent;
 import com.example.common.event.DeliveryStartedEvent;
+import com.example.common.outbox.EventPublisher;
 import com.example.delivery.entity.Delivery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Delivery 이벤트 발행
+ * - outbox.enabled=true 이면 배송 저장 트랜잭션에 참여하여 Outbox에 저장
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DeliveryEventProducer {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventPublisher eventPublisher;
     private static final String TOPIC = "delivery-events";
 
     /**
@@ -37,7 +37,7 @@ public class DeliveryEventProducer {
                 .build();
 
         log.info("📤 [Kafka Producer] 배송 준비 완료 이벤트 발행 - orderId: {}", delivery.getOrderId());
-        sendEvent(event);
+        sendEvent(delivery, event);
     }
 
     /**
@@ -54,7 +54,7 @@ public class DeliveryEventProducer {
                 .build();
 
         log.info("📤 [Kafka Producer] 배송 시작 이벤트 발행 (물류센터 출고) - orderId: {}", delivery.getOrderId());
-        sendEvent(event);
+        sendEvent(delivery, event);
     }
 
     /**
@@ -68,7 +68,7 @@ public class DeliveryEventProducer {
                 .build();
 
         log.info("📤 [Kafka Producer] 배송 완료 이벤트 발행 - orderId: {}", delivery.getOrderId());
-        sendEvent(event);
+        sendEvent(delivery, event);
     }
 
     /**
@@ -83,22 +83,14 @@ public class DeliveryEventProducer {
                 .build();
 
         log.info("📤 [Kafka Producer] 배송 실패 이벤트 발행 - orderId: {}", delivery.getOrderId());
-        sendEvent(event);
+        sendEvent(delivery, event);
     }
 
     /**
-     * Kafka 이벤트 전송 공통 로직
+     * 이벤트 전송 공통 로직
+     * - orderId를 키로 사용해 같은 주문의 이벤트는 순서 보장
      */
-    private void sendEvent(Object event) {
-        CompletableFuture<org.springframework.kafka.support.SendResult<String, Object>> future =
-                kafkaTemplate.send(TOPIC, event.toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("✅ [Kafka Producer] 이벤트 발행 성공");
-            } else {
-                log.error("❌ [Kafka Producer] 이벤트 발행 실패", ex);
-            }
-        });
+    private void sendEvent(Delivery delivery, Object event) {
+        eventPublisher.publish(TOPIC, delivery.getOrderId().toString(), event);
     }
 }
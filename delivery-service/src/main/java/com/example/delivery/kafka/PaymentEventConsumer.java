@@ -1,12 +1,20 @@
 package com.example.delivery.kafka;
 
+import com.example.common.event.EventHeaders;
 import com.example.common.event.PaymentCompletedEvent;
+import com.example.common.idempotency.IdempotentConsumerStore;
+import com.example.common.kafka.EventTypeRouter;
+import com.example.delivery.config.DeliveryTaskConfig;
 import com.example.delivery.entity.Delivery;
+import com.example.delivery.entity.DeliveryTask;
 import com.example.delivery.service.DeliveryService;
+import com.example.delivery.service.DeliveryTaskScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Payment 이벤트 구독
@@ -18,6 +26,15 @@ public class PaymentEventConsumer {
 
     private final DeliveryService deliveryService;
     private final DeliveryEventProducer deliveryEventProducer;
+    private final IdempotentConsumerStore idempotentConsumerStore;
+    private final DeliveryTaskScheduler deliveryTaskScheduler;
+    private final DeliveryTaskConfig deliveryTaskConfig;
+
+    private static final String GROUP_ID = "delivery-service-group";
+
+    private final EventTypeRouter router = EventTypeRouter.builder()
+            .on(PaymentCompletedEvent.class, this::prepareDelivery)
+            .build();
 
     /**
      * 결제 완료 이벤트 수신 → 배송 준비 시작
@@ -25,13 +42,26 @@ public class PaymentEventConsumer {
      * 예외 처리 개선:
      * - try-catch 제거: 재시도 가능한 예외는 자동 재시도 (CommonErrorHandler)
      * - 재시도 후에도 실패 시 DLQ(Dead Letter Queue)로 이동
+     * - 재전달된 이벤트는 건너뜀 (멱등 처리 - 배송 중복 생성 방지)
      */
     @KafkaListener(
             topics = "payment-events",
-            groupId = "delivery-service-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            groupId = GROUP_ID,
+            containerFactory = "kafkaListenerContainerFactory",
+            properties = EventTypeRouter.RAW_VALUE_DESERIALIZER
     )
-    public void handlePaymentCompleted(PaymentCompletedEvent event) {
+    @Transactional
+    public void handlePaymentCompleted(ConsumerRecord<String, byte[]> record) {
+        if (!router.isSubscribed(record)) {
+            return;
+        }
+        if (!idempotentConsumerStore.tryAcquire(GROUP_ID, EventTypeRouter.headerValue(record, EventHeaders.EVENT_ID))) {
+            return;
+        }
+        router.route(record);
+    }
+
+    private void prepareDelivery(PaymentCompletedEvent event) {
         log.info("📩 [Kafka Consumer] 결제 완료 이벤트 수신 - orderId: {}, 배송 준비 시작",
                 event.getOrderId());
 
@@ -40,5 +70,8 @@ public class PaymentEventConsumer {
 
         // 이벤트 발행은 트랜잭션 커밋 후 (TransactionalEventListener 사용 권장)
         deliveryEventProducer.publishDeliveryPrepared(delivery);
+
+        // 배송 시작 예약 (물류센터 출고 시뮬레이션) - 같은 트랜잭션에서 delivery_task 저장
+        deliveryTaskScheduler.schedule(delivery, DeliveryTask.TaskType.START, deliveryTaskConfig.getStartDelay());
     }
 }
@@ -0,0 +1,54 @@
+package com.example.delivery.repository;
+
+import com.example.delivery.entity.DeliveryTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DeliveryTaskRepository extends JpaRepository<DeliveryTask, Long> {
+
+    /**
+     * 이 인스턴스가 예약한 작업 중 적재 구간 (from, to]에 실행할 작업 (dueAt 순, keyset 페이지)
+     * - 같은 dueAt은 id로 이어서 조회
+     */
+    @Query("SELECT t FROM DeliveryTask t WHERE t.owner = :owner AND t.dueAt <= :to " +
+            "AND (t.dueAt > :from OR (t.dueAt = :from AND t.id > :afterId)) " +
+            "ORDER BY t.dueAt, t.id")
+    List<DeliveryTask> findWindow(@Param("owner") String owner,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("afterId") Long afterId,
+                                  @Param("to") LocalDateTime to,
+                                  Pageable pageable);
+
+    /**
+     * 마감이 한참 지난 작업 (인스턴스 재시작/장애로 휠에서 사라진 작업, 소유 인스턴스 무관)
+     * - (from, afterId) 이후부터 dueAt, id 순 keyset 페이지
+     */
+    @Query("SELECT t FROM DeliveryTask t WHERE t.dueAt < :before " +
+            "AND (t.dueAt > :from OR (t.dueAt = :from AND t.id > :afterId)) " +
+            "ORDER BY t.dueAt, t.id")
+    List<DeliveryTask> findOverdue(@Param("from") LocalDateTime from,
+                                   @Param("afterId") Long afterId,
+                                   @Param("before") LocalDateTime before,
+                                   Pageable pageable);
+
+    /**
+     * 실행할 작업 잠금 (FOR UPDATE SKIP LOCKED)
+     * - 다른 인스턴스가 같은 작업을 실행 중이면 빈 결과 → 건너뜀
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM DeliveryTask t WHERE t.id = :id")
+    Optional<DeliveryTask> findByIdForUpdate(@Param("id") Long id);
+}
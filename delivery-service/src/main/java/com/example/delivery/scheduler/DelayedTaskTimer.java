@@ -0,0 +1,100 @@
+package com.example.delivery.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 지연 작업 타이머 (계층형 타이밍 휠 + 타이머 스레드 1개)
+ * - 대기 중인 작업은 스레드를 점유하지 않음 (Thread.sleep 대체)
+ * - 실행 시각이 된 작업은 executor로 넘김
+ * - 재시작 시 사라지므로 영속 대상은 DB에 저장해 두고 여기에는 실행 시각 알림만 등록
+ */
+@Slf4j
+public class DelayedTaskTimer implements AutoCloseable {
+
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final Executor executor;
+    private final DelayQueue<TimingWheel.Bucket> queue = new DelayQueue<>();
+    private final TimingWheel timingWheel;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread ticker;
+    private volatile boolean running = true;
+
+    public DelayedTaskTimer(String name, long tickMs, int wheelSize, Executor executor) {
+        this.executor = executor;
+        this.timingWheel = new TimingWheel(tickMs, wheelSize, System.currentTimeMillis(), queue);
+        this.ticker = new Thread(this::runTicker, name);
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    /**
+     * @param dueAtMs 실행 시각 (epoch ms) - 이미 지났으면 바로 실행
+     */
+    public void schedule(long dueAtMs, Runnable task) {
+        pending.incrementAndGet();
+        TimingWheel.Entry entry = new TimingWheel.Entry(dueAtMs, () -> {
+            pending.decrementAndGet();
+            task.run();
+        });
+        lock.readLock().lock();
+        try {
+            addOrRun(entry);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 등록 후 아직 실행되지 않은 작업 수
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    private void addOrRun(TimingWheel.Entry entry) {
+        if (!timingWheel.add(entry)) {
+            executor.execute(entry.task);
+        }
+    }
+
+    private void runTicker() {
+        while (running) {
+            try {
+                TimingWheel.Bucket bucket = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (bucket == null) {
+                    continue;
+                }
+                lock.writeLock().lock();
+                try {
+                    // 같은 시각에 만료된 칸을 모두 처리 (상위 휠 칸은 하위 휠로 재배치)
+                    while (bucket != null) {
+                        timingWheel.advanceClock(bucket.getExpiration());
+                        bucket.flush(this::addOrRun);
+                        bucket = queue.poll();
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("❌ [Delayed Task] 타이머 처리 실패", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        ticker.interrupt();
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.delivery.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (Kafka Purgatory 방식)
+ * - 1단계: tickMs 간격 wheelSize칸 → 범위를 넘는 작업은 상위 휠(칸 크기 = 하위 휠 전체 범위)에 넣고,
+ *   시간이 흘러 범위 안으로 들어오면 하위 휠로 다시 배치
+ * - 등록 O(1), 칸(bucket) 단위로만 DelayQueue에 올리므로 대기 작업 수와 무관하게 타이머 스레드 1개
+ *
+ * 동시성: add는 여러 스레드, advanceClock은 타이머 스레드 1개 (DelayedTaskTimer의 읽기/쓰기 락으로 보호)
+ */
+class TimingWheel {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final Bucket[] buckets;
+    private final DelayQueue<Bucket> queue;
+
+    private long currentTime;  // tickMs 단위로 내림
+    private volatile TimingWheel overflowWheel;
+
+    TimingWheel(long tickMs, int wheelSize, long startMs, DelayQueue<Bucket> queue) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.queue = queue;
+        this.currentTime = startMs - (startMs % tickMs);
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * @return false면 이미 실행 시각 (호출자가 바로 실행)
+     */
+    boolean add(Entry entry) {
+        long expiration = entry.expirationMs;
+        if (expiration < currentTime + tickMs) {
+            return false;
+        }
+        if (expiration < currentTime + interval) {
+            long virtualId = expiration / tickMs;
+            Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+            bucket.add(entry);
+            // 칸이 새 주기로 재사용될 때만 DelayQueue에 다시 올림
+            if (bucket.setExpiration(virtualId * tickMs)) {
+                queue.offer(bucket);
+            }
+            return true;
+        }
+        return overflowWheel().add(entry);
+    }
+
+    /**
+     * 만료된 칸의 시각까지 시계를 진행 (상위 휠 포함)
+     */
+    void advanceClock(long timeMs) {
+        if (timeMs >= currentTime + tickMs) {
+            currentTime = timeMs - (timeMs % tickMs);
+            TimingWheel overflow = overflowWheel;
+            if (overflow != null) {
+                overflow.advanceClock(currentTime);
+            }
+        }
+    }
+
+    private TimingWheel overflowWheel() {
+        TimingWheel overflow = overflowWheel;
+        if (overflow == null) {
+            synchronized (this) {
+                overflow = overflowWheel;
+                if (overflow == null) {
+                    overflow = new TimingWheel(interval, wheelSize, currentTime, queue);
+                    overflowWheel = overflow;
+                }
+            }
+        }
+        return overflow;
+    }
+
+    /**
+     * 예약 작업
+     */
+    static final class Entry {
+        final long expirationMs;
+        final Runnable task;
+
+        Entry(long expirationMs, Runnable task) {
+            this.expirationMs = expirationMs;
+            this.task = task;
+        }
+    }
+
+    /**
+     * 휠의 한 칸 - 같은 tick에 만료되는 작업 묶음
+     */
+    static final class Bucket implements Delayed {
+
+        private final List<Entry> entries = new ArrayList<>();
+        private long expiration = -1;
+
+        synchronized void add(Entry entry) {
+            entries.add(entry);
+        }
+
+        /**
+         * @return 만료 시각이 바뀌었으면 true (DelayQueue 재등록 필요)
+         */
+        synchronized boolean setExpiration(long expirationMs) {
+            if (expiration == expirationMs) {
+                return false;
+            }
+            expiration = expirationMs;
+            return true;
+        }
+
+        synchronized long getExpiration() {
+            return expiration;
+        }
+
+        /**
+         * 칸을 비우고 작업을 하나씩 넘김 (하위 휠 재배치 또는 실행)
+         */
+        void flush(Consumer<Entry> consumer) {
+            List<Entry> drained;
+            synchronized (this) {
+                drained = new ArrayList<>(entries);
+                entries.clear();
+                expiration = -1;
+            }
+            drained.forEach(consumer);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((Bucket) other).getExpiration());
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.delivery.service;
+
+import com.example.delivery.config.DeliveryTaskConfig;
+import com.example.delivery.entity.Delivery;
+import com.example.delivery.entity.DeliveryTask;
+import com.example.delivery.entity.DeliveryTask.TaskType;
+import com.example.delivery.repository.DeliveryRepository;
+import com.example.delivery.repository.DeliveryTaskRepository;
+import com.example.delivery.scheduler.DelayedTaskTimer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배송 상태 전이 예약 (배송 준비 → 시작 → 완료)
+ * - 예약은 delivery_task 행으로 저장 (상태 변경과 같은 트랜잭션) → 재시작/장애에도 유실 없음
+ * - lookahead 안에 실행할 작업만 메모리 타이밍 휠에 적재 → 대기 중에는 스레드/DB 커넥션을 잡지 않음
+ * - 실행 시각이 되면 worker 스레드가 행을 잠그고(SKIP LOCKED) 상태 전이 + 행 삭제를 한 트랜잭션으로 처리
+ *   → 여러 인스턴스가 같은 작업을 가져가도 1번만 실행
+ * - 마감 후 overdue-grace가 지나도 남은 작업은 다른 인스턴스가 가져가서 실행 (인스턴스 장애 복구)
+ */
+@Slf4j
+@Component
+public class DeliveryTaskScheduler implements SmartLifecycle {
+
+    private static final LocalDateTime LOAD_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final DeliveryTaskRepository deliveryTaskRepository;
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryService deliveryService;
+    private final DeliveryTaskConfig config;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    /**
+     * 휠에 등록된 작업 id (DB 적재 / 커밋 후 등록 중복 방지)
+     */
+    private final Set<Long> scheduledIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * DB에서 휠로 적재를 마친 실행 시각 상한 - 이 시각 이전 작업은 커밋 후 바로 휠에 등록
+     */
+    private volatile LocalDateTime loadedUntil = LOAD_START;
+
+    private final ExecutorService workers;
+    private final DelayedTaskTimer timer;
+    private ScheduledExecutorService loader;
+    private volatile boolean running;
+
+    public DeliveryTaskScheduler(DeliveryTaskRepository deliveryTaskRepository,
+                                 DeliveryRepository deliveryRepository,
+                                 DeliveryService deliveryService,
+                                 DeliveryTaskConfig config,
+                                 PlatformTransactionManager transactionManager) {
+        this.deliveryTaskRepository = deliveryTaskRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.deliveryService = deliveryService;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nodeId = StringUtils.hasText(config.getNodeId()) ? config.getNodeId() : UUID.randomUUID().toString();
+        if (nodeId.length() > DeliveryTask.OWNER_MAX_LENGTH) {
+            throw new IllegalStateException("delivery.task.node-id는 " + DeliveryTask.OWNER_MAX_LENGTH
+                    + "자 이하여야 합니다: " + nodeId);
+        }
+        // Kafka Listener가 먼저 시작되어 예약할 수 있으므로 타이머는 생성 시점에 준비
+        this.workers = Executors.newFixedThreadPool(config.getWorkerThreads(), r -> new Thread(r, "delivery-task-worker"));
+        this.timer = new DelayedTaskTimer("delivery-task-timer", config.getTickMs(), config.getWheelSize(), workers);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        loader = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "delivery-task-loader"));
+        loader.scheduleWithFixedDelay(this::load, 0, config.getLoadIntervalMs(), TimeUnit.MILLISECONDS);
+
+        log.info("🚚 [Delivery Task] 스케줄러 시작 - nodeId: {}, lookahead: {}, workers: {}",
+                nodeId, config.getLookahead(), config.getWorkerThreads());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        loader.shutdownNow();
+        timer.close();
+        workers.shutdownNow();  // 실행 전 작업은 DB에 남아 재시작 후 다시 적재
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 상태 전이 예약 (호출자 트랜잭션에 참여)
+     * - 커밋 후 이미 적재가 끝난 구간이면 휠에 바로 등록, 아니면 DB 적재 시 등록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void schedule(Delivery delivery, TaskType type, Duration delay) {
+        DeliveryTask task = deliveryTaskRepository.save(
+                new DeliveryTask(delivery.getId(), type, LocalDateTime.now().plus(delay), nodeId));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (!task.getDueAt().isAfter(loadedUntil)) {
+                    register(task.getId(), task.getDueAt());
+                }
+            }
+        });
+    }
+
+    /**
+     * 휠에 올라 있는 작업 수
+     */
+    public int scheduledCount() {
+        return scheduledIds.size();
+    }
+
+    void load() {
+        try {
+            loadWindow();
+            recoverOverdue();
+        } catch (Exception e) {
+            log.error("❌ [Delivery Task] 예약 작업 적재 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 이 인스턴스의 예약 중 (loadedUntil, now + lookahead] 구간을 휠에 적재
+     */
+    private void loadWindow() {
+        LocalDateTime from = loadedUntil;
+        LocalDateTime to = LocalDateTime.now().plus(config.getLookahead());
+        // 조회 전에 상한을 올림 → 조회 이후 커밋되는 예약은 afterCommit에서 직접 등록 (중복은 scheduledIds로 제거)
+        loadedUntil = to;
+        try {
+            LocalDateTime cursorDueAt = from;
+            long cursorId = Long.MAX_VALUE;
+            while (running) {
+                List<DeliveryTask> page = deliveryTaskRepository.findWindow(
+                        nodeId, cursorDueAt, cursorId, to, PageRequest.of(0, config.getLoadBatchSize()));
+                page.forEach(task -> register(task.getId(), task.getDueAt()));
+                if (page.size() < config.getLoadBatchSize()) {
+                    return;
+                }
+                DeliveryTask last = page.get(page.size() - 1);
+                cursorDueAt = last.getDueAt();
+                cursorId = last.getId();
+            }
+        } catch (RuntimeException e) {
+            loadedUntil = from;  // 다음 주기에 같은 구간부터 다시 적재
+            throw e;
+        }
+    }
+
+    /**
+     * 마감이 한참 지난 작업을 가져와 바로 실행 (소유 인스턴스 재시작/장애)
+     * - 끝까지 keyset 페이지로 조회 → 앞쪽 작업이 이미 휠에 있어도(재시도 대기 등) 뒤쪽 작업을 놓치지 않음
+     */
+    private void recoverOverdue() {
+        LocalDateTime before = LocalDateTime.now().minus(config.getOverdueGrace());
+        LocalDateTime cursorDueAt = LOAD_START;
+        long cursorId = Long.MAX_VALUE;
+
+        int recovered = 0;
+        while (running) {
+            List<DeliveryTask> page = deliveryTaskRepository.findOverdue(
+                    cursorDueAt, cursorId, before, PageRequest.of(0, config.getLoadBatchSize()));
+            for (DeliveryTask task : page) {
+                if (register(task.getId(), task.getDueAt())) {
+                    recovered++;
+                }
+            }
+            if (page.size() < config.getLoadBatchSize()) {
+                break;
+            }
+            DeliveryTask last = page.get(page.size() - 1);
+            cursorDueAt = last.getDueAt();
+            cursorId = last.getId();
+        }
+        if (recovered > 0) {
+            log.warn("⚠️ [Delivery Task] 마감 지난 예약 작업 복구 - {}건", recovered);
+        }
+    }
+
+    private boolean register(Long taskId, LocalDateTime dueAt) {
+        if (!scheduledIds.add(taskId)) {
+            return false;
+        }
+        timer.schedule(toEpochMilli(dueAt), () -> fire(taskId));
+        return true;
+    }
+
+    /**
+     * 예약 작업 실행 (worker 스레드)
+     * - 실패 시 retry-backoff 후 재시도 (행은 남아 있으므로 재시작해도 유실 없음)
+     */
+    private void fire(Long taskId) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    deliveryTaskRepository.findByIdForUpdate(taskId).ifPresent(this::execute));
+            scheduledIds.remove(taskId);
+        } catch (Exception e) {
+            log.error("❌ [Delivery Task] 예약 작업 실행 실패 - taskId: {}, {} 후 재시도",
+                    taskId, config.getRetryBackoff(), e);
+            if (running) {
+                timer.schedule(System.currentTimeMillis() + config.getRetryBackoff().toMillis(), () -> fire(taskId));
+            }
+        }
+    }
+
+    private void execute(DeliveryTask task) {
+        Optional<Delivery> delivery = deliveryRepository.findById(task.getDeliveryId());
+        if (delivery.isEmpty()) {
+            log.warn("⚠️ [Delivery Task] 배송 없음 - 예약 작업 삭제, taskId: {}, deliveryId: {}",
+                    task.getId(), task.getDeliveryId());
+        } else if (task.getType() == TaskType.START) {
+            if (deliveryService.startDelivery(delivery.get())) {
+                schedule(delivery.get(), TaskType.COMPLETE, config.getCompleteDelay());
+            }
+        } else {
+            deliveryService.completeDelivery(delivery.get());
+        }
+        deliveryTaskRepository.delete(task);
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
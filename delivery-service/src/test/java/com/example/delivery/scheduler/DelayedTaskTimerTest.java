@@ -0,0 +1,79 @@
+package com.example.delivery.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연 작업 타이머 테스트 (실제 시간)
+ * - 실행 순서, 이른 실행 없음, 상위 휠을 거치는 긴 지연
+ */
+class DelayedTaskTimerTest {
+
+    private final DelayedTaskTimer timer = new DelayedTaskTimer("test-timer", 1, 8, Runnable::run);
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    void 등록_순서와_관계없이_실행_시각_순으로_실행된다() throws Exception {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        long now = System.currentTimeMillis();
+
+        timer.schedule(now + 300, () -> { order.add(3); done.countDown(); });
+        timer.schedule(now + 100, () -> { order.add(1); done.countDown(); });
+        timer.schedule(now + 200, () -> { order.add(2); done.countDown(); });
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly(1, 2, 3);
+        assertThat(timer.pendingCount()).isZero();
+    }
+
+    @Test
+    void 이미_지난_시각은_바로_실행된다() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+
+        timer.schedule(System.currentTimeMillis() - 1_000, done::countDown);
+
+        assertThat(done.await(100, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    void 휠_범위를_넘는_지연도_실행_시각_이전에는_실행되지_않는다() throws Exception {
+        // tick 1ms × 8칸 → 8ms / 64ms / 512ms 상위 휠을 거쳐 내려옴
+        int tasks = 1_000;
+        List<Long> early = new CopyOnWriteArrayList<>();
+        AtomicLong maxLatenessMs = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(tasks);
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < tasks; i++) {
+            long dueAt = now + 20 + ThreadLocalRandom.current().nextLong(700);
+            timer.schedule(dueAt, () -> {
+                long firedAt = System.currentTimeMillis();
+                if (firedAt < dueAt) {
+                    early.add(dueAt);
+                }
+                maxLatenessMs.accumulateAndGet(firedAt - dueAt, Math::max);
+                done.countDown();
+            });
+        }
+        assertThat(timer.pendingCount()).isPositive();
+
+        assertThat(done.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(early).isEmpty();
+        assertThat(timer.pendingCount()).isZero();
+        assertThat(maxLatenessMs.get()).isLessThan(500);
+    }
+}
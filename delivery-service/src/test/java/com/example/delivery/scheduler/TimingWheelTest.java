@@ -0,0 +1,95 @@
+package com.example.delivery.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 타이밍 휠 단위 테스트 (타이머 스레드 없이 DelayQueue를 직접 진행)
+ * - 실행 순서, 실행 tick, 상위 휠(overflow) → 하위 휠 재배치
+ */
+class TimingWheelTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 4;   // 휠 범위: 40ms → 160ms → 640ms → 2560ms ...
+    private static final long START_MS = 1_000;
+
+    private final DelayQueue<TimingWheel.Bucket> queue = new DelayQueue<>();
+    private final TimingWheel wheel = new TimingWheel(TICK_MS, WHEEL_SIZE, START_MS, queue);
+    private final List<long[]> fired = new ArrayList<>();  // [만료 시각, 실행된 칸의 시각]
+
+    @Test
+    void 현재_tick_안의_작업은_바로_실행_대상이다() {
+        assertThat(wheel.add(entry(START_MS + 5))).isFalse();
+        assertThat(wheel.add(entry(START_MS - 100))).isFalse();
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    void 휠_범위_안의_작업은_tick_단위로_내림한_칸에_들어간다() {
+        assertThat(wheel.add(entry(START_MS + 15))).isTrue();
+        assertThat(wheel.add(entry(START_MS + 19))).isTrue();
+
+        assertThat(queue).hasSize(1);  // 같은 칸은 DelayQueue에 한 번만 등록
+        assertThat(queue.peek().getExpiration()).isEqualTo(START_MS + 10);
+    }
+
+    @Test
+    void 범위를_넘는_작업은_상위_휠에서_하위_휠로_내려와_정확한_tick에_실행된다() {
+        long[] expirations = {1_015, 1_045, 1_100, 1_230, 1_239, 1_700, 5_000, 1_020};
+        for (long expiration : expirations) {
+            assertThat(wheel.add(entry(expiration))).isTrue();
+        }
+
+        // 1_040 이상은 상위 휠 칸으로 등록됨 (만료 시각 = 그 휠의 tick 단위로 내림)
+        assertThat(queue.stream().map(TimingWheel.Bucket::getExpiration))
+                .containsExactlyInAnyOrder(1_010L, 1_020L, 1_040L, 1_080L, 1_120L, 1_280L, 2_560L);
+
+        drain();
+
+        assertThat(fired).hasSize(expirations.length);
+        assertThat(fired.stream().mapToLong(f -> f[0]).toArray())
+                .containsExactly(1_015, 1_020, 1_045, 1_100, 1_230, 1_239, 1_700, 5_000);
+        for (long[] f : fired) {
+            assertThat(f[1]).as("만료 시각 %d", f[0]).isEqualTo(f[0] - f[0] % TICK_MS);
+        }
+    }
+
+    @Test
+    void 실행이_끝난_칸은_다음_주기에_다시_사용된다() {
+        // 1_055는 1_015와 같은 칸 인덱스 - 상위 휠에 있다가 1_015 칸이 비워진 뒤 내려옴
+        wheel.add(entry(1_015));
+        wheel.add(entry(1_055));
+        assertThat(queue).hasSize(2);
+
+        drain();
+
+        assertThat(fired.stream().mapToLong(f -> f[0]).toArray()).containsExactly(1_015, 1_055);
+        assertThat(fired.stream().mapToLong(f -> f[1]).toArray()).containsExactly(1_010, 1_050);
+    }
+
+    /**
+     * DelayedTaskTimer의 타이머 스레드와 같은 방식으로 진행 (실제 시간 대기 없이 가장 빠른 칸부터)
+     */
+    private void drain() {
+        TimingWheel.Bucket bucket;
+        while ((bucket = queue.peek()) != null) {
+            queue.remove(bucket);
+            long bucketTime = bucket.getExpiration();
+            wheel.advanceClock(bucketTime);
+            bucket.flush(entry -> {
+                if (!wheel.add(entry)) {
+                    fired.add(new long[]{entry.expirationMs, bucketTime});
+                }
+            });
+        }
+    }
+
+    private static TimingWheel.Entry entry(long expirationMs) {
+        return new TimingWheel.Entry(expirationMs, () -> { });
+    }
+}
@@ -16,12 +16,16 @@ import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.reflect.Method;
 
 /**
  * 분산 락 AOP
  * - @DistributedLock 어노테이션이 붙은 메서드에 Redis 분산 락 적용
+ * - 트랜잭션 안에서 호출되면 커밋/롤백 이후에 락 해제
+ *   (커밋 전에 락을 풀면 다음 요청이 커밋되지 않은 이전 값을 읽어 갱신 손실 발생)
  */
 @Slf4j
 @Aspect
@@ -63,13 +67,32 @@ public class DistributedLockAop {
             return joinPoint.proceed();
 
         } finally {
-            if (acquired && lock.isHeldByCurrentThread()) {
-                lock.unlock();
-                log.info("🔓 [Distributed Lock] 락 해제 완료 - key: {}", lockKey);
+            if (acquired) {
+                unlockAfterTransaction(lock, lockKey);
             }
         }
     }
 
+    private void unlockAfterTransaction(RLock lock, String lockKey) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    unlock(lock, lockKey);
+                }
+            });
+            return;
+        }
+        unlock(lock, lockKey);
+    }
+
+    private void unlock(RLock lock, String lockKey) {
+        if (lock.isHeldByCurrentThread()) {
+            lock.unlock();
+            log.info("🔓 [Distributed Lock] 락 해제 완료 - key: {}", lockKey);
+        }
+    }
+
     /**
      * SpEL 표현식 파싱하여 락 키 생성
      * 예: "inventory:lock:#productId" → "inventory:lock:1"
@@ -0,0 +1,26 @@
+package com.example.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 주문 이벤트 소비 방식 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "inventory.consumer")
+public class InventoryConsumerConfig {
+
+    /**
+     * 배치 리스너 사용 여부 (기본: 단건 리스너)
+     */
+    private boolean batchEnabled = false;
+
+    /**
+     * 배치 리스너가 한 번의 poll로 가져올 최대 레코드 수
+     */
+    private int maxPollRecords = 500;
+}
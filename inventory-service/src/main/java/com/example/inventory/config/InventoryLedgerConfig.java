@@ -0,0 +1,70 @@
+package com.example.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 핫 상품 인메모리 재고 원장(Ledger) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "inventory.ledger")
+public class InventoryLedgerConfig {
+
+    /**
+     * 원장 사용 여부 (기본: 비활성화)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 원장으로 관리할 핫 상품 ID 목록 (Top-N)
+     */
+    private List<Long> hotProductIds = new ArrayList<>();
+
+    /**
+     * DB 반영(write-behind) 주기 (ms)
+     */
+    private long flushIntervalMs = 200;
+
+    /**
+     * 한 번에 DB에 반영할 최대 원장 항목 수
+     */
+    private int flushBatchSize = 5000;
+
+    /**
+     * 복구 시 마지막 반영 시각 이전으로 되돌아가 다시 읽을 이벤트 구간 (분)
+     */
+    private long recoveryLookbackMinutes = 5;
+
+    /**
+     * 반영 이력(journal) 보관 시간 (시간)
+     * - 상품별 (마지막 반영 시각 - 복구 구간) 이전 이력만 삭제되므로 복구에 필요한 이력은 항상 남음
+     */
+    private long journalRetentionHours = 24;
+
+    /**
+     * 반영 이력 정리 주기 (ms)
+     */
+    private long journalSweepIntervalMs = 600_000;
+
+    /**
+     * 인스턴스 식별자 (비우면 기동마다 새로 생성 - 재시작 시 이전 소유 기간 만료까지 대기)
+     */
+    private String nodeId;
+
+    /**
+     * 핫 상품 소유 기간 (초) - 갱신이 끊긴 인스턴스의 상품은 이 시간이 지나야 다른 인스턴스가 가져감
+     */
+    private long leaseSeconds = 30;
+
+    /**
+     * 소유 기간 갱신 주기 (ms) - leaseSeconds보다 충분히 짧게
+     */
+    private long leaseRenewIntervalMs = 10_000;
+}
@@ -0,0 +1,21 @@
+package com.example.inventory.config;
+
+import com.example.inventory.strategy.ReservationMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 재고 예약 방식 설정
+ * - LOCK: Redisson 분산 락 (기본값)
+ * - ATOMIC: 조건부 UPDATE (핫딜/플래시 세일용)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "inventory.reservation")
+public class InventoryReservationConfig {
+
+    private ReservationMode mode = ReservationMode.LOCK;
+}
@@ -0,0 +1,42 @@
+package com.example.inventory.config;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Properties;
+
+/**
+ * 배치 리스너용 Kafka Container Factory
+ * - 한 번의 poll 결과(List)를 통째로 리스너에 전달
+ * - 리스너가 BatchListenerFailedException을 던지면 그 레코드 앞까지 오프셋 커밋 후
+ *   실패 레코드부터 1초 간격 3회 재시도 (그 외 예외는 배치 전체 재시도)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class KafkaBatchConsumerConfig {
+
+    private final InventoryConsumerConfig consumerConfig;
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+            ConsumerFactory<String, Object> consumerFactory) {
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(consumerConfig.getMaxPollRecords()));
+        factory.getContainerProperties().setKafkaConsumerProperties(overrides);
+
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, 3L)));
+        return factory;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 원장 소유/반영 시점
+ * - ownedSince: 원장이 이 상품을 관리하기 시작한 시각 (이전 이벤트는 DB 경로로 처리된 것)
+ * - lastFlushedAt: 마지막으로 DB에 반영된 시각
+ * - owner / leaseUntil: 원장을 관리하는 인스턴스와 소유 만료 시각 (한 상품은 한 인스턴스만 소유)
+ */
+@Entity
+@Table(name = "inventory_ledger_checkpoint")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryLedgerCheckpoint {
+
+    @Id
+    private Long productId;
+
+    @Column(nullable = false)
+    private LocalDateTime ownedSince;
+
+    @Column(nullable = false)
+    private LocalDateTime lastFlushedAt;
+
+    @Column(length = 100)
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+}
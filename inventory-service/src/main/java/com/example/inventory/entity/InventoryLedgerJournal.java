@@ -0,0 +1,51 @@
+package com.example.inventory.entity;
+
+import com.example.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원장 반영 이력
+ * - InventoryLedgerFlusher가 재고 변경분을 DB에 반영할 때 같은 트랜잭션으로 기록
+ * - 복구 시 "이미 반영된 주문"을 판별하는 기준
+ */
+@Entity
+@Table(name = "inventory_ledger_journal",
+        indexes = {
+                @Index(name = "idx_ledger_journal_order", columnList = "orderId, entryType"),
+                @Index(name = "idx_ledger_journal_product_flushed", columnList = "productId, flushedAt")  // 보관 기간 정리
+        })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryLedgerJournal {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    /**
+     * 재고 변화량 (예약: 음수, 복구: 양수)
+     */
+    @Column(nullable = false)
+    private Long delta;
+
+    /**
+     * RESERVE / RELEASE
+     */
+    @Column(nullable = false, length = 20)
+    private String entryType;
+
+    @Column(nullable = false)
+    private LocalDateTime flushedAt;
+}
@@ -0,0 +1,49 @@
+package com.example.inventory.factory;
+
+import com.example.inventory.config.InventoryReservationConfig;
+import com.example.inventory.strategy.InventoryReservationStrategy;
+import com.example.inventory.strategy.ReservationMode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설정된 예약 방식(inventory.reservation.mode)에 맞는 전략을 반환하는 Factory
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryReservationStrategyFactory {
+
+    private final List<InventoryReservationStrategy> strategies;
+    private final InventoryReservationConfig reservationConfig;
+    private final Map<ReservationMode, InventoryReservationStrategy> strategyMap = new EnumMap<>(ReservationMode.class);
+
+    @PostConstruct
+    public void init() {
+        for (InventoryReservationStrategy strategy : strategies) {
+            strategyMap.put(strategy.getMode(), strategy);
+        }
+        log.info("[Inventory Service] 재고 예약 방식: {}", reservationConfig.getMode());
+    }
+
+    /**
+     * 설정된 예약 방식의 전략 반환
+     */
+    public InventoryReservationStrategy getStrategy() {
+        return getStrategy(reservationConfig.getMode());
+    }
+
+    public InventoryReservationStrategy getStrategy(ReservationMode mode) {
+        InventoryReservationStrategy strategy = strategyMap.get(mode);
+        if (strategy == null) {
+            throw new IllegalStateException("지원하지 않는 재고 예약 방식입니다: " + mode);
+        }
+        return strategy;
+    }
+}
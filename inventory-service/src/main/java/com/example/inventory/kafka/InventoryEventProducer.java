@@ -3,13 +3,14 @@ package com.example.inventory.kafka;
 import com.example.common.event.InventoryReservationFailedEvent;
 import com.example.common.event.InventoryReservedEvent;
 import com.example.common.event.OrderCreatedEvent;
+import com.example.common.outbox.EventPublisher;
+import com.example.inventory.strategy.ReservationResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
+import java.util.List;
 
 /**
  * Inventory 이벤트 발행
@@ -19,35 +20,19 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class InventoryEventProducer {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventPublisher eventPublisher;
     private static final String TOPIC = "inventory-events";
 
     /**
      * 재고 확보 성공 이벤트 발행
      */
     public void publishInventoryReserved(OrderCreatedEvent orderEvent) {
-        InventoryReservedEvent event = InventoryReservedEvent.builder()
-                .orderId(orderEvent.getOrderId())
-                .productId(orderEvent.getProductId())
-                .productName(orderEvent.getProductName())
-                .quantity(orderEvent.getQuantity())
-                .totalPrice(orderEvent.getTotalPrice())
-                .reservedAt(LocalDateTime.now())
-                .build();
+        InventoryReservedEvent event = toReservedEvent(orderEvent);
 
         log.info("📤 [Kafka Producer] 재고 확보 성공 이벤트 발행 - orderId: {}, productId: {}, topic: {}",
                 event.getOrderId(), event.getProductId(), TOPIC);
 
-        CompletableFuture<org.springframework.kafka.support.SendResult<String, Object>> future =
-                kafkaTemplate.send(TOPIC, event.getOrderId().toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("✅ [Kafka Producer] 재고 확보 성공 이벤트 발행 완료 - orderId: {}", event.getOrderId());
-            } else {
-                log.error("❌ [Kafka Producer] 이벤트 발행 실패 - orderId: {}", event.getOrderId(), ex);
-            }
-        });
+        send(event.getOrderId(), event);
     }
 
     /**
@@ -55,7 +40,62 @@ public class InventoryEventProducer {
      */
     public void publishInventoryReservationFailed(Long orderId, Long productId,
                                                    Integer requestedQuantity, Integer availableQuantity) {
-        InventoryReservationFailedEvent event = InventoryReservationFailedEvent.builder()
+        InventoryReservationFailedEvent event = toReservationFailedEvent(
+                orderId, productId, requestedQuantity, availableQuantity);
+
+        log.info("📤 [Kafka Producer] 재고 확보 실패 이벤트 발행 - orderId: {}, productId: {}, topic: {}",
+                event.getOrderId(), event.getProductId(), TOPIC);
+
+        send(event.getOrderId(), event);
+    }
+
+    /**
+     * 배치 예약 결과 발행 (호출자 트랜잭션에 참여)
+     * - 주문별 성공/실패 이벤트를 모두 발행, 배치가 끝나면 flush() 1회 (Outbox 사용 시 Dispatcher가 배치 전송)
+     */
+    public void publishReservationResults(List<OrderCreatedEvent> orders, List<ReservationResult> results) {
+        for (int i = 0; i < orders.size(); i++) {
+            OrderCreatedEvent order = orders.get(i);
+            ReservationResult result = results.get(i);
+
+            Object event = result.reserved()
+                    ? toReservedEvent(order)
+                    : toReservationFailedEvent(order.getOrderId(), order.getProductId(),
+                            order.getQuantity(), result.availableQuantity());
+
+            send(order.getOrderId(), event);
+        }
+
+        log.info("📤 [Kafka Producer] 재고 예약 결과 일괄 발행 - {}건, topic: {}", orders.size(), TOPIC);
+    }
+
+    /**
+     * 버퍼에 쌓인 결과 이벤트 즉시 전송
+     */
+    public void flush() {
+        eventPublisher.flush();
+    }
+
+    private void send(Long orderId, Object event) {
+        eventPublisher.publish(TOPIC, orderId.toString(), event);
+    }
+
+    private InventoryReservedEvent toReservedEvent(OrderCreatedEvent orderEvent) {
+        return InventoryReservedEvent.builder()
+                .orderId(orderEvent.getOrderId())
+                .productId(orderEvent.getProductId())
+                .productName(orderEvent.getProductName())
+                .quantity(orderEvent.getQuantity())
+                .totalPrice(orderEvent.getTotalPrice())
+                .reservedAt(LocalDateTime.now())
+                .preAuthorized(orderEvent.getPreAuthorize())
+                .build();
+    }
+
+    private InventoryReservationFailedEvent toReservationFailedEvent(Long orderId, Long productId,
+                                                                     Integer requestedQuantity,
+                                                                     Integer availableQuantity) {
+        return InventoryReservationFailedEvent.builder()
                 .orderId(orderId)
                 .productId(productId)
                 .requestedQuantity(requestedQuantity)
@@ -63,19 +103,5 @@ public class InventoryEventProducer {
                 .reason("재고 부족")
                 .failedAt(LocalDateTime.now())
                 .build();
-
-        log.info("📤 [Kafka Producer] 재고 확보 실패 이벤트 발행 - orderId: {}, productId: {}, topic: {}",
-                event.getOrderId(), event.getProductId(), TOPIC);
-
-        CompletableFuture<org.springframework.kafka.support.SendResult<String, Object>> future =
-                kafkaTemplate.send(TOPIC, event.getOrderId().toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("✅ [Kafka Producer] 재고 확보 실패 이벤트 발행 완료 - orderId: {}", event.getOrderId());
-            } else {
-                log.error("❌ [Kafka Producer] 이벤트 발행 실패 - orderId: {}", event.getOrderId(), ex);
-            }
-        });
     }
 }
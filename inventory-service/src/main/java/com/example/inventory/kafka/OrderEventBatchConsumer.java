@@ -0,0 +1,140 @@
+package com.example.inventory.kafka;
+
+import com.example.common.event.EventHeaders;
+import com.example.common.event.OrderCreatedEvent;
+import com.example.common.idempotency.IdempotentConsumerStore;
+import com.example.common.kafka.EventTypeRouter;
+import com.example.inventory.service.InventoryService;
+import com.example.inventory.strategy.ReservationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 생성 이벤트 배치 구독 (inventory.consumer.batch-enabled=true 일 때만 동작)
+ *
+ * 단건 리스너 대비 개선사항:
+ * - poll 결과를 상품별로 묶어 상품당 락/트랜잭션 1회로 처리
+ * - 같은 상품의 주문은 도착 순서대로 선착순 판정 (단건 처리와 동일한 결과)
+ * - 결과 이벤트는 모두 send 후 flush 1회로 발행
+ * - OrderCreated 외 이벤트는 eventType 헤더만 보고 역직렬화 없이 건너뜀
+ *
+ * 부분 실패 처리:
+ * - 상품 그룹마다 멱등 기록(processed_event) + 재고 차감 + 결과 이벤트(Outbox)를 한 트랜잭션으로 커밋
+ * - 그룹이 실패하면 아직 커밋되지 않은 레코드 중 가장 앞 레코드 인덱스로 BatchListenerFailedException
+ *   → 그 앞 레코드는 오프셋 커밋, 그 뒤는 재전달 (이미 커밋된 그룹의 주문은 멱등 기록으로 건너뜀)
+ */
+@Slf4j
+@Component
+public class OrderEventBatchConsumer {
+
+    private static final String GROUP_ID = "inventory-service-group";
+
+    private final InventoryService inventoryService;
+    private final InventoryEventProducer inventoryEventProducer;
+    private final IdempotentConsumerStore idempotentConsumerStore;
+    private final TransactionTemplate transactionTemplate;
+
+    private final EventTypeRouter router = EventTypeRouter.builder()
+            .on(OrderCreatedEvent.class, event -> { })
+            .build();
+
+    public OrderEventBatchConsumer(InventoryService inventoryService,
+                                   InventoryEventProducer inventoryEventProducer,
+                                   IdempotentConsumerStore idempotentConsumerStore,
+                                   PlatformTransactionManager transactionManager) {
+        this.inventoryService = inventoryService;
+        this.inventoryEventProducer = inventoryEventProducer;
+        this.idempotentConsumerStore = idempotentConsumerStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @KafkaListener(
+            id = "inventoryOrderEventBatchListener",
+            topics = "order-events",
+            groupId = GROUP_ID,
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${inventory.consumer.batch-enabled:false}",
+            properties = EventTypeRouter.RAW_VALUE_DESERIALIZER
+    )
+    public void handleOrderCreatedBatch(List<ConsumerRecord<String, byte[]>> records) {
+        List<BatchOrder> orders = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, byte[]> record = records.get(i);
+            if (router.isSubscribed(record) && router.decode(record) instanceof OrderCreatedEvent event) {
+                orders.add(new BatchOrder(i, EventTypeRouter.headerValue(record, EventHeaders.EVENT_ID), event));
+            }
+        }
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        log.info("📩 [Kafka Consumer] 주문 생성 이벤트 배치 수신 - 레코드: {}건, 주문: {}건",
+                records.size(), orders.size());
+
+        // 상품별 그룹핑 (그룹 내부는 도착 순서 유지)
+        Map<Long, List<BatchOrder>> ordersByProduct = new LinkedHashMap<>();
+        for (BatchOrder order : orders) {
+            ordersByProduct.computeIfAbsent(order.event().getProductId(), k -> new ArrayList<>()).add(order);
+        }
+
+        List<BatchOrder> pending = new ArrayList<>(orders);
+        try {
+            for (Map.Entry<Long, List<BatchOrder>> entry : ordersByProduct.entrySet()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> reserveGroup(entry.getKey(), entry.getValue()));
+                } catch (RuntimeException e) {
+                    int failedIndex = pending.stream().mapToInt(BatchOrder::recordIndex).min().orElseThrow();
+                    log.error("❌ [Kafka Consumer] 상품 그룹 재고 확보 실패 - productId: {}, 레코드 {}번부터 재전달",
+                            entry.getKey(), failedIndex, e);
+                    throw new BatchListenerFailedException("상품 그룹 재고 확보 실패: " + entry.getKey(), e, failedIndex);
+                }
+                pending.removeAll(entry.getValue());
+            }
+        } finally {
+            // 이미 커밋된 그룹의 결과는 실패 여부와 관계없이 전송
+            inventoryEventProducer.flush();
+        }
+
+        log.info("✅ [Kafka Consumer] 주문 생성 이벤트 배치 처리 완료 - 주문: {}건, 상품: {}종",
+                orders.size(), ordersByProduct.size());
+    }
+
+    /**
+     * 상품 그룹 1개 처리 (트랜잭션 안)
+     * - 처음 처리하는 주문만 예약 (재전달된 배치에서 이미 커밋된 주문은 제외)
+     */
+    private void reserveGroup(Long productId, List<BatchOrder> group) {
+        List<OrderCreatedEvent> acquired = new ArrayList<>(group.size());
+        for (BatchOrder order : group) {
+            if (idempotentConsumerStore.tryAcquire(GROUP_ID, order.eventId())) {
+                acquired.add(order.event());
+            }
+        }
+        if (acquired.isEmpty()) {
+            return;
+        }
+
+        List<ReservationResult> results = inventoryService.reserveInventoryBatch(productId, acquired);
+        inventoryEventProducer.publishReservationResults(acquired, results);
+
+        long reserved = results.stream().filter(ReservationResult::reserved).count();
+        log.debug("[Kafka Consumer] 상품 그룹 처리 - productId: {}, 성공: {}건, 실패: {}건",
+                productId, reserved, acquired.size() - reserved);
+    }
+
+    /**
+     * @param recordIndex poll 결과(records) 내 위치 - 실패 시 재전달 시작 지점
+     */
+    private record BatchOrder(int recordIndex, byte[] eventId, OrderCreatedEvent event) {
+    }
+}
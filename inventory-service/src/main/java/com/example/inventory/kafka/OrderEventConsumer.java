@@ -1,15 +1,23 @@
 package com.example.inventory.kafka;
 
+import com.example.common.event.EventHeaders;
+import com.example.common.event.OrderCancelledEvent;
 import com.example.common.event.OrderCreatedEvent;
 import com.example.common.event.PaymentFailedEvent;
+import com.example.common.idempotency.IdempotentConsumerStore;
+import com.example.common.kafka.EventTypeRouter;
 import com.example.inventory.service.InventoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Order/Payment 이벤트 구독
+ * - 토픽에 여러 이벤트 타입이 섞여 있으므로 eventType 헤더로 라우팅
+ * - 구독하지 않는 타입(OrderCancelled, PaymentCompleted 등)은 역직렬화 없이 건너뜀
  */
 @Slf4j
 @Component
@@ -18,6 +26,31 @@ public class OrderEventConsumer {
 
     private final InventoryService inventoryService;
     private final InventoryEventProducer inventoryEventProducer;
+    private final IdempotentConsumerStore idempotentConsumerStore;
+
+    private static final String GROUP_ID = "inventory-service-group";
+
+    /**
+     * 보상 요청(주문 취소) 전용 그룹 - 배치 모드에서도 항상 동작
+     */
+    private static final String COMPENSATION_GROUP_ID = "inventory-compensation-group";
+
+    /**
+     * 주문별 재고 복구 1회 보장용 키 공간 (결제 실패 / Saga 시간 초과 경로가 겹쳐도 이중 복구 방지)
+     */
+    private static final String RELEASE_KEY_SPACE = "inventory-release";
+
+    private final EventTypeRouter orderEventRouter = EventTypeRouter.builder()
+            .on(OrderCreatedEvent.class, this::reserve)
+            .build();
+
+    private final EventTypeRouter paymentEventRouter = EventTypeRouter.builder()
+            .on(PaymentFailedEvent.class, this::release)
+            .build();
+
+    private final EventTypeRouter compensationRouter = EventTypeRouter.builder()
+            .on(OrderCancelledEvent.class, this::compensate)
+            .build();
 
     /**
      * 주문 생성 이벤트 수신 → 재고 확보 시도
@@ -25,18 +58,35 @@ public class OrderEventConsumer {
      * 개선사항:
      * - DB/Redis 연결 실패 시 자동 재시도 (ErrorHandler)
      * - 비즈니스 실패(재고 부족)는 명시적 처리
+     * - 재전달된 이벤트는 건너뜀 (멱등 처리 - 재고 이중 차감 방지)
+     *
+     * inventory.consumer.batch-enabled=true 이면 OrderEventBatchConsumer가 대신 처리
      */
     @KafkaListener(
             topics = "order-events",
-            groupId = "inventory-service-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            groupId = GROUP_ID,
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{!${inventory.consumer.batch-enabled:false}}",
+            properties = EventTypeRouter.RAW_VALUE_DESERIALIZER
     )
-    public void handleOrderCreated(OrderCreatedEvent event) {
+    @Transactional
+    public void handleOrderCreated(ConsumerRecord<String, byte[]> record) {
+        if (!orderEventRouter.isSubscribed(record)) {
+            return;
+        }
+        if (!idempotentConsumerStore.tryAcquire(GROUP_ID, EventTypeRouter.headerValue(record, EventHeaders.EVENT_ID))) {
+            return;
+        }
+        orderEventRouter.route(record);
+    }
+
+    private void reserve(OrderCreatedEvent event) {
         log.info("📩 [Kafka Consumer] 주문 생성 이벤트 수신 - orderId: {}, productId: {}, quantity: {}",
                 event.getOrderId(), event.getProductId(), event.getQuantity());
 
         // 분산 락 획득 실패나 DB 연결 실패 시 자동 재시도
         boolean success = inventoryService.reserveInventory(
+                event.getOrderId(),
                 event.getProductId(),
                 event.getQuantity()
         );
@@ -60,22 +110,75 @@ public class OrderEventConsumer {
      * 결제 실패 이벤트 수신 → 재고 복구 (보상 트랜잭션)
      *
      * 보상 트랜잭션은 반드시 성공해야 하므로 자동 재시도 적용
+     * 재전달된 이벤트는 건너뜀 (멱등 처리 - 재고 이중 복구 방지)
      */
     @KafkaListener(
             topics = "payment-events",
-            groupId = "inventory-service-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            groupId = GROUP_ID,
+            containerFactory = "kafkaListenerContainerFactory",
+            properties = EventTypeRouter.RAW_VALUE_DESERIALIZER
     )
-    public void handlePaymentFailed(PaymentFailedEvent event) {
+    @Transactional
+    public void handlePaymentFailed(ConsumerRecord<String, byte[]> record) {
+        if (!paymentEventRouter.isSubscribed(record)) {
+            return;
+        }
+        if (!idempotentConsumerStore.tryAcquire(GROUP_ID, EventTypeRouter.headerValue(record, EventHeaders.EVENT_ID))) {
+            return;
+        }
+        paymentEventRouter.route(record);
+    }
+
+    private void release(PaymentFailedEvent event) {
         log.info("📩 [Kafka Consumer] 결제 실패 이벤트 수신 - orderId: {}, 재고 복구 시작",
                 event.getOrderId());
 
-        // 재고 복구 실패 시 자동 재시도 (보상 트랜잭션은 반드시 성공해야 함)
-        inventoryService.releaseInventory(
-                event.getProductId(),
-                event.getQuantity()
-        );
+        releaseOnce(event.getOrderId(), event.getProductId(), event.getQuantity());
+    }
+
+    /**
+     * 주문 취소 이벤트 수신 → 보상 요청(releaseQuantity)이 있으면 재고 복구
+     * - Saga 시간 초과로 취소된 주문의 재고를 돌려받는 경로
+     */
+    @KafkaListener(
+            topics = "order-events",
+            groupId = COMPENSATION_GROUP_ID,
+            containerFactory = "kafkaListenerContainerFactory",
+            properties = EventTypeRouter.RAW_VALUE_DESERIALIZER
+    )
+    @Transactional
+    public void handleOrderCancelled(ConsumerRecord<String, byte[]> record) {
+        if (!compensationRouter.isSubscribed(record)) {
+            return;
+        }
+        if (!idempotentConsumerStore.tryAcquire(COMPENSATION_GROUP_ID, EventTypeRouter.headerValue(record, EventHeaders.EVENT_ID))) {
+            return;
+        }
+        compensationRouter.route(record);
+    }
+
+    private void compensate(OrderCancelledEvent event) {
+        if (event.getReleaseQuantity() == null) {
+            return;
+        }
+        log.info("📩 [Kafka Consumer] 주문 취소(보상 요청) 이벤트 수신 - orderId: {}, reason: {}, 재고 복구 시작",
+                event.getOrderId(), event.getReason());
+
+        releaseOnce(event.getOrderId(), event.getProductId(), event.getReleaseQuantity());
+    }
+
+    /**
+     * 주문당 한 번만 재고 복구
+     * 재고 복구 실패 시 자동 재시도 (보상 트랜잭션은 반드시 성공해야 함)
+     */
+    private void releaseOnce(Long orderId, Long productId, Integer quantity) {
+        if (!idempotentConsumerStore.tryAcquire(RELEASE_KEY_SPACE, orderId.toString())) {
+            log.info("[보상 트랜잭션] 이미 재고 복구된 주문 - orderId: {}", orderId);
+            return;
+        }
+
+        inventoryService.releaseInventory(orderId, productId, quantity);
 
-        log.info("✅ [보상 트랜잭션] 재고 복구 완료 - orderId: {}", event.getOrderId());
+        log.info("✅ [보상 트랜잭션] 재고 복구 완료 - orderId: {}", orderId);
     }
 }
@@ -0,0 +1,160 @@
+package com.example.inventory.ledger;
+
+import com.example.inventory.ledger.LedgerEntry.LedgerEntryType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 핫 상품 인메모리 재고 원장
+ * - 상품별 가용 재고를 primitive long 슬롯에 보관하고 CAS로 예약/복구
+ * - 슬롯은 캐시 라인 단위로 떨어뜨려(striping) 서로 다른 상품 간 false sharing 방지
+ * - 변경분은 큐에 쌓였다가 InventoryLedgerFlusher가 주기적으로 DB에 일괄 반영 (write-behind)
+ * - 트랜잭션 안에서 호출되면 커밋된 변경분만 큐에 넣음
+ *   예약은 즉시 차감 후 롤백 시 되돌리고, 복구는 커밋 후에 더함 (롤백된 복구분이 다른 주문에 팔리지 않도록)
+ *
+ * 주의: 원장은 인스턴스 로컬 상태이므로 핫 상품은 한 인스턴스만 소유해야 함
+ * (여러 인스턴스가 같은 상품을 원장으로 관리하면 초과 판매 발생 → InventoryLedgerLease가 기동 시 DB lease로 강제)
+ */
+@Slf4j
+@Component
+public class InventoryLedger {
+
+    /**
+     * 64바이트 캐시 라인 = long 8개 → 슬롯 간격
+     */
+    private static final int STRIPE = 8;
+
+    private volatile Map<Long, Integer> slotIndex = Map.of();
+    private volatile AtomicLongArray slots = new AtomicLongArray(0);
+    private final Queue<LedgerEntry> unflushed = new ConcurrentLinkedQueue<>();
+
+    /**
+     * DB 재고로 원장 초기화 (복구 완료 후 1회 호출)
+     */
+    public void load(Map<Long, Integer> quantities) {
+        Map<Long, Integer> index = new HashMap<>();
+        AtomicLongArray newSlots = new AtomicLongArray(quantities.size() * STRIPE);
+
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            index.put(entry.getKey(), i);
+            newSlots.set(i * STRIPE, entry.getValue());
+            i++;
+        }
+
+        this.slots = newSlots;
+        this.slotIndex = Map.copyOf(index);
+        log.info("📒 [Inventory Ledger] 원장 로드 완료 - 상품 수: {}", quantities.size());
+    }
+
+    /**
+     * 원장으로 관리되는 상품인지 여부
+     */
+    public boolean isTracked(Long productId) {
+        return slotIndex.containsKey(productId);
+    }
+
+    /**
+     * 재고 예약 (CAS)
+     * @return 성공 여부 (재고 부족 시 false)
+     */
+    public boolean reserve(Long orderId, Long productId, int quantity) {
+        int offset = offsetOf(productId);
+        long current;
+        do {
+            current = slots.get(offset);
+            if (current < quantity) {
+                return false;
+            }
+        } while (!slots.compareAndSet(offset, current, current - quantity));
+
+        LedgerEntry entry = new LedgerEntry(orderId, productId, -quantity, LedgerEntryType.RESERVE);
+        afterTransaction(() -> unflushed.add(entry), () -> slots.addAndGet(offset, quantity));
+        return true;
+    }
+
+    /**
+     * 재고 복구 (보상 트랜잭션)
+     * - 트랜잭션 안이면 커밋 후 가용 재고에 더함
+     */
+    public void release(Long orderId, Long productId, int quantity) {
+        int offset = offsetOf(productId);
+        LedgerEntry entry = new LedgerEntry(orderId, productId, quantity, LedgerEntryType.RELEASE);
+        afterTransaction(() -> {
+            slots.addAndGet(offset, quantity);
+            unflushed.add(entry);
+        }, () -> { });
+    }
+
+    /**
+     * 현재 가용 재고
+     */
+    public long getAvailable(Long productId) {
+        return slots.get(offsetOf(productId));
+    }
+
+    /**
+     * DB에 반영할 변경분을 최대 maxEntries개까지 꺼냄
+     */
+    public List<LedgerEntry> drain(int maxEntries) {
+        List<LedgerEntry> entries = new ArrayList<>();
+        LedgerEntry entry;
+        while (entries.size() < maxEntries && (entry = unflushed.poll()) != null) {
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * 반영 실패한 변경분을 다시 큐에 넣음 (다음 주기에 재시도)
+     */
+    public void requeue(List<LedgerEntry> entries) {
+        unflushed.addAll(entries);
+    }
+
+    /**
+     * 반영 대기 중인 변경분 수
+     */
+    public int pendingCount() {
+        return unflushed.size();
+    }
+
+    /**
+     * 호출자 트랜잭션 결과에 맞춰 실행 (트랜잭션 밖이면 바로 onCommit)
+     * - 롤백된 변경분은 Kafka 이벤트도 남지 않으므로 큐에 넣으면 안 됨 (DB와 원장이 어긋남)
+     */
+    private void afterTransaction(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    onRollback.run();
+                } else {
+                    onCommit.run();
+                }
+            }
+        });
+    }
+
+    private int offsetOf(Long productId) {
+        Integer index = slotIndex.get(productId);
+        if (index == null) {
+            throw new IllegalArgumentException("원장으로 관리되지 않는 상품입니다: " + productId);
+        }
+        return index * STRIPE;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.inventory.ledger;
+
+import com.example.inventory.config.InventoryLedgerConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 원장 변경분 write-behind
+ * - flush-interval-ms 주기로 쌓인 변경분을 꺼내 DB에 일괄 반영
+ * - 반영 실패 시 변경분을 원장 큐에 되돌려 다음 주기에 재시도
+ * - journal-sweep-interval-ms 주기로 복구에 쓰이지 않는 반영 이력(journal) 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "inventory.ledger", name = "enabled", havingValue = "true")
+public class InventoryLedgerFlusher {
+
+    private final InventoryLedger ledger;
+    private final InventoryLedgerWriter ledgerWriter;
+    private final InventoryLedgerConfig ledgerConfig;
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.flush-interval-ms:200}")
+    public void flush() {
+        List<LedgerEntry> entries = ledger.drain(ledgerConfig.getFlushBatchSize());
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            ledgerWriter.write(entries);
+            log.debug("📒 [Inventory Ledger] DB 반영 완료 - {}건, 대기: {}건", entries.size(), ledger.pendingCount());
+        } catch (Exception e) {
+            ledger.requeue(entries);
+            log.error("❌ [Inventory Ledger] DB 반영 실패, 다음 주기에 재시도 - {}건", entries.size(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${inventory.ledger.journal-sweep-interval-ms:600000}",
+               fixedDelayString = "${inventory.ledger.journal-sweep-interval-ms:600000}")
+    public void sweepJournal() {
+        try {
+            int deleted = ledgerWriter.deleteJournal(
+                    Duration.ofHours(ledgerConfig.getJournalRetentionHours()),
+                    Duration.ofMinutes(ledgerConfig.getRecoveryLookbackMinutes()));
+            if (deleted > 0) {
+                log.info("🧹 [Inventory Ledger] 반영 이력 정리 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("❌ [Inventory Ledger] 반영 이력 정리 실패", e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경분 모두 반영
+     */
+    @PreDestroy
+    public void flushAll() {
+        while (ledger.pendingCount() > 0) {
+            int before = ledger.pendingCount();
+            flush();
+            if (ledger.pendingCount() >= before) {
+                log.error("❌ [Inventory Ledger] 종료 중 반영 실패 - 미반영 {}건은 재시작 시 복구됨", before);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.inventory.ledger;
+
+import com.example.inventory.config.InventoryLedgerConfig;
+import com.example.inventory.entity.InventoryLedgerCheckpoint;
+import com.example.inventory.repository.InventoryLedgerCheckpointRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 핫 상품 원장 소유권 (DB lease)
+ * - 원장은 인스턴스 로컬 상태이므로 같은 상품을 두 인스턴스가 관리하면 초과 판매 발생
+ * - 기동 시 checkpoint 행을 조건부 UPDATE로 선점 (소유자 없음 / 자신 / 소유 기간 만료만)
+ *   → 다른 인스턴스가 소유 중인 핫 상품이 있으면 만료까지 기다렸다가 그래도 못 가져오면 기동 실패
+ * - lease-renew-interval-ms 주기로 소유 기간 연장
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "inventory.ledger", name = "enabled", havingValue = "true")
+public class InventoryLedgerLease {
+
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(1);
+
+    private final InventoryLedgerCheckpointRepository checkpointRepository;
+    private final InventoryLedgerConfig ledgerConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    @Getter
+    private final String nodeId;
+
+    public InventoryLedgerLease(InventoryLedgerCheckpointRepository checkpointRepository,
+                                InventoryLedgerConfig ledgerConfig,
+                                PlatformTransactionManager transactionManager) {
+        this.checkpointRepository = checkpointRepository;
+        this.ledgerConfig = ledgerConfig;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nodeId = StringUtils.hasText(ledgerConfig.getNodeId())
+                ? ledgerConfig.getNodeId() : UUID.randomUUID().toString();
+    }
+
+    /**
+     * 기존 checkpoint 중 다른 인스턴스가 소유하지 않은 상품을 선점
+     * - 핫 상품은 모두 선점해야 함 (이전 소유자의 기간 만료까지 대기)
+     * - 핫 상품이 아닌 다른 인스턴스 소유 상품은 그대로 둠
+     * @return 선점한 checkpoint (이 인스턴스가 복구/정리할 대상)
+     */
+    public List<InventoryLedgerCheckpoint> acquire() {
+        Set<Long> hotProductIds = new HashSet<>(ledgerConfig.getHotProductIds());
+        LocalDateTime deadline = LocalDateTime.now().plusSeconds(ledgerConfig.getLeaseSeconds()).plus(RETRY_INTERVAL);
+
+        while (true) {
+            List<Long> ownedByOthers = new ArrayList<>();
+            List<InventoryLedgerCheckpoint> claimed = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime leaseUntil = now.plusSeconds(ledgerConfig.getLeaseSeconds());
+                List<InventoryLedgerCheckpoint> result = new ArrayList<>();
+                for (InventoryLedgerCheckpoint checkpoint : checkpointRepository.findAll()) {
+                    if (checkpointRepository.claim(checkpoint.getProductId(), nodeId, now, leaseUntil) == 1) {
+                        result.add(checkpoint);
+                    } else if (hotProductIds.contains(checkpoint.getProductId())) {
+                        ownedByOthers.add(checkpoint.getProductId());
+                    }
+                }
+                if (!ownedByOthers.isEmpty()) {
+                    status.setRollbackOnly();  // 일부만 선점한 상태로 남기지 않음
+                }
+                return result;
+            });
+
+            if (ownedByOthers.isEmpty()) {
+                log.info("📒 [Inventory Ledger] 원장 소유권 선점 - nodeId: {}, 상품: {}개", nodeId, claimed.size());
+                return claimed;
+            }
+            if (LocalDateTime.now().isAfter(deadline)) {
+                throw new IllegalStateException("다른 인스턴스가 원장으로 관리 중인 핫 상품이 있습니다: " + ownedByOthers
+                        + " (inventory.ledger.hot-product-ids는 인스턴스마다 겹치지 않아야 합니다)");
+            }
+            log.warn("⚠️ [Inventory Ledger] 다른 인스턴스가 소유 중인 핫 상품 - {}, 소유 기간 만료 대기", ownedByOthers);
+            sleep();
+        }
+    }
+
+    /**
+     * 새 checkpoint의 소유 만료 시각
+     */
+    public LocalDateTime newLeaseUntil() {
+        return LocalDateTime.now().plusSeconds(ledgerConfig.getLeaseSeconds());
+    }
+
+    @Scheduled(initialDelayString = "${inventory.ledger.lease-renew-interval-ms:10000}",
+               fixedDelayString = "${inventory.ledger.lease-renew-interval-ms:10000}")
+    public void renew() {
+        try {
+            Integer renewed = transactionTemplate.execute(status -> checkpointRepository.renew(nodeId, newLeaseUntil()));
+            int owned = new HashSet<>(ledgerConfig.getHotProductIds()).size();
+            if (renewed == null || renewed < owned) {
+                log.error("❌ [Inventory Ledger] 원장 소유권 상실 - nodeId: {}, 소유: {}개 / 핫 상품: {}개 "
+                        + "(소유 기간 동안 갱신 실패 → 다른 인스턴스가 가져감)", nodeId, renewed, owned);
+            }
+        } catch (Exception e) {
+            log.error("❌ [Inventory Ledger] 원장 소유 기간 연장 실패 - nodeId: {}", nodeId, e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(RETRY_INTERVAL.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("원장 소유권 선점 대기 중단", e);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.inventory.ledger;
+
+import com.example.common.event.InventoryReservedEvent;
+import com.example.common.event.OrderCancelledEvent;
+import com.example.common.event.PaymentFailedEvent;
+import com.example.common.outbox.OutboxEvent;
+import com.example.common.outbox.OutboxEventRepository;
+import com.example.inventory.config.InventoryLedgerConfig;
+import com.example.inventory.entity.Inventory;
+import com.example.inventory.entity.InventoryLedgerCheckpoint;
+import com.example.inventory.ledger.LedgerEntry.LedgerEntryType;
+import com.example.inventory.repository.InventoryLedgerCheckpointRepository;
+import com.example.inventory.repository.InventoryLedgerJournalRepository;
+import com.example.inventory.repository.InventoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 원장 크래시 복구
+ *
+ * 원장 변경분은 최대 flush 주기만큼 메모리에만 존재하므로, 비정상 종료 시 유실될 수 있음.
+ * 예약/복구 결과는 이미 Kafka 이벤트(InventoryReservedEvent, PaymentFailedEvent,
+ * 보상 요청이 담긴 OrderCancelledEvent)로 남아 있으므로 기동 시 Kafka 리스너가 시작되기 전에 다음 순서로 복구:
+ *
+ * 1. 원장 소유권 선점 (InventoryLedgerLease - 다른 인스턴스가 관리 중인 상품은 건드리지 않음)
+ * 2. 선점한 상품(checkpoint)별로 마지막 반영 시각 - lookback 이후 이벤트를 다시 읽음
+ *    - 이 서비스 Outbox에 PENDING으로 남은 이벤트(아직 Kafka에 없는 예약 결과)를 먼저 읽고 Kafka를 읽음
+ *      → Outbox 조회 뒤에 발행된 이벤트는 Kafka 조회 구간(endOffsets) 안에 들어오므로 빠지는 이벤트 없음
+ *    - 다른 서비스 Outbox에 남은 결제 실패/주문 취소는 아직 소비되지 않았으므로 재시작 후 리스너가 처리
+ * 3. journal에 없는(= DB에 반영되지 않은) 주문의 변경분만 DB에 반영
+ * 4. 현재 핫 상품 목록으로 checkpoint 갱신 후 DB 재고로 원장 로드
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "inventory.ledger", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class InventoryLedgerRecovery implements SmartInitializingSingleton {
+
+    private static final String RECOVERY_GROUP_ID = "inventory-ledger-recovery";
+    private static final List<String> REPLAY_TOPICS = List.of("inventory-events", "payment-events", "order-events");
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final InventoryLedger ledger;
+    private final InventoryLedgerWriter ledgerWriter;
+    private final InventoryLedgerConfig ledgerConfig;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryLedgerCheckpointRepository checkpointRepository;
+    private final InventoryLedgerJournalRepository journalRepository;
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final PlatformTransactionManager transactionManager;
+    private final InventoryLedgerLease ledgerLease;
+    private final ObjectProvider<OutboxEventRepository> outboxEventRepository;
+    private final ObjectProvider<ObjectMapper> objectMapper;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<InventoryLedgerCheckpoint> checkpoints = ledgerLease.acquire();
+        if (!checkpoints.isEmpty()) {
+            replayUnflushed(checkpoints);
+        }
+
+        takeOwnership(checkpoints.stream().map(InventoryLedgerCheckpoint::getProductId).collect(Collectors.toSet()));
+
+        Map<Long, Integer> quantities = inventoryRepository.findByProductIdIn(ledgerConfig.getHotProductIds())
+                .stream()
+                .collect(Collectors.toMap(Inventory::getProductId, Inventory::getQuantity));
+        ledger.load(quantities);
+    }
+
+    /**
+     * 미반영 변경분을 Kafka 이벤트에서 찾아 DB에 반영
+     */
+    private void replayUnflushed(List<InventoryLedgerCheckpoint> checkpoints) {
+        Duration lookback = Duration.ofMinutes(ledgerConfig.getRecoveryLookbackMinutes());
+        Map<Long, LocalDateTime> replayFrom = new HashMap<>();
+        for (InventoryLedgerCheckpoint checkpoint : checkpoints) {
+            LocalDateTime from = checkpoint.getLastFlushedAt().minus(lookback);
+            replayFrom.put(checkpoint.getProductId(),
+                    from.isBefore(checkpoint.getOwnedSince()) ? checkpoint.getOwnedSince() : from);
+        }
+        LocalDateTime earliest = Collections.min(replayFrom.values());
+
+        log.info("🔁 [Inventory Ledger] 복구 시작 - 상품 수: {}, 기준 시각: {}", replayFrom.size(), earliest);
+
+        // (주문 ID, 유형)별로 중복 제거 (Outbox와 Kafka에 같은 이벤트가 있을 수 있음)
+        Map<String, LedgerEntry> candidates = new LinkedHashMap<>();
+        BiConsumer<Object, LocalDateTime> collect = (event, timestamp) -> {
+            LedgerEntry entry = toLedgerEntry(event);
+            if (entry == null) {
+                return;
+            }
+            LocalDateTime from = replayFrom.get(entry.productId());
+            if (from != null && !timestamp.isBefore(from)) {
+                candidates.putIfAbsent(entry.orderId() + ":" + entry.type(), entry);
+            }
+        };
+        readPendingOutbox(earliest, collect);
+        readEvents(earliest, record -> collect.accept(record.value(), toLocalDateTime(record.timestamp())));
+
+        List<LedgerEntry> unflushed = excludeFlushed(candidates.values());
+        if (!unflushed.isEmpty()) {
+            ledgerWriter.write(unflushed);
+        }
+
+        log.info("✅ [Inventory Ledger] 복구 완료 - 재생 이벤트: {}건, 미반영 변경분 반영: {}건",
+                candidates.size(), unflushed.size());
+    }
+
+    /**
+     * 크래시 시점에 아직 발행되지 않은 Outbox 이벤트 (outbox.enabled=false면 없음)
+     */
+    private void readPendingOutbox(LocalDateTime since, BiConsumer<Object, LocalDateTime> handler) {
+        OutboxEventRepository repository = outboxEventRepository.getIfAvailable();
+        if (repository == null) {
+            return;
+        }
+        ObjectMapper mapper = objectMapper.getIfAvailable(() -> new ObjectMapper().findAndRegisterModules());
+
+        List<OutboxEvent> pending = repository.findPendingByTopics(REPLAY_TOPICS, since);
+        for (OutboxEvent outboxEvent : pending) {
+            try {
+                Object event = mapper.readValue(outboxEvent.getPayload(), Class.forName(outboxEvent.getEventType()));
+                handler.accept(event, outboxEvent.getCreatedAt());
+            } catch (Exception e) {
+                // Dispatcher도 역직렬화하지 못해 발행되지 않는 이벤트 (재고 변경 결과가 아님)
+                log.error("❌ [Inventory Ledger] 미발행 Outbox 이벤트 역직렬화 실패 - outboxId: {}, type: {}",
+                        outboxEvent.getId(), outboxEvent.getEventType(), e);
+            }
+        }
+        log.info("🔁 [Inventory Ledger] 미발행 Outbox 이벤트 확인 - {}건", pending.size());
+    }
+
+    private void readEvents(LocalDateTime since, java.util.function.Consumer<ConsumerRecord<String, Object>> handler) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        try (Consumer<String, Object> consumer =
+                     consumerFactory.createConsumer(RECOVERY_GROUP_ID, null, null, overrides)) {
+            List<TopicPartition> partitions = new ArrayList<>();
+            for (String topic : REPLAY_TOPICS) {
+                consumer.partitionsFor(topic)
+                        .forEach(info -> partitions.add(new TopicPartition(topic, info.partition())));
+            }
+            consumer.assign(partitions);
+
+            long sinceMillis = since.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            Map<TopicPartition, Long> query = new HashMap<>();
+            partitions.forEach(tp -> query.put(tp, sinceMillis));
+
+            Map<TopicPartition, OffsetAndTimestamp> startOffsets = consumer.offsetsForTimes(query);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            for (TopicPartition tp : partitions) {
+                OffsetAndTimestamp start = startOffsets.get(tp);
+                consumer.seek(tp, start != null ? start.offset() : endOffsets.get(tp));
+            }
+
+            while (partitions.stream().anyMatch(tp -> consumer.position(tp) < endOffsets.get(tp))) {
+                consumer.poll(POLL_TIMEOUT).forEach(handler);
+            }
+        }
+    }
+
+    private LedgerEntry toLedgerEntry(Object event) {
+        if (event instanceof InventoryReservedEvent reserved) {
+            return new LedgerEntry(reserved.getOrderId(), reserved.getProductId(),
+                    -reserved.getQuantity(), LedgerEntryType.RESERVE);
+        }
+        if (event instanceof PaymentFailedEvent failed) {
+            return new LedgerEntry(failed.getOrderId(), failed.getProductId(),
+                    failed.getQuantity(), LedgerEntryType.RELEASE);
+        }
+        // Saga 시간 초과 보상 - 같은 주문의 결제 실패 복구와는 (주문 ID, 유형) 중복 제거로 1번만 반영
+        if (event instanceof OrderCancelledEvent cancelled && cancelled.getReleaseQuantity() != null) {
+            return new LedgerEntry(cancelled.getOrderId(), cancelled.getProductId(),
+                    cancelled.getReleaseQuantity(), LedgerEntryType.RELEASE);
+        }
+        return null;
+    }
+
+    private List<LedgerEntry> excludeFlushed(Collection<LedgerEntry> candidates) {
+        Map<LedgerEntryType, List<LedgerEntry>> byType = candidates.stream()
+                .collect(Collectors.groupingBy(LedgerEntry::type));
+
+        List<LedgerEntry> unflushed = new ArrayList<>();
+        byType.forEach((type, entries) -> {
+            for (int i = 0; i < entries.size(); i += QUERY_CHUNK_SIZE) {
+                List<LedgerEntry> chunk = entries.subList(i, Math.min(i + QUERY_CHUNK_SIZE, entries.size()));
+                Set<Long> flushed = new HashSet<>(journalRepository.findFlushedOrderIds(
+                        type.name(), chunk.stream().map(LedgerEntry::orderId).toList()));
+                chunk.stream()
+                        .filter(entry -> !flushed.contains(entry.orderId()))
+                        .forEach(unflushed::add);
+            }
+        });
+        return unflushed;
+    }
+
+    /**
+     * 현재 핫 상품 목록으로 checkpoint 갱신
+     * - 새로 관리하는 상품은 지금부터 소유 (이전 이벤트는 DB 경로로 이미 반영됨)
+     *   동시에 기동한 다른 인스턴스가 먼저 만들었으면 PK 충돌로 기동 실패 (같은 상품을 두 인스턴스가 관리하지 않음)
+     * - 선점했지만 더 이상 관리하지 않는 상품은 checkpoint 삭제 (미반영분은 위에서 이미 반영됨)
+     */
+    private void takeOwnership(Set<Long> claimedProductIds) {
+        Set<Long> hotProductIds = new HashSet<>(ledgerConfig.getHotProductIds());
+        LocalDateTime now = LocalDateTime.now();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Map<Long, InventoryLedgerCheckpoint> existing = checkpointRepository.findAll().stream()
+                    .collect(Collectors.toMap(InventoryLedgerCheckpoint::getProductId, c -> c));
+
+            existing.values().stream()
+                    .filter(checkpoint -> claimedProductIds.contains(checkpoint.getProductId()))
+                    .filter(checkpoint -> !hotProductIds.contains(checkpoint.getProductId()))
+                    .forEach(checkpointRepository::delete);
+
+            // 선점 이후 다른 인스턴스가 먼저 소유를 시작한 핫 상품
+            hotProductIds.stream()
+                    .filter(productId -> existing.containsKey(productId) && !claimedProductIds.contains(productId))
+                    .findAny()
+                    .ifPresent(productId -> {
+                        throw new IllegalStateException("다른 인스턴스가 원장으로 관리 중인 핫 상품입니다: " + productId);
+                    });
+
+            hotProductIds.stream()
+                    .filter(productId -> !existing.containsKey(productId))
+                    .forEach(productId -> checkpointRepository.insert(
+                            productId, now, ledgerLease.getNodeId(), ledgerLease.newLeaseUntil()));
+        });
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.inventory.ledger;
+
+import com.example.common.id.SnowflakeIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 원장 변경분을 DB에 일괄 반영
+ * - 상품별 변화량을 합산해 UPDATE 1건씩 (JDBC batch)
+ * - 반영 이력(journal)과 체크포인트를 같은 트랜잭션으로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryLedgerWriter {
+
+    private static final String UPDATE_INVENTORY =
+            "UPDATE inventory SET quantity = quantity + ? WHERE product_id = ?";
+    private static final String INSERT_JOURNAL =
+            "INSERT INTO inventory_ledger_journal (id, order_id, product_id, delta, entry_type, flushed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_CHECKPOINT =
+            "UPDATE inventory_ledger_checkpoint SET last_flushed_at = ? WHERE product_id = ?";
+    private static final String SELECT_CHECKPOINTS =
+            "SELECT product_id, last_flushed_at FROM inventory_ledger_checkpoint";
+    private static final String DELETE_JOURNAL_OF_PRODUCT =
+            "DELETE FROM inventory_ledger_journal WHERE product_id = ? AND flushed_at < ?";
+    private static final String DELETE_JOURNAL_UNOWNED =
+            "DELETE FROM inventory_ledger_journal WHERE flushed_at < ? " +
+            "AND product_id NOT IN (SELECT product_id FROM inventory_ledger_checkpoint)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator idGenerator;  // journal id (엔티티의 @SnowflakeId와 같은 생성기)
+
+    @Transactional
+    public void write(List<LedgerEntry> entries) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 상품 ID 순으로 정렬해 UPDATE 순서를 고정 (동시 트랜잭션 간 데드락 방지)
+        Map<Long, Long> deltaByProduct = new TreeMap<>();
+        List<Object[]> journalRows = new ArrayList<>(entries.size());
+        for (LedgerEntry entry : entries) {
+            deltaByProduct.merge(entry.productId(), entry.delta(), Long::sum);
+            journalRows.add(new Object[]{
+                    idGenerator.nextId(), entry.orderId(), entry.productId(), entry.delta(), entry.type().name(), now
+            });
+        }
+
+        List<Object[]> inventoryRows = new ArrayList<>(deltaByProduct.size());
+        List<Object[]> checkpointRows = new ArrayList<>(deltaByProduct.size());
+        deltaByProduct.forEach((productId, delta) -> {
+            inventoryRows.add(new Object[]{delta, productId});
+            checkpointRows.add(new Object[]{now, productId});
+        });
+
+        jdbcTemplate.batchUpdate(UPDATE_INVENTORY, inventoryRows);
+        jdbcTemplate.batchUpdate(INSERT_JOURNAL, journalRows);
+        jdbcTemplate.batchUpdate(UPDATE_CHECKPOINT, checkpointRows);
+    }
+
+    /**
+     * 보관 기간(retention)이 지난 반영 이력 삭제
+     * - 복구는 상품별 (마지막 반영 시각 - lookback) 이후 이벤트를 journal과 대조하므로 그 구간 이력은 남김
+     *   (한동안 반영이 없던 상품은 retention이 지나도 삭제하지 않음 → 재시작 시 이중 반영 방지)
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int deleteJournal(Duration retention, Duration lookback) {
+        LocalDateTime retentionCutoff = LocalDateTime.now().minus(retention);
+
+        List<Object[]> productRows = jdbcTemplate.query(SELECT_CHECKPOINTS, (rs, rowNum) -> {
+            LocalDateTime replayFrom = rs.getTimestamp("last_flushed_at").toLocalDateTime().minus(lookback);
+            LocalDateTime cutoff = replayFrom.isBefore(retentionCutoff) ? replayFrom : retentionCutoff;
+            return new Object[]{rs.getLong("product_id"), Timestamp.valueOf(cutoff)};
+        });
+
+        int deleted = jdbcTemplate.update(DELETE_JOURNAL_UNOWNED, Timestamp.valueOf(retentionCutoff));
+        for (int count : jdbcTemplate.batchUpdate(DELETE_JOURNAL_OF_PRODUCT, productRows)) {
+            deleted += Math.max(count, 0);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.inventory.ledger;
+
+/**
+ * 아직 DB에 반영되지 않은 원장 변경분
+ * @param delta 재고 변화량 (예약: 음수, 복구: 양수)
+ */
+public record LedgerEntry(Long orderId, Long productId, long delta, LedgerEntryType type) {
+
+    public enum LedgerEntryType {
+        RESERVE,  // 재고 예약
+        RELEASE   // 재고 복구 (보상 트랜잭션)
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.inventory.repository;
+
+import com.example.inventory.entity.InventoryLedgerCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface InventoryLedgerCheckpointRepository extends JpaRepository<InventoryLedgerCheckpoint, Long> {
+
+    /**
+     * 원장 소유권 선점 - 소유자가 없거나, 자신이거나, 소유 기간이 만료된 경우만
+     * @return 1이면 선점 성공
+     */
+    @Modifying
+    @Query("UPDATE InventoryLedgerCheckpoint c SET c.owner = :owner, c.leaseUntil = :leaseUntil " +
+            "WHERE c.productId = :productId AND (c.owner IS NULL OR c.owner = :owner OR c.leaseUntil < :now)")
+    int claim(@Param("productId") Long productId,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 새 핫 상품 소유 시작 - save()는 이미 있는 행을 덮어쓰므로(merge) INSERT로만 생성
+     * (동시에 기동한 다른 인스턴스가 먼저 만들었으면 PK 충돌)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inventory_ledger_checkpoint " +
+            "(product_id, owned_since, last_flushed_at, owner, lease_until) " +
+            "VALUES (:productId, :now, :now, :owner, :leaseUntil)", nativeQuery = true)
+    int insert(@Param("productId") Long productId,
+               @Param("now") LocalDateTime now,
+               @Param("owner") String owner,
+               @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 소유 기간 연장
+     * @return 연장된 상품 수 (소유 상품 수보다 적으면 소유권을 잃은 것)
+     */
+    @Modifying
+    @Query("UPDATE InventoryLedgerCheckpoint c SET c.leaseUntil = :leaseUntil WHERE c.owner = :owner")
+    int renew(@Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
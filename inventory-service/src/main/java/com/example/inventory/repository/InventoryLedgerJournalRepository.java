@@ -0,0 +1,22 @@
+package com.example.inventory.repository;
+
+import com.example.inventory.entity.InventoryLedgerJournal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface InventoryLedgerJournalRepository extends JpaRepository<InventoryLedgerJournal, Long> {
+
+    /**
+     * 이미 반영된 주문 ID 조회 (복구 시 중복 반영 방지)
+     */
+    @Query("SELECT j.orderId FROM InventoryLedgerJournal j " +
+           "WHERE j.entryType = :entryType AND j.orderId IN :orderIds")
+    List<Long> findFlushedOrderIds(@Param("entryType") String entryType,
+                                   @Param("orderIds") Collection<Long> orderIds);
+}
@@ -1,9 +1,16 @@
 package com.example.inventory.repository;
 
 import com.example.inventory.entity.Inventory;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +20,38 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
      * 상품 ID로 재고 조회
      */
     Optional<Inventory> findByProductId(Long productId);
+
+    /**
+     * 상품 ID로 재고 조회 (비관적 쓰기 락)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inventory i WHERE i.productId = :productId")
+    Optional<Inventory> findByProductIdForUpdate(@Param("productId") Long productId);
+
+    /**
+     * 여러 상품 재고 조회 (원장 로드용)
+     */
+    List<Inventory> findByProductIdIn(Collection<Long> productIds);
+
+    /**
+     * 상품 재고 존재 여부
+     */
+    boolean existsByProductId(Long productId);
+
+    /**
+     * 조건부 재고 차감 (재고가 충분할 때만 차감)
+     * @return 갱신된 행 수 (0이면 재고 부족 또는 상품 없음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity - :quantity " +
+           "WHERE i.productId = :productId AND i.quantity >= :quantity")
+    int decreaseQuantity(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    /**
+     * 재고 증가 (보상 트랜잭션)
+     * @return 갱신된 행 수 (0이면 상품 없음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity + :quantity WHERE i.productId = :productId")
+    int increaseQuantity(@Param("productId") Long productId, @Param("quantity") Integer quantity);
 }
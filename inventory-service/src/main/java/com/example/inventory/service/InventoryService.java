@@ -1,72 +1,100 @@
 package com.example.inventory.service;
 
-import com.example.inventory.annotation.DistributedLock;
-import com.example.inventory.exception.InventoryNotFoundException;
+import com.example.common.event.OrderCreatedEvent;
 import com.example.inventory.entity.Inventory;
+import com.example.inventory.factory.InventoryReservationStrategyFactory;
+import com.example.inventory.ledger.InventoryLedger;
 import com.example.inventory.repository.InventoryRepository;
+import com.example.inventory.strategy.ReservationResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
+    private final InventoryReservationStrategyFactory strategyFactory;
+    private final InventoryLedger inventoryLedger;
 
     /**
      * 재고 확보 (차감)
-     * - Redis 분산 락 적용으로 동시성 제어
+     * - 핫 상품: 인메모리 원장에서 CAS로 차감 (DB 반영은 write-behind)
+     * - 그 외: inventory.reservation.mode 설정에 따라 분산 락 / 원자적 UPDATE 방식으로 처리
      * @return 성공 여부
      */
-    @DistributedLock(key = "inventory:lock:#productId", waitTime = 5, leaseTime = 3)
-    @Transactional
-    public boolean reserveInventory(Long productId, Integer quantity) {
-        log.info("[Inventory Service] 재고 확보 요청 - productId: {}, quantity: {}",
-                productId, quantity);
+    public boolean reserveInventory(Long orderId, Long productId, Integer quantity) {
+        log.info("[Inventory Service] 재고 확보 요청 - orderId: {}, productId: {}, quantity: {}",
+                orderId, productId, quantity);
 
-        Inventory inventory = inventoryRepository.findByProductId(productId)
-                .orElseThrow(() -> new InventoryNotFoundException(productId));
+        if (inventoryLedger.isTracked(productId)) {
+            boolean success = inventoryLedger.reserve(orderId, productId, quantity);
+            if (!success) {
+                log.warn("⚠️ [Inventory Service] 재고 부족 (LEDGER) - productId: {}, 요청: {}, 현재: {}",
+                        productId, quantity, inventoryLedger.getAvailable(productId));
+            }
+            return success;
+        }
 
-        boolean success = inventory.reserve(quantity);
+        return strategyFactory.getStrategy().reserve(productId, quantity);
+    }
+
+    /**
+     * 같은 상품 주문 묶음 재고 확보
+     * - 주문은 도착 순서대로 선착순 판정
+     * - 핫 상품: 원장에서 주문별 CAS (락 없음)
+     * - 그 외: 락/트랜잭션 1회로 묶음 전체 판정
+     * @return 주문 순서와 같은 순서의 예약 결과
+     */
+    public List<ReservationResult> reserveInventoryBatch(Long productId, List<OrderCreatedEvent> orders) {
+        log.info("[Inventory Service] 일괄 재고 확보 요청 - productId: {}, 주문: {}건", productId, orders.size());
 
-        if (success) {
-            inventoryRepository.save(inventory);
-            log.info("✅ [Inventory Service] 재고 확보 성공 - productId: {}, 남은 재고: {}",
-                    productId, inventory.getQuantity());
-        } else {
-            log.warn("⚠️ [Inventory Service] 재고 부족 - productId: {}, 요청: {}, 현재: {}",
-                    productId, quantity, inventory.getQuantity());
+        if (inventoryLedger.isTracked(productId)) {
+            List<ReservationResult> results = new ArrayList<>(orders.size());
+            for (OrderCreatedEvent order : orders) {
+                boolean success = inventoryLedger.reserve(order.getOrderId(), productId, order.getQuantity());
+                results.add(new ReservationResult(success, (int) inventoryLedger.getAvailable(productId)));
+            }
+            return results;
         }
 
-        return success;
+        List<Integer> quantities = orders.stream()
+                .map(OrderCreatedEvent::getQuantity)
+                .toList();
+        return strategyFactory.getStrategy().reserveAll(productId, quantities);
     }
 
     /**
      * 재고 복구 (보상 트랜잭션)
      */
-    @Transactional
-    public void releaseInventory(Long productId, Integer quantity) {
-        log.info("🔄 [Inventory Service] 재고 복구 (보상 트랜잭션) - productId: {}, quantity: {}",
-                productId, quantity);
-
-        Inventory inventory = inventoryRepository.findByProductId(productId)
-                .orElseThrow(() -> new InventoryNotFoundException(productId));
+    public void releaseInventory(Long orderId, Long productId, Integer quantity) {
+        log.info("🔄 [Inventory Service] 재고 복구 (보상 트랜잭션) - orderId: {}, productId: {}, quantity: {}",
+                orderId, productId, quantity);
 
-        inventory.release(quantity);
-        inventoryRepository.save(inventory);
+        if (inventoryLedger.isTracked(productId)) {
+            inventoryLedger.release(orderId, productId, quantity);
+            return;
+        }
 
-        log.info("✅ [Inventory Service] 재고 복구 완료 - productId: {}, 현재 재고: {}",
-                productId, inventory.getQuantity());
+        strategyFactory.getStrategy().release(productId, quantity);
     }
 
     /**
      * 재고 조회
+     * - 핫 상품은 원장 값 반환 (DB에는 아직 반영되지 않은 변경분이 있을 수 있음)
      */
     @Transactional(readOnly = true)
     public Integer getAvailableQuantity(Long productId) {
+        if (inventoryLedger.isTracked(productId)) {
+            return (int) inventoryLedger.getAvailable(productId);
+        }
+
         return inventoryRepository.findByProductId(productId)
                 .map(Inventory::getQuantity)
                 .orElse(0);
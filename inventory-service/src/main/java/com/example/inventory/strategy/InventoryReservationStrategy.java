@@ -0,0 +1,33 @@
+package com.example.inventory.strategy;
+
+import java.util.List;
+
+/**
+ * 재고 예약 전략 인터페이스
+ * 분산 락 방식과 원자적 UPDATE 방식을 추상화
+ */
+public interface InventoryReservationStrategy {
+
+    /**
+     * 재고 확보 (차감)
+     * @return 성공 여부 (재고 부족 시 false)
+     */
+    boolean reserve(Long productId, Integer quantity);
+
+    /**
+     * 같은 상품의 여러 주문을 한 번의 락/트랜잭션으로 예약
+     * - 주문은 전달된 순서대로 선착순 판정 (앞 주문이 재고를 먼저 가져감)
+     * @return 주문 순서와 같은 순서의 예약 결과
+     */
+    List<ReservationResult> reserveAll(Long productId, List<Integer> quantities);
+
+    /**
+     * 재고 복구 (보상 트랜잭션)
+     */
+    void release(Long productId, Integer quantity);
+
+    /**
+     * 예약 방식 반환
+     */
+    ReservationMode getMode();
+}
@@ -0,0 +1,9 @@
+package com.example.inventory.strategy;
+
+/**
+ * 재고 예약 방식
+ */
+public enum ReservationMode {
+    LOCK,   // Redisson 분산 락 + 조회 후 차감 (read-modify-write)
+    ATOMIC  // 조건부 UPDATE 한 번으로 차감 (락 없음)
+}
@@ -0,0 +1,8 @@
+package com.example.inventory.strategy;
+
+/**
+ * 주문 1건의 재고 예약 결과
+ * @param availableQuantity 예약 판정 직후의 가용 재고
+ */
+public record ReservationResult(boolean reserved, int availableQuantity) {
+}
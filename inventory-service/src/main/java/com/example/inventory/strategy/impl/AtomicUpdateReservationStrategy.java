@@ -0,0 +1,89 @@
+package com.example.inventory.strategy.impl;
+
+import com.example.inventory.entity.Inventory;
+import com.example.inventory.exception.InventoryNotFoundException;
+import com.example.inventory.repository.InventoryRepository;
+import com.example.inventory.strategy.InventoryReservationStrategy;
+import com.example.inventory.strategy.ReservationMode;
+import com.example.inventory.strategy.ReservationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원자적 조건부 UPDATE 기반 재고 예약 (락 없음)
+ * - UPDATE inventory SET quantity = quantity - ? WHERE product_id = ? AND quantity >= ?
+ * - DB의 행 잠금만으로 직렬화되므로 Redis 왕복이 없고, 재고가 음수가 될 수 없음
+ * - 영향받은 행이 0이면 재고 부족 (또는 상품 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AtomicUpdateReservationStrategy implements InventoryReservationStrategy {
+
+    private final InventoryRepository inventoryRepository;
+
+    @Override
+    @Transactional
+    public boolean reserve(Long productId, Integer quantity) {
+        int updated = inventoryRepository.decreaseQuantity(productId, quantity);
+
+        if (updated == 1) {
+            log.info("✅ [Inventory Service] 재고 확보 성공 (ATOMIC) - productId: {}, quantity: {}",
+                    productId, quantity);
+            return true;
+        }
+
+        // 0건 갱신: 상품이 없거나 재고 부족
+        if (!inventoryRepository.existsByProductId(productId)) {
+            throw new InventoryNotFoundException(productId);
+        }
+
+        log.warn("⚠️ [Inventory Service] 재고 부족 (ATOMIC) - productId: {}, 요청: {}",
+                productId, quantity);
+        return false;
+    }
+
+    /**
+     * 일괄 예약은 행 잠금(SELECT ... FOR UPDATE) 1회 후 메모리에서 순서대로 판정
+     */
+    @Override
+    @Transactional
+    public List<ReservationResult> reserveAll(Long productId, List<Integer> quantities) {
+        Inventory inventory = inventoryRepository.findByProductIdForUpdate(productId)
+                .orElseThrow(() -> new InventoryNotFoundException(productId));
+
+        List<ReservationResult> results = new ArrayList<>(quantities.size());
+        for (Integer quantity : quantities) {
+            boolean success = inventory.reserve(quantity);
+            results.add(new ReservationResult(success, inventory.getQuantity()));
+        }
+        inventoryRepository.save(inventory);
+
+        log.info("✅ [Inventory Service] 일괄 재고 확보 (ATOMIC) - productId: {}, 주문: {}건, 남은 재고: {}",
+                productId, quantities.size(), inventory.getQuantity());
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public void release(Long productId, Integer quantity) {
+        int updated = inventoryRepository.increaseQuantity(productId, quantity);
+
+        if (updated == 0) {
+            throw new InventoryNotFoundException(productId);
+        }
+
+        log.info("✅ [Inventory Service] 재고 복구 완료 (ATOMIC) - productId: {}, quantity: {}",
+                productId, quantity);
+    }
+
+    @Override
+    public ReservationMode getMode() {
+        return ReservationMode.ATOMIC;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.inventory.strategy.impl;
+
+import com.example.inventory.annotation.DistributedLock;
+import com.example.inventory.entity.Inventory;
+import com.example.inventory.exception.InventoryNotFoundException;
+import com.example.inventory.repository.InventoryRepository;
+import com.example.inventory.strategy.InventoryReservationStrategy;
+import com.example.inventory.strategy.ReservationMode;
+import com.example.inventory.strategy.ReservationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분산 락 기반 재고 예약 (기존 방식)
+ * - 상품별 Redisson 락으로 직렬화한 뒤 조회 → 차감 → 저장
+ * - 같은 상품의 주문은 락 왕복 1회당 1건씩만 처리됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistributedLockReservationStrategy implements InventoryReservationStrategy {
+
+    private final InventoryRepository inventoryRepository;
+
+    @Override
+    @DistributedLock(key = "inventory:lock:#productId", waitTime = 5, leaseTime = 3)
+    @Transactional
+    public boolean reserve(Long productId, Integer quantity) {
+        Inventory inventory = inventoryRepository.findByProductId(productId)
+                .orElseThrow(() -> new InventoryNotFoundException(productId));
+
+        boolean success = inventory.reserve(quantity);
+
+        if (success) {
+            inventoryRepository.save(inventory);
+            log.info("✅ [Inventory Service] 재고 확보 성공 - productId: {}, 남은 재고: {}",
+                    productId, inventory.getQuantity());
+        } else {
+            log.warn("⚠️ [Inventory Service] 재고 부족 - productId: {}, 요청: {}, 현재: {}",
+                    productId, quantity, inventory.getQuantity());
+        }
+
+        return success;
+    }
+
+    @Override
+    @DistributedLock(key = "inventory:lock:#productId", waitTime = 5, leaseTime = 3)
+    @Transactional
+    public List<ReservationResult> reserveAll(Long productId, List<Integer> quantities) {
+        Inventory inventory = inventoryRepository.findByProductId(productId)
+                .orElseThrow(() -> new InventoryNotFoundException(productId));
+
+        List<ReservationResult> results = new ArrayList<>(quantities.size());
+        for (Integer quantity : quantities) {
+            boolean success = inventory.reserve(quantity);
+            results.add(new ReservationResult(success, inventory.getQuantity()));
+        }
+        inventoryRepository.save(inventory);
+
+        log.info("✅ [Inventory Service] 일괄 재고 확보 - productId: {}, 주문: {}건, 남은 재고: {}",
+                productId, quantities.size(), inventory.getQuantity());
+        return results;
+    }
+
+    /**
+     * 재고 복구도 같은 락으로 보호 (예약과 동시에 실행될 때 갱신 손실 방지)
+     */
+    @Override
+    @DistributedLock(key = "inventory:lock:#productId", waitTime = 5, leaseTime = 3)
+    @Transactional
+    public void release(Long productId, Integer quantity) {
+        Inventory inventory = inventoryRepository.findByProductId(productId)
+                .orElseThrow(() -> new InventoryNotFoundException(productId));
+
+        inventory.release(quantity);
+        inventoryRepository.save(inventory);
+
+        log.info("✅ [Inventory Service] 재고 복구 완료 - productId: {}, 현재 재고: {}",
+                productId, inventory.getQuantity());
+    }
+
+    @Override
+    public ReservationMode getMode() {
+        return ReservationMode.LOCK;
+    }
+}
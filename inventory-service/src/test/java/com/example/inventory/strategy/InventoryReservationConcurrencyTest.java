@@ -0,0 +1,170 @@
+package com.example.inventory.strategy;
+
+import com.example.inventory.aop.DistributedLockAop;
+import com.example.inventory.config.InventoryReservationConfig;
+import com.example.inventory.entity.Inventory;
+import com.example.inventory.factory.InventoryReservationStrategyFactory;
+import com.example.inventory.repository.InventoryRepository;
+import com.example.inventory.strategy.impl.AtomicUpdateReservationStrategy;
+import com.example.inventory.strategy.impl.DistributedLockReservationStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 재고 예약 동시성 테스트 (LOCK / ATOMIC)
+ * - 같은 상품에 재고보다 많은 예약을 동시에 보내고 초과 판매가 없는지, 최종 재고가 정확한지 확인
+ * - Redisson 락은 JVM 내 ReentrantLock으로 대체 (락 획득/해제 시점은 DistributedLockAop 그대로)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reservation-concurrency;LOCK_TIMEOUT=10000",
+        "spring.jpa.show-sql=false"
+})
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({
+        InventoryReservationConfig.class,
+        InventoryReservationStrategyFactory.class,
+        DistributedLockReservationStrategy.class,
+        AtomicUpdateReservationStrategy.class,
+        DistributedLockAop.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // 각 예약이 자기 트랜잭션으로 커밋되어야 함
+class InventoryReservationConcurrencyTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final int STOCK = 500;
+    private static final int REQUESTS = 1_200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private InventoryReservationStrategyFactory strategyFactory;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @MockBean
+    private RedissonClient redissonClient;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        inventoryRepository.deleteAll();
+        inventoryRepository.save(new Inventory(PRODUCT_ID, STOCK));
+
+        // 테스트는 상품 1개만 사용하므로 락도 1개
+        RLock lock = localLock(new ReentrantLock());
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ReservationMode.class)
+    void 동시_예약해도_초과_판매되지_않는다(ReservationMode mode) throws Exception {
+        InventoryReservationStrategy strategy = strategyFactory.getStrategy(mode);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(REQUESTS, () -> {
+            if (strategy.reserve(PRODUCT_ID, 1)) {
+                reserved.incrementAndGet();
+            } else {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertThat(reserved.get()).isEqualTo(STOCK);
+        assertThat(rejected.get()).isEqualTo(REQUESTS - STOCK);
+        assertThat(currentQuantity()).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ReservationMode.class)
+    void 예약과_복구가_섞여도_최종_재고가_정확하다(ReservationMode mode) throws Exception {
+        InventoryReservationStrategy strategy = strategyFactory.getStrategy(mode);
+        AtomicInteger reserved = new AtomicInteger();
+
+        // 짝수 요청은 2개 예약, 홀수 요청은 1개 복구
+        AtomicInteger sequence = new AtomicInteger();
+        runConcurrently(REQUESTS, () -> {
+            if (sequence.getAndIncrement() % 2 == 0) {
+                if (strategy.reserve(PRODUCT_ID, 2)) {
+                    reserved.incrementAndGet();
+                }
+            } else {
+                strategy.release(PRODUCT_ID, 1);
+            }
+        });
+
+        int released = REQUESTS / 2;
+        assertThat(currentQuantity())
+                .isGreaterThanOrEqualTo(0)
+                .isEqualTo(STOCK - reserved.get() * 2 + released);
+    }
+
+    private void runConcurrently(int requests, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(requests);
+        try {
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);  // 예외(락 타임아웃 등)가 있으면 테스트 실패
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int currentQuantity() {
+        return inventoryRepository.findByProductId(PRODUCT_ID).orElseThrow().getQuantity();
+    }
+
+    private static RLock localLock(ReentrantLock delegate) throws InterruptedException {
+        RLock lock = mock(RLock.class);
+        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willAnswer(invocation ->
+                delegate.tryLock(invocation.getArgument(0), invocation.getArgument(2)));
+        given(lock.isHeldByCurrentThread()).willAnswer(invocation -> delegate.isHeldByCurrentThread());
+        willAnswer(invocation -> {
+            delegate.unlock();
+            return null;
+        }).given(lock).unlock();
+        return lock;
+    }
+}
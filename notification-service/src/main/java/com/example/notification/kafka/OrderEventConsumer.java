@@ -1,9 +1,11 @@
 package com.example.notification.kafka;
 
 import com.example.common.event.OrderCreatedEvent;
+import com.example.common.kafka.EventTypeRouter;
 import com.example.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Component;
  * 주문 이벤트 Kafka Consumer
  * - order-events 토픽을 구독
  * - 주문 생성 이벤트 수신 시 NotificationService 호출
+ * - 주문 취소/완료 이벤트는 역직렬화 없이 건너뜀 (eventType 헤더 라우팅)
  */
 @Slf4j
 @Component
@@ -19,16 +22,25 @@ public class OrderEventConsumer {
 
     private final NotificationService notificationService;
 
-    /**
-     * 주문 생성 이벤트 처리
-     * @param event 주문 생성 이벤트
-     */
+    private final EventTypeRouter router = EventTypeRouter.builder()
+            .on(OrderCreatedEvent.class, this::sendOrderNotification)
+            .build();
+
     @KafkaListener(
             topics = "order-events",
             groupId = "notification-service-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "kafkaListenerContainerFactory",
+            properties = EventTypeRouter.RAW_VALUE_DESERIALIZER
     )
-    public void handleOrderCreated(OrderCreatedEvent event) {
+    public void handleOrderEvent(ConsumerRecord<String, byte[]> record) {
+        router.route(record);
+    }
+
+    /**
+     * 주문 생성 이벤트 처리
+     * @param event 주문 생성 이벤트
+     */
+    private void sendOrderNotification(OrderCreatedEvent event) {
         log.info("📩 [Kafka Consumer] 주문 이벤트 수신: orderId={}, userId={}, product={}",
                 event.getOrderId(), event.getUserId(), event.getProductName());
 
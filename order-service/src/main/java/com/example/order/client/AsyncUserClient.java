@@ -0,0 +1,72 @@
+package com.example.order.client;
+
+import com.example.order.dto.UserResponse;
+import com.example.order.exception.UserNotFoundException;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 사용자 검증 (비동기 + Circuit Breaker + Time Limiter)
+ * - CompletableFuture 반환 → resilience4j TimeLimiter가 실제로 시간 제한 (동기 반환 타입에는 적용되지 않음)
+ * - 조회는 가상 스레드에서 실행: 대기 중에도 Tomcat 스레드/플랫폼 스레드를 점유하지 않음
+ * - 시간 초과 시 실행 중인 조회 스레드를 인터럽트
+ *   TimeLimiter는 CompletionStage를 취소하지 않고 TimeoutException으로 완료만 시키므로 (cancel-running-future는 Future 전용)
+ *   조회가 끝나기 전에 예외로 완료되면 직접 취소 - 가상 스레드의 소켓 읽기/Future 대기는 인터럽트로 바로 풀림
+ * - Fallback: User Service 장애/시간 초과/Circuit Open → null (검증 없이 진행), 존재하지 않는 사용자는 그대로 실패
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncUserClient implements DisposableBean {
+
+    private final CachedUserClient cachedUserClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @return 사용자 정보 (User Service 장애 시 null) / UserNotFoundException으로 실패
+     */
+    @CircuitBreaker(name = "userClient", fallbackMethod = "verifyUserFallback")
+    @TimeLimiter(name = "userClient")
+    public CompletableFuture<UserResponse> verifyUser(Long userId) {
+        CompletableFuture<UserResponse> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            try {
+                result.complete(cachedUserClient.getUserById(userId));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((user, ex) -> {
+            if (ex != null && !task.isDone()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    // Circuit Breaker Fallback 메서드
+    private CompletableFuture<UserResponse> verifyUserFallback(Long userId, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof UserNotFoundException) {
+            return CompletableFuture.failedFuture(cause);
+        }
+        log.error("User Service 호출 실패! Circuit Breaker 작동 - userId: {}, error: {}", userId, cause.toString());
+        log.warn("사용자 검증 없이 주문 생성 진행 - userId: {}", userId);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.order.client;
+
+import com.example.common.event.ProductChangedEvent;
+import com.example.order.config.ProductCacheConfig;
+import com.example.order.dto.ProductResponse;
+import com.example.order.exception.ProductNotFoundException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 정보 조회 (로컬 캐시) - 주문 가격/상품명은 클라이언트 값 대신 여기서 결정
+ * - 기동 시 카탈로그 전체 적재 (GET /products/catalog 페이지 순회) → 주문 경로는 대부분 캐시 적중
+ * - Product Service의 상품 변경 이벤트로 즉시 교체 (ProductEventConsumer) - 다시 조회하지 않고 이벤트 값 사용
+ * - 캐시 미스 / refreshAfterWrite 경과 항목은 단건 조회 (갱신 실패 시 기존 값 유지, expireAfterWrite까지)
+ * - 판매 중단 상품은 active=false로 캐시 → 조회 없이 주문 거절
+ *
+ * 메트릭 (actuator /metrics): cache.gets{cache=productCache,result=hit|miss}, cache.load.duration, cache.size
+ */
+@Slf4j
+@Component
+public class CachedProductClient {
+
+    public static final String CACHE_NAME = "productCache";
+
+    private final ProductClient productClient;
+    private final ProductCacheConfig config;
+    private final LoadingCache<Long, ProductResponse> cache;
+
+    public CachedProductClient(ProductClient productClient, ProductCacheConfig config, MeterRegistry meterRegistry) {
+        this.productClient = productClient;
+        this.config = config;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getExpireAfterWrite())
+                .refreshAfterWrite(config.getRefreshAfterWrite())
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 주문 가능한 상품 조회
+     * @throws ProductNotFoundException 없는 상품 또는 판매 중단 상품
+     */
+    public ProductResponse getOrderableProduct(Long productId) {
+        ProductResponse product = cache.get(productId);
+        if (!Boolean.TRUE.equals(product.getActive())) {
+            throw new ProductNotFoundException(productId);
+        }
+        return product;
+    }
+
+    /**
+     * 여러 상품 조회 (캐시 미스만 Product Service 조회)
+     * @throws ProductNotFoundException 하나라도 없거나 판매 중단 상품
+     */
+    public Map<Long, ProductResponse> getOrderableProducts(Collection<Long> productIds) {
+        Map<Long, ProductResponse> products = cache.getAll(productIds);
+        products.forEach((productId, product) -> {
+            if (!Boolean.TRUE.equals(product.getActive())) {
+                throw new ProductNotFoundException(productId);
+            }
+        });
+        return products;
+    }
+
+    /**
+     * 상품 변경 이벤트 반영 (가격 변경/판매 중단 포함)
+     */
+    public void apply(ProductChangedEvent event) {
+        cache.put(event.getProductId(), ProductResponse.from(event));
+        log.info("🔄 [Product Cache] 상품 캐시 갱신 - productId: {}, price: {}, active: {}",
+                event.getProductId(), event.getPrice(), event.getActive());
+    }
+
+    /**
+     * 기동 시 카탈로그 적재 - 실패해도 기동은 계속 (이후 캐시 미스 시 단건 조회)
+     * - 변경 이벤트 Consumer가 먼저 넣은 값은 덮어쓰지 않음 (putIfAbsent)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!config.isWarmUpEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int loaded = 0;
+        Long afterId = null;
+        try {
+            while (true) {
+                List<ProductResponse> page = productClient.getCatalog(afterId, config.getWarmUpPageSize());
+                if (page.isEmpty()) {
+                    break;
+                }
+                for (ProductResponse product : page) {
+                    cache.asMap().putIfAbsent(product.getId(), product);
+                }
+                loaded += page.size();
+                afterId = page.get(page.size() - 1).getId();
+            }
+            log.info("✅ [Product Cache] 카탈로그 적재 완료 - count: {}, elapsed: {}ms",
+                    loaded, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("⚠️ [Product Cache] 카탈로그 적재 실패 - 캐시 미스 시 단건 조회 - loaded: {}, error: {}",
+                    loaded, e.getMessage());
+        }
+    }
+
+    private ProductResponse load(Long productId) {
+        try {
+            return productClient.getProductById(productId);
+        } catch (FeignException.NotFound e) {
+            throw new ProductNotFoundException(productId);
+        }
+    }
+}
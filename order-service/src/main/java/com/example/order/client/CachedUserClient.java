@@ -0,0 +1,84 @@
+package com.example.order.client;
+
+import com.example.order.config.UserCacheConfig;
+import com.example.order.dto.UserResponse;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 정보 조회 (로컬 캐시 + UserLookupCollapser)
+ * - 크기/TTL 제한: maximumSize, expireAfterWrite
+ * - refreshAfterWrite가 지난 항목은 기존 값을 바로 반환하고 백그라운드에서 갱신 (주문 요청이 User Service를 기다리지 않음)
+ *   갱신 실패 시 기존 값 유지 (expireAfterWrite까지)
+ * - 캐시 미스는 UserLookupCollapser로 조회 → 동시 미스/갱신이 일괄 조회 1회로 합쳐짐
+ * - User Service의 사용자 변경 이벤트로 즉시 무효화 (UserEventConsumer)
+ * - 조회 실패(존재하지 않는 사용자 등)는 캐시하지 않고 예외 그대로 전달
+ *
+ * 메트릭 (actuator /metrics): cache.gets{cache=userCache,result=hit|miss}, cache.load.duration, cache.evictions, cache.size
+ */
+@Slf4j
+@Component
+public class CachedUserClient {
+
+    public static final String CACHE_NAME = "userCache";
+
+    private final UserLookupCollapser userLookupCollapser;
+    private final UserCacheConfig config;
+    private final LoadingCache<Long, UserResponse> cache;
+
+    public CachedUserClient(UserLookupCollapser userLookupCollapser, UserCacheConfig config, MeterRegistry meterRegistry) {
+        this.userLookupCollapser = userLookupCollapser;
+        this.config = config;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getExpireAfterWrite())
+                .refreshAfterWrite(config.getRefreshAfterWrite())
+                .recordStats()
+                .build(new CacheLoader<Long, UserResponse>() {
+                    @Override
+                    public UserResponse load(Long userId) {
+                        return userLookupCollapser.getUserById(userId);
+                    }
+
+                    @Override
+                    public Map<Long, UserResponse> loadAll(Set<? extends Long> userIds) {
+                        return userLookupCollapser.getUsersByIds(Set.copyOf(userIds));
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @throws com.example.order.exception.UserNotFoundException 존재하지 않는 사용자
+     */
+    public UserResponse getUserById(Long userId) {
+        if (!config.isEnabled()) {
+            return userLookupCollapser.getUserById(userId);
+        }
+        return cache.get(userId);
+    }
+
+    /**
+     * 여러 사용자 조회 (캐시 미스만 일괄 조회 1회) - 없는 사용자는 결과에서 빠짐
+     */
+    public Map<Long, UserResponse> getUsersByIds(Collection<Long> userIds) {
+        if (!config.isEnabled()) {
+            return userLookupCollapser.getUsersByIds(userIds);
+        }
+        return cache.getAll(userIds);
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+        log.info("🔄 [User Cache] 사용자 캐시 무효화 - userId: {}", userId);
+    }
+}
@@ -5,6 +5,9 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 /**
  * Product Service Feign Client
@@ -17,4 +20,11 @@ public interface ProductClient {
      */
     @GetMapping("/products/{id}")
     ProductResponse getProductById(@PathVariable Long id);
+
+    /**
+     * 판매 중 상품 카탈로그 (id 순 keyset 페이지) - 빈 목록이면 마지막 페이지
+     */
+    @GetMapping("/products/catalog")
+    List<ProductResponse> getCatalog(@RequestParam(value = "afterId", required = false) Long afterId,
+                                     @RequestParam("size") int size);
 }
@@ -4,10 +4,20 @@ import com.example.order.dto.UserResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 @FeignClient(name = "user-service", url = "${user-service.url:http://localhost:8081}")
 public interface UserClient {
 
     @GetMapping("/api/users/{id}")
     UserResponse getUserById(@PathVariable("id") Long id);
+
+    /**
+     * 사용자 일괄 조회 (최대 1000개) - 없는 id는 응답에서 빠짐
+     */
+    @PostMapping("/api/users/batch")
+    List<UserResponse> getUsersByIds(@RequestBody List<Long> ids);
 }
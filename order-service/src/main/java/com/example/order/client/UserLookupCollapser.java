@@ -0,0 +1,162 @@
+package com.example.order.client;
+
+import com.example.order.config.UserLookupConfig;
+import com.example.order.dto.UserResponse;
+import com.example.order.exception.UserNotFoundException;
+import feign.FeignException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 사용자 단건 조회 요청 병합 (request collapsing)
+ * - 동시에 들어온 getUserById 호출을 windowMs 동안 모아 POST /api/users/batch 1회로 조회
+ *   (같은 id는 하나로 합침, maxBatchSize에 도달하면 즉시 조회)
+ * - 호출자는 자기 id의 결과만 기다림: 없으면 UserNotFoundException, 일괄 조회 실패면 그 예외
+ * - 초당 수천 건의 단건 조회가 수십 건의 일괄 조회로 줄어듦
+ *
+ * 메트릭: user.lookup.batch.size (일괄 조회당 id 수)
+ */
+@Slf4j
+@Component
+public class UserLookupCollapser implements DisposableBean {
+
+    private final UserClient userClient;
+    private final UserLookupConfig config;
+    private final DistributionSummary batchSizeSummary;
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "user-lookup-collapser");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<UserResponse>> pending = new HashMap<>();  // lock으로 보호
+
+    public UserLookupCollapser(UserClient userClient, UserLookupConfig config, MeterRegistry meterRegistry) {
+        this.userClient = userClient;
+        this.config = config;
+        this.batchSizeSummary = DistributionSummary.builder("user.lookup.batch.size")
+                .description("사용자 일괄 조회당 id 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 단건 조회 (다른 요청과 병합될 수 있음)
+     * @throws UserNotFoundException 존재하지 않는 사용자
+     */
+    public UserResponse getUserById(Long userId) {
+        if (!config.isCollapsingEnabled()) {
+            try {
+                return userClient.getUserById(userId);
+            } catch (FeignException.NotFound e) {
+                throw new UserNotFoundException(userId);
+            }
+        }
+        return await(enqueue(userId));
+    }
+
+    /**
+     * 여러 사용자 일괄 조회 (병합 없이 바로 호출) - 없는 사용자는 결과에서 빠짐
+     */
+    public Map<Long, UserResponse> getUsersByIds(Collection<Long> userIds) {
+        Map<Long, UserResponse> result = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += config.getMaxBatchSize()) {
+            List<Long> chunk = ids.subList(from, Math.min(from + config.getMaxBatchSize(), ids.size()));
+            batchSizeSummary.record(chunk.size());
+            userClient.getUsersByIds(chunk).forEach(user -> result.put(user.getId(), user));
+        }
+        return result;
+    }
+
+    private CompletableFuture<UserResponse> enqueue(Long userId) {
+        Map<Long, CompletableFuture<UserResponse>> full = null;
+        CompletableFuture<UserResponse> future;
+        synchronized (lock) {
+            boolean firstInWindow = pending.isEmpty();
+            future = pending.computeIfAbsent(userId, id -> new CompletableFuture<>());
+            if (pending.size() >= config.getMaxBatchSize()) {
+                full = pending;
+                pending = new HashMap<>();
+            } else if (firstInWindow) {
+                Map<Long, CompletableFuture<UserResponse>> window = pending;
+                timer.schedule(() -> flushWindow(window), config.getWindowMs(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            Map<Long, CompletableFuture<UserResponse>> batch = full;
+            dispatcher.execute(() -> dispatch(batch));
+        }
+        return future;
+    }
+
+    /**
+     * 시간 창 종료 - 그 사이 크기 초과로 이미 보낸 배치면 무시
+     */
+    private void flushWindow(Map<Long, CompletableFuture<UserResponse>> window) {
+        synchronized (lock) {
+            if (pending != window) {
+                return;
+            }
+            pending = new HashMap<>();
+        }
+        dispatcher.execute(() -> dispatch(window));
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<UserResponse>> batch) {
+        try {
+            Map<Long, UserResponse> found = getUsersByIds(batch.keySet());
+            batch.forEach((userId, future) -> {
+                UserResponse user = found.get(userId);
+                if (user != null) {
+                    future.complete(user);
+                } else {
+                    future.completeExceptionally(new UserNotFoundException(userId));
+                }
+            });
+        } catch (Exception e) {
+            log.warn("⚠️ [User Lookup] 사용자 일괄 조회 실패 - count: {}, error: {}", batch.size(), e.getMessage());
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private UserResponse await(CompletableFuture<UserResponse> future) {
+        try {
+            return future.get(config.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("사용자 조회 실패", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("사용자 조회 시간 초과", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("사용자 조회 중단", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+        dispatcher.shutdown();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 비동기 주문 접수 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "order.intake")
+public class OrderIntakeConfig {
+
+    /**
+     * Processor 실행 간격 (ms)
+     */
+    private long pollIntervalMs = 100;
+
+    /**
+     * 1회 실행에서 가져갈 최대 접수 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 처리 시작 후 이 시간이 지나도 끝나지 않은 접수는 다른 인스턴스가 다시 가져감
+     */
+    private Duration claimTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 처리 완료(CREATED/REJECTED) 접수 보관 시간 (이후 상태 조회 불가)
+     */
+    private int retentionHours = 24;
+
+    /**
+     * 상태 스트림(SSE) 최대 연결 시간
+     */
+    private Duration streamTimeout = Duration.ofSeconds(60);
+
+    /**
+     * 상태 스트림 갱신 확인 간격 (ms)
+     */
+    private long streamPollIntervalMs = 500;
+
+    /**
+     * 동시에 열 수 있는 상태 스트림 최대 수 (초과 시 단건 조회로 안내)
+     */
+    private int maxStreams = 1000;
+}
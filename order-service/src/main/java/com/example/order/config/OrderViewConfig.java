@@ -0,0 +1,36 @@
+package com.example.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 주문 목록 조회 설정 (전체 주문 / 조회 모델 order_view)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "order.view")
+public class OrderViewConfig {
+
+    /**
+     * 페이지 크기 기본값
+     */
+    private int defaultPageSize = 20;
+
+    /**
+     * 페이지 크기 최대값
+     */
+    private int maxPageSize = 100;
+
+    /**
+     * 사용자 정보 채우기 실행 간격 (ms)
+     */
+    private long userResolveIntervalMs = 5000;
+
+    /**
+     * 1회 실행에서 조회할 최대 사용자 수 (User Service 일괄 조회 1회)
+     */
+    private int userResolveBatchSize = 200;
+}
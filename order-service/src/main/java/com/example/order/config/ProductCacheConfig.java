@@ -0,0 +1,43 @@
+package com.example.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 상품 정보 로컬 캐시 설정 (주문 가격/상품명 결정용)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product-cache")
+public class ProductCacheConfig {
+
+    /**
+     * 최대 보관 상품 수 (카탈로그 전체가 들어가는 크기로)
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * 저장 후 만료 시간 (변경 이벤트 유실 시 이전 가격으로 주문될 수 있는 최대 시간)
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(30);
+
+    /**
+     * 저장 후 이 시간이 지나 조회되면 기존 값을 반환하고 백그라운드에서 다시 조회 (만료 전 갱신)
+     */
+    private Duration refreshAfterWrite = Duration.ofMinutes(5);
+
+    /**
+     * 기동 시 카탈로그 전체 적재 여부
+     */
+    private boolean warmUpEnabled = true;
+
+    /**
+     * 카탈로그 적재 시 페이지 크기 (Product Service 최대 1000)
+     */
+    private int warmUpPageSize = 500;
+}
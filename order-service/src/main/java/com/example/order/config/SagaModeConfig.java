@@ -0,0 +1,38 @@
+package com.example.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Saga 진행 방식 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "saga")
+public class SagaModeConfig {
+
+    /**
+     * Saga 진행 방식 (기본: 순차)
+     */
+    private SagaMode mode = SagaMode.SEQUENTIAL;
+
+    public boolean isPreAuthorize() {
+        return mode == SagaMode.PARALLEL_PRE_AUTH;
+    }
+
+    public enum SagaMode {
+        /**
+         * 재고 확보 → 결제 → 배송 순차 진행
+         */
+        SEQUENTIAL,
+
+        /**
+         * 재고 확보와 결제 선승인(hold)을 동시에 진행, 둘 다 성공하면 매입(capture), 하나라도 실패하면 보상
+         * - 주문 확정까지 Kafka 왕복 1회 절감
+         */
+        PARALLEL_PRE_AUTH
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.order.config;
+
+import com.example.order.entity.SagaStep;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Saga 단계별 마감 시간 및 Sweeper 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "saga.timeout")
+public class SagaTimeoutConfig {
+
+    /**
+     * 재고 확보 대기 마감
+     */
+    private Duration inventory = Duration.ofMinutes(1);
+
+    /**
+     * 결제 대기 마감
+     */
+    private Duration payment = Duration.ofMinutes(2);
+
+    /**
+     * 배송 시작 대기 마감
+     */
+    private Duration delivery = Duration.ofMinutes(10);
+
+    /**
+     * Sweeper 실행 간격 (ms)
+     */
+    private long sweepIntervalMs = 1000;
+
+    /**
+     * 한 트랜잭션에서 보상 처리할 최대 Saga 수
+     */
+    private int sweepBatchSize = 500;
+
+    /**
+     * 1회 실행에서 처리할 최대 배치 수 (적체 시 연속 처리 상한)
+     */
+    private int maxBatchesPerSweep = 100;
+
+    /**
+     * 단계별 마감 시각 (배송중/종료 단계는 마감 없음)
+     */
+    public LocalDateTime deadlineFor(SagaStep step) {
+        Duration timeout = switch (step) {
+            case AWAITING_INVENTORY -> inventory;
+            case AWAITING_PAYMENT -> payment;
+            case AWAITING_DELIVERY -> delivery;
+            default -> null;
+        };
+        return timeout == null ? null : LocalDateTime.now().plus(timeout);
+    }
+}
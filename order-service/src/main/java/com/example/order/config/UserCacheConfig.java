@@ -0,0 +1,38 @@
+package com.example.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 사용자 정보 로컬 캐시 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "user-cache")
+public class UserCacheConfig {
+
+    /**
+     * 캐시 사용 여부 (false면 매번 User Service 호출)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 최대 보관 사용자 수 (초과 시 사용 빈도 낮은 항목부터 제거)
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * 저장 후 만료 시간 (변경 이벤트 유실 시 최대 지연)
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * 저장 후 이 시간이 지나 조회되면 기존 값을 반환하고 백그라운드에서 다시 조회 (만료 전 갱신)
+     */
+    private Duration refreshAfterWrite = Duration.ofMinutes(5);
+}
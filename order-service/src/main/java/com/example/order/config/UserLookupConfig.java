@@ -0,0 +1,38 @@
+package com.example.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 사용자 조회 요청 병합(collapsing) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "user-lookup")
+public class UserLookupConfig {
+
+    /**
+     * 요청 병합 사용 여부 (false면 단건 API 호출)
+     */
+    private boolean collapsingEnabled = true;
+
+    /**
+     * 첫 요청 후 이 시간 동안 들어온 요청을 모아 일괄 조회 1회로 처리 (ms)
+     */
+    private long windowMs = 5;
+
+    /**
+     * 모인 요청이 이 수에 도달하면 대기 없이 바로 일괄 조회 (User Service 최대 1000)
+     */
+    private int maxBatchSize = 200;
+
+    /**
+     * 호출자가 일괄 조회 결과를 기다리는 최대 시간
+     */
+    private Duration timeout = Duration.ofSeconds(3);
+}
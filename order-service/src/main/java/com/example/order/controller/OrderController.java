@@ -1,15 +1,29 @@
 package com.example.order.controller;
 
-import com.example.order.dto.OrderWithUserResponse;
+import com.example.common.exception.ErrorCode;
+import com.example.common.exception.InvalidValueException;
+import com.example.order.dto.OrderAcceptedResponse;
+import com.example.order.dto.OrderIntakeStatusResponse;
+import com.example.order.dto.OrderViewPageResponse;
 import com.example.order.entity.Order;
+import com.example.order.entity.OrderIntake;
+import com.example.order.service.OrderIntakeService;
+import com.example.order.service.OrderIntakeStatusStreamer;
+import com.example.order.service.OrderQueryService;
 import com.example.order.service.OrderService;
 import com.example.order.service.OrderService.CreateOrderRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -17,31 +31,104 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final OrderService orderService;
+    private final OrderIntakeService orderIntakeService;
+    private final OrderIntakeStatusStreamer orderIntakeStatusStreamer;
+    private final OrderQueryService orderQueryService;
 
+    /**
+     * 주문 생성 API
+     * - 비동기 처리: 요청 스레드는 바로 반환, 사용자 검증 지연은 TimeLimiter 시간까지만 응답을 지연
+     */
     @PostMapping
-    public ResponseEntity<Order> createOrder(@RequestBody CreateOrderRequest request) {
+    public CompletableFuture<ResponseEntity<Order>> createOrder(@RequestBody CreateOrderRequest request) {
         log.info("[Order Controller] 주문 생성 API 호출됨");
-        Order order = orderService.createOrder(request);
-        log.info("[Order Controller] 주문 생성 완료 - orderId: {}", order.getId());
-        return ResponseEntity.status(HttpStatus.CREATED).body(order);
+        return orderService.createOrder(request)
+                .thenApply(order -> {
+                    log.info("[Order Controller] 주문 생성 완료 - orderId: {}", order.getId());
+                    return ResponseEntity.status(HttpStatus.CREATED).body(order);
+                });
+    }
+
+    /**
+     * 대량 주문 API (파트너 장바구니)
+     * - 최대 1000건, 한 건이라도 검증 실패 시 전체 거절
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Order>> createOrders(@RequestBody List<CreateOrderRequest> requests) {
+        log.info("[Order Controller] 대량 주문 생성 API 호출됨 - count: {}", requests.size());
+        List<Order> orders = orderService.createOrders(requests);
+        return ResponseEntity.status(HttpStatus.CREATED).body(orders);
+    }
+
+    /**
+     * 비동기 주문 접수 API
+     * - 입력값 검증 + 접수 저장 후 바로 202 + 토큰 반환 (사용자 검증/주문 생성은 백그라운드 처리)
+     * - 진행 상태: GET /orders/intake/{token} 또는 GET /orders/intake/{token}/stream (SSE)
+     */
+    @PostMapping("/async")
+    public ResponseEntity<OrderAcceptedResponse> acceptOrder(@RequestBody CreateOrderRequest request) {
+        OrderIntake intake = orderIntakeService.accept(request);
+        String statusUrl = "/orders/intake/" + intake.getToken();
+        return ResponseEntity.accepted()
+                .location(URI.create(statusUrl))
+                .body(new OrderAcceptedResponse(intake.getToken(), intake.getStatus(), statusUrl, statusUrl + "/stream"));
+    }
+
+    @GetMapping("/intake/{token}")
+    public ResponseEntity<OrderIntakeStatusResponse> getIntakeStatus(@PathVariable String token) {
+        return ResponseEntity.ok(orderIntakeService.getStatus(token));
+    }
+
+    /**
+     * 접수 진행 상태 스트림 (SSE) - 상태가 바뀔 때마다 "status" 이벤트 전송, 종료 상태에서 스트림 종료
+     */
+    @GetMapping(value = "/intake/{token}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIntakeStatus(@PathVariable String token) {
+        return orderIntakeStatusStreamer.open(token);
     }
 
     /**
      * 주문 조회 API
-     * - userId 없으면: 전체 주문 조회
-     * - userId 있으면: 해당 사용자의 주문 + 사용자 정보 조회 (OpenFeign + Kafka)
+     * - userId 없으면: 전체 주문 (최신순 keyset 페이지)
+     * - userId 있으면: 해당 사용자의 주문 + 사용자 정보 (조회 모델 order_view, 최신순 keyset 페이지)
+     * - 다음 페이지: cursor = 응답의 nextCursor
      */
     @GetMapping
-    public ResponseEntity<?> getOrders(@RequestParam(required = false) Long userId) {
+    public ResponseEntity<?> getOrders(@RequestParam(required = false) Long userId,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) Integer size) {
         if (userId == null) {
-            log.info("[Order Controller] 전체 주문 조회");
-            List<Order> orders = orderService.getAllOrders();
-            return ResponseEntity.ok(orders);
+            log.info("[Order Controller] 전체 주문 조회 - cursor: {}", cursor);
+            return ResponseEntity.ok(orderQueryService.getOrders(cursor, size));
         } else {
-            log.info("[Order Controller] userId로 주문 조회 (User 정보 포함) - userId: {}", userId);
-            List<OrderWithUserResponse> ordersWithUser = orderService.getOrdersWithUserInfo(userId);
-            return ResponseEntity.ok(ordersWithUser);
+            log.info("[Order Controller] userId로 주문 조회 (User 정보 포함) - userId: {}, cursor: {}", userId, cursor);
+            Long viewCursor = cursor != null ? parseViewCursor(cursor) : null;
+            OrderViewPageResponse page = orderQueryService.getOrdersWithUser(userId, viewCursor, size);
+            return ResponseEntity.ok(page);
+        }
+    }
+
+    /**
+     * 전체 주문 내보내기 (NDJSON, 한 줄에 주문 1건)
+     * - 페이지 없이 DB 커서로 끝까지 스트리밍 (메모리 사용량 일정)
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        log.info("[Order Controller] 전체 주문 내보내기");
+        StreamingResponseBody body = orderQueryService::exportOrders;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    private Long parseViewCursor(String cursor) {
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 cursor입니다: " + cursor);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.example.order.dto;
+
+import com.example.order.entity.IntakeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 주문 접수 응답 (202 Accepted)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderAcceptedResponse {
+    private String token;
+    private IntakeStatus status;
+    private String statusUrl;   // 단건 조회
+    private String streamUrl;   // 상태 스트림 (SSE)
+}
@@ -0,0 +1,30 @@
+package com.example.order.dto;
+
+import com.example.common.exception.ErrorCode;
+import com.example.common.exception.InvalidValueException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 전체 주문 목록 keyset 커서 (createdAt, id) - 클라이언트에는 불투명 문자열로 전달
+ */
+public record OrderCursor(LocalDateTime createdAt, Long id) {
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 cursor입니다: " + cursor);
+        }
+    }
+}
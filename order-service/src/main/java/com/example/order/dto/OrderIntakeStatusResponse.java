@@ -0,0 +1,36 @@
+package com.example.order.dto;
+
+import com.example.order.entity.IntakeStatus;
+import com.example.order.entity.OrderStatus;
+import com.example.order.entity.SagaStep;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 주문 접수 진행 상태
+ * - 주문 생성 전: 접수 상태만
+ * - 주문 생성 후: 주문 상태 + Saga 단계
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIntakeStatusResponse {
+    private String token;
+    private IntakeStatus intakeStatus;
+    private Long orderId;
+    private OrderStatus orderStatus;
+    private SagaStep sagaStep;
+    private String reason;      // 접수 거절/주문 취소 사유
+    private boolean done;       // 더 이상 바뀌지 않는 상태 (접수 거절 또는 Saga 종료)
+
+    /**
+     * 상태 스트림에서 변경 여부 판단용 (token/done 제외)
+     */
+    public boolean sameProgress(OrderIntakeStatusResponse other) {
+        return other != null
+                && intakeStatus == other.intakeStatus
+                && orderStatus == other.orderStatus
+                && sagaStep == other.sagaStep;
+    }
+}
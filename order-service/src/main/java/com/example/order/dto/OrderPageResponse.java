@@ -0,0 +1,18 @@
+package com.example.order.dto;
+
+import com.example.order.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 전체 주문 목록 페이지 (keyset)
+ * - nextCursor: 다음 페이지 요청 시 cursor 값 (null이면 마지막 페이지)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderPageResponse {
+    private List<Order> orders;
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package com.example.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 주문 목록 페이지 (keyset)
+ * - nextCursor: 다음 페이지 요청 시 cursor 값 (null이면 마지막 페이지)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderViewPageResponse {
+    private List<OrderWithUserResponse> orders;
+    private Long nextCursor;
+}
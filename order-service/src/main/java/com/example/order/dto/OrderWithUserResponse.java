@@ -1,7 +1,7 @@
 package com.example.order.dto;
 
-import com.example.order.entity.Order;
 import com.example.order.entity.OrderStatus;
+import com.example.order.entity.OrderView;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -28,17 +28,17 @@ public class OrderWithUserResponse {
     private String userName;
     private String userEmail;
 
-    public static OrderWithUserResponse of(Order order, UserResponse user) {
+    public static OrderWithUserResponse of(OrderView view) {
         return new OrderWithUserResponse(
-            order.getId(),
-            order.getProductName(),
-            order.getQuantity(),
-            order.getPrice(),
-            order.getStatus(),
-            order.getCreatedAt(),
-            user.getId(),
-            user.getName(),
-            user.getEmail()
+            view.getOrderId(),
+            view.getProductName(),
+            view.getQuantity(),
+            view.getPrice(),
+            view.getStatus(),
+            view.getOrderedAt(),
+            view.getUserId(),
+            view.getUserName(),
+            view.getUserEmail()
         );
     }
 }
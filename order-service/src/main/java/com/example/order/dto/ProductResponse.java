@@ -1,5 +1,6 @@
 package com.example.order.dto;
 
+import com.example.common.event.ProductChangedEvent;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,4 +23,12 @@ public class ProductResponse {
     private String brand;
     private String imageUrl;
     private Boolean active;
+
+    /**
+     * 상품 변경 이벤트로 캐시 값 생성 (주문에 필요한 id/상품명/가격/판매 여부만)
+     */
+    public static ProductResponse from(ProductChangedEvent event) {
+        return new ProductResponse(event.getProductId(), event.getName(), null, event.getPrice(),
+                null, null, null, null, event.getActive());
+    }
 }
@@ -0,0 +1,15 @@
+package com.example.order.entity;
+
+/**
+ * 비동기 주문 접수 상태
+ */
+public enum IntakeStatus {
+    ACCEPTED,     // 접수됨 (처리 대기)
+    PROCESSING,   // 처리중 (사용자 검증 + 주문 생성)
+    CREATED,      // 주문 생성 완료 → 이후 진행은 Saga 단계로 확인
+    REJECTED;     // 거절됨 (존재하지 않는 사용자 등)
+
+    public boolean isDone() {
+        return this == CREATED || this == REJECTED;
+    }
+}
@@ -10,7 +10,10 @@ import java.math.BigDecimal;
 
 @Entity
 @Table(name = "orders",
-        indexes = @Index(name = "idx_user_id", columnList = "userId"))
+        indexes = {
+                @Index(name = "idx_user_id", columnList = "userId"),
+                @Index(name = "idx_orders_created_id", columnList = "createdAt, id")  // 전체 목록 keyset 페이지
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,6 +38,12 @@ public class Order extends BaseEntity {
     @Column(nullable = false)
     private OrderStatus status = OrderStatus.PENDING;
 
+    private String paymentId;
+
+    private String deliveryId;
+
+    private String cancelReason;
+
     public Order(Long userId, Long productId, String productName, Integer quantity, BigDecimal price) {
         this.userId = userId;
         this.productId = productId;
@@ -42,4 +51,33 @@ public class Order extends BaseEntity {
         this.quantity = quantity;
         this.price = price;
     }
-}
\ No newline at end of file
+
+    /**
+     * Saga 실패 시 주문 취소 (중복 수신 시 무시)
+     */
+    public void cancel(String reason) {
+        if (this.status == OrderStatus.CANCELLED) {
+            return;
+        }
+        this.status = OrderStatus.CANCELLED;
+        this.cancelReason = reason;
+    }
+
+    public void markPaymentCompleted(String paymentId) {
+        this.paymentId = paymentId;
+        this.status = OrderStatus.CONFIRMED;
+    }
+
+    public void markDeliveryStarted(String deliveryId) {
+        this.deliveryId = deliveryId;
+        this.status = OrderStatus.SHIPPED;
+    }
+
+    public void markDelivered() {
+        this.status = OrderStatus.DELIVERED;
+    }
+
+    public void complete() {
+        this.status = OrderStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 주문 접수 버퍼
+ * - 요청 스레드는 접수 행 1건만 저장하고 토큰 반환 (User Service 호출, 주문/Saga/Outbox 저장 없음)
+ * - OrderIntakeProcessor가 배치로 가져가 사용자 검증 + 주문 생성, 결과(orderId)를 같은 트랜잭션에서 기록
+ */
+@Entity
+@Table(name = "order_intake",
+        indexes = @Index(name = "idx_order_intake_status_claimed", columnList = "status, claimedAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderIntake {
+
+    @Id
+    @Column(length = 36)
+    private String token;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IntakeStatus status;
+
+    /**
+     * 처리 시작 시각 (오래된 PROCESSING 행은 인스턴스 장애로 보고 다시 가져감)
+     */
+    private LocalDateTime claimedAt;
+
+    private Long orderId;
+
+    private String rejectReason;
+
+    /**
+     * 가져갈 때마다 증가 → 처리 인스턴스가 자신이 가져간 버전인지 확인하는 소유권 토큰
+     */
+    @Version
+    private Long version;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public OrderIntake(String token, Long userId, Long productId, String productName, Integer quantity, BigDecimal price) {
+        this.token = token;
+        this.userId = userId;
+        this.productId = productId;
+        this.productName = productName;
+        this.quantity = quantity;
+        this.price = price;
+        this.status = IntakeStatus.ACCEPTED;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    public void claim(LocalDateTime now) {
+        this.status = IntakeStatus.PROCESSING;
+        this.claimedAt = now;
+        this.updatedAt = now;
+    }
+
+    public void markCreated(Long orderId) {
+        this.status = IntakeStatus.CREATED;
+        this.orderId = orderId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void reject(String reason) {
+        this.status = IntakeStatus.REJECTED;
+        this.rejectReason = reason;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Order toOrder() {
+        return new Order(userId, productId, productName, quantity, price);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 Saga 인스턴스
+ * - 주문당 1행: 현재 단계, 마감 시각, 버전(낙관적 락)
+ * - 진행 중 Saga만 deadline을 가지므로 (종료 시 null) deadline 인덱스 범위 스캔으로 만료 대상만 조회
+ */
+@Entity
+@Table(name = "order_saga",
+        indexes = @Index(name = "idx_order_saga_deadline", columnList = "deadline"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSaga {
+
+    @Id
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SagaStep step;
+
+    private LocalDateTime deadline;
+
+    /**
+     * 결제 선승인 병렬 모드 Saga 여부
+     */
+    @Column(nullable = false)
+    private boolean preAuthorized;
+
+    /**
+     * 재고 확보 여부 (보상 시 재고 복구 필요 판단)
+     */
+    @Column(nullable = false)
+    private boolean inventoryReserved;
+
+    /**
+     * 선승인/결제 ID (보상 시 결제 취소 필요 판단)
+     */
+    private String paymentId;
+
+    @Version
+    private Long version;
+
+    private LocalDateTime updatedAt;
+
+    private OrderSaga(Long orderId, LocalDateTime deadline, boolean preAuthorized) {
+        this.orderId = orderId;
+        this.step = SagaStep.AWAITING_INVENTORY;
+        this.deadline = deadline;
+        this.preAuthorized = preAuthorized;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static OrderSaga start(Long orderId, LocalDateTime deadline, boolean preAuthorized) {
+        return new OrderSaga(orderId, deadline, preAuthorized);
+    }
+
+    public void markInventoryReserved() {
+        this.inventoryReserved = true;
+    }
+
+    public void markPaymentAuthorized(String paymentId) {
+        this.paymentId = paymentId;
+    }
+
+    /**
+     * 선승인 병렬 모드에서 재고 확보 + 선승인 결과가 모두 모였는지
+     */
+    public boolean isReadyToCapture() {
+        return preAuthorized && inventoryReserved && paymentId != null && step == SagaStep.AWAITING_INVENTORY;
+    }
+
+    /**
+     * 단계 전이 (앞으로만 진행)
+     * - 토픽이 달라 이벤트 도착 순서가 뒤바뀌어도 뒤 단계 이벤트가 먼저 오면 건너뛰어 진행
+     * @param deadline 다음 단계 마감 시각 (마감 없는 단계면 null)
+     * @return 전이 여부 (중복 이벤트, 이미 지난 단계, 종료된 Saga면 false)
+     */
+    public boolean advance(SagaStep next, LocalDateTime deadline) {
+        if (this.step.isTerminal() || next.ordinal() <= this.step.ordinal()) {
+            return false;
+        }
+        this.step = next;
+        this.deadline = next.isTerminal() ? null : deadline;  // COMPLETED도 이 경로로 종료
+        this.updatedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /**
+     * 진행 중이면 종료 단계로 전이 (취소/시간 초과)
+     * @return 전이 여부 (이미 종료된 Saga면 false)
+     */
+    public boolean finish(SagaStep terminalStep) {
+        if (this.step.isTerminal()) {
+            return false;
+        }
+        this.step = terminalStep;
+        this.deadline = null;
+        this.updatedAt = LocalDateTime.now();
+        return true;
+    }
+}
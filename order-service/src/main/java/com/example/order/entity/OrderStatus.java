@@ -5,5 +5,6 @@ public enum OrderStatus {
     CONFIRMED,    // 확인됨
     SHIPPED,      // 배송중
     DELIVERED,    // 배송완료
+    COMPLETED,    // 주문 최종 완료 (Saga 성공)
     CANCELLED     // 취소됨
 }
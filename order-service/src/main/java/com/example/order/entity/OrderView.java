@@ -0,0 +1,86 @@
+package com.example.order.entity;
+
+import com.example.order.dto.UserResponse;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 조회 모델 (CQRS 읽기 전용) - 주문 + 사용자 정보 비정규화
+ * - 사용자별 주문 목록은 (userId, orderId) 인덱스 keyset 조회 1회 (User Service 호출 없음)
+ * - 주문 생성/상태 변경은 같은 트랜잭션에서 반영 (OrderViewProjector)
+ * - 사용자 정보는 user-events로 userResolved=false 표시 후 백그라운드에서 다시 채움
+ */
+@Entity
+@Table(name = "order_view",
+        indexes = {
+                @Index(name = "idx_order_view_user_order", columnList = "userId, orderId"),
+                // 미반영 사용자 조회 (userResolved = false 구간만 인덱스 스캔, DISTINCT userId는 인덱스만으로 처리)
+                @Index(name = "idx_order_view_unresolved_user", columnList = "userResolved, userId")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderView {
+
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime orderedAt;
+
+    private String userName;
+
+    private String userEmail;
+
+    /**
+     * 사용자 정보 반영 여부 (false면 백그라운드에서 User Service 조회 후 채움)
+     */
+    @Column(nullable = false)
+    private boolean userResolved;
+
+    /**
+     * 사용자 변경 이벤트 수신 시각 (이보다 먼저 시작한 조회 결과로는 덮어쓰지 않음)
+     */
+    private LocalDateTime userChangedAt;
+
+    private LocalDateTime updatedAt;
+
+    /**
+     * @param user 주문 시 확인한 사용자 정보 (없으면 null - 이후 백그라운드에서 채움)
+     */
+    public static OrderView of(Order order, UserResponse user) {
+        OrderView view = new OrderView();
+        view.orderId = order.getId();
+        view.userId = order.getUserId();
+        view.productName = order.getProductName();
+        view.quantity = order.getQuantity();
+        view.price = order.getPrice();
+        view.status = order.getStatus();
+        view.orderedAt = order.getCreatedAt();
+        view.userResolved = user != null;
+        view.userName = user != null ? user.getName() : null;
+        view.userEmail = user != null ? user.getEmail() : null;
+        view.updatedAt = LocalDateTime.now();
+        return view;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.order.entity;
+
+/**
+ * 주문 Saga 단계
+ * - AWAITING_* 단계는 마감 시각(deadline)이 있고, 지나면 SagaTimeoutSweeper가 보상 처리
+ */
+public enum SagaStep {
+    AWAITING_INVENTORY(false),  // 재고 확보 대기 (선승인 병렬 모드: 재고 확보 + 선승인 대기)
+    AWAITING_PAYMENT(false),    // 결제 대기 (재고 확보됨, 선승인 병렬 모드: 매입 대기)
+    AWAITING_DELIVERY(false),   // 배송 시작 대기 (결제 완료)
+    IN_DELIVERY(false),         // 배송중
+    COMPLETED(true),            // Saga 성공
+    CANCELLED(true),            // 재고 부족/결제 실패로 취소
+    TIMED_OUT(true);            // 시간 초과로 보상 처리됨
+
+    private final boolean terminal;
+
+    SagaStep(boolean terminal) {
+        this.terminal = terminal;
+    }
+
+    public boolean isTerminal() {
+        return terminal;
+    }
+}
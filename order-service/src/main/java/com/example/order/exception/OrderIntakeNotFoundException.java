@@ -0,0 +1,14 @@
+package com.example.order.exception;
+
+import com.example.common.exception.EntityNotFoundException;
+import com.example.common.exception.ErrorCode;
+
+/**
+ * 접수 토큰에 해당하는 주문 접수가 없을 때 발생하는 예외 (잘못된 토큰 또는 보관 기간 경과)
+ */
+public class OrderIntakeNotFoundException extends EntityNotFoundException {
+
+    public OrderIntakeNotFoundException(String token) {
+        super(ErrorCode.ORDER_INTAKE_NOT_FOUND, "접수된 주문을 찾을 수 없습니다: " + token);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.order.exception;
+
+import com.example.common.exception.EntityNotFoundException;
+import com.example.common.exception.ErrorCode;
+
+/**
+ * 상품이 없거나 판매 중단된 상품으로 주문할 때 발생하는 예외
+ */
+public class ProductNotFoundException extends EntityNotFoundException {
+
+    public ProductNotFoundException(Long productId) {
+        super(ErrorCode.PRODUCT_NOT_FOUND, "주문할 수 없는 상품입니다: " + productId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.order.exception;
+
+import com.example.common.exception.EntityNotFoundException;
+import com.example.common.exception.ErrorCode;
+
+/**
+ * User Service에 사용자가 없을 때 발생하는 예외
+ */
+public class UserNotFoundException extends EntityNotFoundException {
+
+    public UserNotFoundException(Long userId) {
+        super(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userId);
+    }
+}
@@ -1,36 +1,49 @@
 package com.example.order.kafka;
 
+import com.example.common.event.OrderCancelledEvent;
+import com.example.common.event.OrderCompletedEvent;
 import com.example.common.event.OrderCreatedEvent;
+import com.example.common.event.PaymentCaptureRequestedEvent;
+import com.example.common.outbox.EventPublisher;
 import com.example.order.entity.Order;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * 주문 이벤트 Kafka Producer
- * - 주문 생성 시 order-events 토픽으로 이벤트 발행
- * - Phase 1: 단순 발행 (비동기)
- * - Phase 2: Outbox 패턴 적용 예정
+ * - 주문 생성/취소/완료 시 order-events 토픽으로 이벤트 발행
+ * - Outbox 패턴: 주문과 같은 트랜잭션에서 outbox_event에 저장하고, 실제 발행은 OutboxDispatcher가 담당
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderEventProducer {
 
-    private final KafkaTemplate<String, OrderCreatedEvent> kafkaTemplate;
+    private final EventPublisher eventPublisher;
     private static final String TOPIC = "order-events";
 
     /**
-     * 주문 생성 이벤트 발행
+     * 주문 생성 이벤트 발행 (Outbox 저장)
+     * - 반드시 주문 저장 트랜잭션 안에서 호출해야 함
      * @param order 생성된 주문
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishOrderCreated(Order order) {
+        publishOrderCreated(order, false);
+    }
+
+    /**
+     * 주문 생성 이벤트 발행 (Outbox 저장)
+     * @param preAuthorize true면 Payment Service가 재고 확보와 동시에 결제 선승인
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderCreated(Order order, boolean preAuthorize) {
         BigDecimal totalPrice = order.getPrice().multiply(BigDecimal.valueOf(order.getQuantity()));
 
         OrderCreatedEvent event = OrderCreatedEvent.builder()
@@ -42,28 +55,84 @@ public class OrderEventProducer {
                 .price(order.getPrice())
                 .totalPrice(totalPrice)
                 .createdAt(LocalDateTime.now())
+                .preAuthorize(preAuthorize)
+                .build();
+
+        eventPublisher.publish(TOPIC, event.getOrderId().toString(), event);
+        log.info("📤 [Kafka Producer] 주문 이벤트 Outbox 저장 - orderId: {}, topic: {}", order.getId(), TOPIC);
+    }
+
+    /**
+     * 주문 취소 이벤트 발행 (Outbox 저장)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderCancelled(Order order) {
+        publishOrderCancelled(order, null, null);
+    }
+
+    /**
+     * 주문 취소 이벤트 발행 + 보상 요청 (Outbox 저장)
+     * @param releaseQuantity 복구할 재고 수량 (null이면 재고 복구 불필요)
+     * @param refundPaymentId 취소할 결제 ID (null이면 결제 취소 불필요)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderCancelled(Order order, Integer releaseQuantity, String refundPaymentId) {
+        OrderCancelledEvent event = OrderCancelledEvent.builder()
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .reason(order.getCancelReason())
+                .cancelledAt(LocalDateTime.now())
+                .productId(order.getProductId())
+                .releaseQuantity(releaseQuantity)
+                .refundPaymentId(refundPaymentId)
+                .build();
+
+        eventPublisher.publish(TOPIC, event.getOrderId().toString(), event);
+        log.info("📤 [Kafka Producer] 주문 취소 이벤트 Outbox 저장 - orderId: {}, 재고 복구: {}, 결제 취소: {}",
+                order.getId(), releaseQuantity, refundPaymentId);
+    }
+
+    /**
+     * 주문 완료 이벤트 발행 (Outbox 저장)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderCompleted(Order order) {
+        OrderCompletedEvent event = OrderCompletedEvent.builder()
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .productName(order.getProductName())
+                .quantity(order.getQuantity())
+                .paymentId(order.getPaymentId())
+                .completedAt(LocalDateTime.now())
+                .build();
+
+        eventPublisher.publish(TOPIC, event.getOrderId().toString(), event);
+        log.info("📤 [Kafka Producer] 주문 완료 이벤트 Outbox 저장 - orderId: {}", order.getId());
+    }
+
+    /**
+     * 결제 매입 요청 이벤트 발행 (Outbox 저장)
+     * - 선승인 병렬 모드에서 재고 확보 + 선승인이 모두 성공했을 때
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishPaymentCaptureRequested(Order order, String paymentId) {
+        PaymentCaptureRequestedEvent event = PaymentCaptureRequestedEvent.builder()
+                .orderId(order.getId())
+                .paymentId(paymentId)
+                .productId(order.getProductId())
+                .quantity(order.getQuantity())
+                .amount(order.getPrice().multiply(BigDecimal.valueOf(order.getQuantity())))
+                .requestedAt(LocalDateTime.now())
                 .build();
 
-        log.info("📤 [Kafka Producer] 주문 이벤트 발행 시작 - orderId: {}, topic: {}",
-                order.getId(), TOPIC);
-
-        // 비동기 전송 (CompletableFuture)
-        CompletableFuture<SendResult<String, OrderCreatedEvent>> future =
-                kafkaTemplate.send(TOPIC, event.getOrderId().toString(), event);
-
-        // 콜백으로 성공/실패 로깅
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("✅ [Kafka Producer] 이벤트 발행 성공 - orderId: {}, partition: {}, offset: {}",
-                        event.getOrderId(),
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
-            } else {
-                log.error("❌ [Kafka Producer] 이벤트 발행 실패 - orderId: {}, error: {}",
-                        event.getOrderId(), ex.getMessage(), ex);
-                // Phase 1: 실패 시 로그만 남김
-                // Phase 2: Outbox 패턴으로 실패 처리
-            }
-        });
+        eventPublisher.publish(TOPIC, event.getOrderId().toString(), event);
+        log.info("📤 [Kafka Producer] 결제 매입 요청 이벤트 Outbox 저장 - orderId: {}, paymentId: {}", order.getId(), paymentId);
+    }
+
+    /**
+     * 대량 발행 후 버퍼 즉시 전송 (Outbox 방식에서는 Dispatcher가 배치 단위로 flush)
+     */
+    public void flush() {
+        eventPublisher.flush();
     }
 }
@@ -0,0 +1,38 @@
+package com.example.order.kafka;
+
+import com.example.common.event.UserChangedEvent;
+import com.example.common.kafka.EventTypeRouter;
+import com.example.order.service.OrderViewProjector;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 이벤트 구독 → 주문 조회 모델(order_view)의 사용자 정보 갱신 예약
+ * - DB 갱신이므로 서비스 공통 Consumer Group (인스턴스 중 1곳만 처리, 캐시 무효화용 UserEventConsumer와 별개)
+ * - 재처리해도 같은 결과 (다시 채우도록 표시만 함)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderViewUserEventConsumer {
+
+    private final OrderViewProjector orderViewProjector;
+
+    private final EventTypeRouter router = EventTypeRouter.builder()
+            .on(UserChangedEvent.class, this::onUserChanged)
+            .build();
+
+    @KafkaListener(
+            topics = "user-events",
+            groupId = "order-service-order-view",
+            properties = EventTypeRouter.RAW_VALUE_DESERIALIZER
+    )
+    public void handleUserEvent(ConsumerRecord<String, byte[]> record) {
+        router.route(record);
+    }
+
+    private void onUserChanged(UserChangedEvent event) {
+        orderViewProjector.onUserChanged(event.getUserId());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.order.kafka;
+
+import com.example.common.event.ProductChangedEvent;
+import com.example.common.kafka.EventTypeRouter;
+import com.example.order.client.CachedProductClient;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product 이벤트 구독 → 상품 로컬 캐시 갱신
+ * - 인스턴스마다 별도 Consumer Group (모든 인스턴스가 모든 이벤트 수신)
+ * - 기동 시 카탈로그를 새로 적재하므로 지난 이벤트는 읽지 않음 (auto.offset.reset=latest)
+ * - 같은 상품 이벤트는 같은 파티션(key = productId)이라 순서대로 반영, 재처리해도 같은 값
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductEventConsumer {
+
+    private final CachedProductClient cachedProductClient;
+
+    private final EventTypeRouter router = EventTypeRouter.builder()
+            .on(ProductChangedEvent.class, this::apply)
+            .build();
+
+    @KafkaListener(
+            topics = "product-events",
+            groupId = "order-service-product-cache-#{T(java.util.UUID).randomUUID()}",
+            properties = {EventTypeRouter.RAW_VALUE_DESERIALIZER, "auto.offset.reset=latest"}
+    )
+    public void handleProductEvent(ConsumerRecord<String, byte[]> record) {
+        router.route(record);
+    }
+
+    private void apply(ProductChangedEvent event) {
+        cachedProductClient.apply(event);
+    }
+}
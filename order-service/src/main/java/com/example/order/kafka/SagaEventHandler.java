@@ -0,0 +1,289 @@
+package com.example.order.kafka;
+
+import com.example.common.event.*;
+import com.example.common.idempotency.IdempotentConsumerStore;
+import com.example.common.kafka.EventTypeRouter;
+import com.example.order.config.SagaTimeoutConfig;
+import com.example.order.entity.Order;
+import com.example.order.entity.OrderSaga;
+import com.example.order.entity.SagaStep;
+import com.example.order.exception.OrderNotFoundException;
+import com.example.order.repository.OrderRepository;
+import com.example.order.repository.OrderSagaRepository;
+import com.example.order.service.OrderViewProjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Saga 이벤트 처리 (Inventory, Payment, Delivery 이벤트)
+ * Order Service는 Saga Orchestrator 역할
+ * - 레코드 1건 = 트랜잭션 1개 (반환 시점에 커밋 완료 → 호출자가 ACK)
+ * - 재전달된 이벤트는 건너뜀 (멱등 처리 - 상태 전이/후속 이벤트 중복 방지)
+ * - eventType 헤더로 라우팅: 구독하지 않는 이벤트(OrderCreated 등)는 역직렬화/멱등 기록 없이 건너뜀
+ * - 진행 상태는 order_saga가 결정: 이벤트는 단계를 앞으로만 전이시키고,
+ *   이미 종료(시간 초과)된 Saga에 늦게 도착한 성공 이벤트는 보상 요청으로 처리
+ * - 선승인 병렬 모드(saga.mode=PARALLEL_PRE_AUTH): 재고 확보와 결제 선승인 결과를 모두 받으면 매입 요청,
+ *   한쪽이 실패하면 다른 쪽 결과(확보된 재고 / 선승인)를 보상 요청
+ *
+ * 순차 처리(SagaEventConsumer)와 키 순서 보장 병렬 처리(SagaEventParallelConsumer)가 공유
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaEventHandler {
+
+    static final String GROUP_ID = "order-service-group";
+
+    private final OrderRepository orderRepository;
+    private final OrderSagaRepository orderSagaRepository;
+    private final OrderEventProducer orderEventProducer;
+    private final IdempotentConsumerStore idempotentConsumerStore;
+    private final SagaTimeoutConfig sagaTimeoutConfig;
+    private final OrderViewProjector orderViewProjector;
+
+    private final EventTypeRouter router = EventTypeRouter.builder()
+            .on(InventoryReservedEvent.class, this::onInventoryReserved)
+            .on(InventoryReservationFailedEvent.class, this::onInventoryReservationFailed)
+            .on(PaymentAuthorizedEvent.class, this::onPaymentAuthorized)
+            .on(PaymentAuthorizationFailedEvent.class, this::onPaymentAuthorizationFailed)
+            .on(PaymentCompletedEvent.class, this::onPaymentCompleted)
+            .on(PaymentFailedEvent.class, this::onPaymentFailed)
+            .on(DeliveryStartedEvent.class, this::onDeliveryStarted)
+            .on(DeliveryCompletedEvent.class, this::onDeliveryCompleted)
+            .on(DeliveryFailedEvent.class, this::onDeliveryFailed)
+            .build();
+
+    @Transactional
+    public void handle(ConsumerRecord<String, byte[]> record) {
+        if (!router.isSubscribed(record)) {
+            return;
+        }
+
+        byte[] eventId = EventTypeRouter.headerValue(record, EventHeaders.EVENT_ID);
+        if (!idempotentConsumerStore.tryAcquire(GROUP_ID, eventId)) {
+            return;
+        }
+        router.route(record);
+    }
+
+    /**
+     * 재고 확보 성공 → 결제 대기 (선승인 병렬 모드: 선승인도 끝났으면 매입 요청)
+     * - 이미 종료된 Saga면 늦게 확보된 재고 복구 요청
+     */
+    private void onInventoryReserved(InventoryReservedEvent reservedEvent) {
+        OrderSaga saga = findSaga(reservedEvent.getOrderId());
+        if (saga.getStep() == SagaStep.AWAITING_INVENTORY) {
+            saga.markInventoryReserved();
+            if (!saga.isPreAuthorized()) {
+                saga.advance(SagaStep.AWAITING_PAYMENT, sagaTimeoutConfig.deadlineFor(SagaStep.AWAITING_PAYMENT));
+                log.info("📩 [Saga] 재고 확보 완료 - orderId: {}, 다음: 결제 대기", reservedEvent.getOrderId());
+            } else if (saga.isReadyToCapture()) {
+                requestCapture(saga);
+            } else {
+                log.info("📩 [Saga] 재고 확보 완료 - orderId: {}, 선승인 대기", reservedEvent.getOrderId());
+            }
+            return;
+        }
+
+        if (saga.getStep() == SagaStep.TIMED_OUT
+                || (saga.getStep() == SagaStep.CANCELLED && !saga.isInventoryReserved())) {
+            Order order = findOrder(reservedEvent.getOrderId());
+            log.warn("⚠️ [Saga] 종료된 Saga에 재고 확보 이벤트 도착 → 재고 복구 요청 - orderId: {}, step: {}",
+                    order.getId(), saga.getStep());
+            orderEventProducer.publishOrderCancelled(order, order.getQuantity(), null);
+        }
+    }
+
+    /**
+     * 재고 확보 실패 → 주문 취소 (선승인 병렬 모드: 선승인이 있으면 승인 취소 요청)
+     */
+    private void onInventoryReservationFailed(InventoryReservationFailedEvent failedEvent) {
+        log.info("📩 [Kafka Consumer] 재고 확보 실패 이벤트 수신 - orderId: {}",
+                failedEvent.getOrderId());
+
+        OrderSaga saga = findSaga(failedEvent.getOrderId());
+        if (!saga.finish(SagaStep.CANCELLED)) {
+            return;  // 이미 시간 초과로 취소됨
+        }
+
+        Order order = findOrder(failedEvent.getOrderId());
+        order.cancel(failedEvent.getReason());
+        orderRepository.save(order);
+        orderViewProjector.onStatusChanged(order);
+
+        log.info("❌ [Saga Failed] 주문 취소 완료 - orderId: {}, reason: {}",
+                failedEvent.getOrderId(), failedEvent.getReason());
+
+        // 주문 취소 이벤트 발행 (Notification Service로, 선승인이 있으면 Payment Service가 승인 취소)
+        orderEventProducer.publishOrderCancelled(order, null, saga.getPaymentId());
+    }
+
+    /**
+     * 결제 선승인 성공 (선승인 병렬 모드) → 재고도 확보됐으면 매입 요청
+     * - 이미 종료된 Saga면 선승인 취소 요청
+     */
+    private void onPaymentAuthorized(PaymentAuthorizedEvent authorizedEvent) {
+        OrderSaga saga = findSaga(authorizedEvent.getOrderId());
+        if (saga.getStep() == SagaStep.AWAITING_INVENTORY) {
+            saga.markPaymentAuthorized(authorizedEvent.getPaymentId());
+            if (saga.isReadyToCapture()) {
+                requestCapture(saga);
+            } else {
+                log.info("📩 [Saga] 결제 선승인 완료 - orderId: {}, 재고 확보 대기", authorizedEvent.getOrderId());
+            }
+            return;
+        }
+
+        if (saga.getStep().isTerminal() && saga.getPaymentId() == null) {
+            Order order = findOrder(authorizedEvent.getOrderId());
+            log.warn("⚠️ [Saga] 종료된 Saga에 선승인 이벤트 도착 → 승인 취소 요청 - orderId: {}, paymentId: {}",
+                    order.getId(), authorizedEvent.getPaymentId());
+            orderEventProducer.publishOrderCancelled(order, null, authorizedEvent.getPaymentId());
+        }
+    }
+
+    /**
+     * 결제 선승인 실패 (선승인 병렬 모드) → 주문 취소, 이미 확보된 재고는 복구 요청
+     */
+    private void onPaymentAuthorizationFailed(PaymentAuthorizationFailedEvent failedEvent) {
+        log.info("📩 [Kafka Consumer] 결제 선승인 실패 이벤트 수신 - orderId: {}",
+                failedEvent.getOrderId());
+
+        OrderSaga saga = findSaga(failedEvent.getOrderId());
+        if (!saga.finish(SagaStep.CANCELLED)) {
+            return;
+        }
+
+        Order order = findOrder(failedEvent.getOrderId());
+        order.cancel(failedEvent.getReason());
+        orderRepository.save(order);
+        orderViewProjector.onStatusChanged(order);
+
+        log.info("❌ [Saga Failed] 주문 취소 완료 - orderId: {}, reason: {}",
+                failedEvent.getOrderId(), failedEvent.getReason());
+
+        Integer releaseQuantity = saga.isInventoryReserved() ? order.getQuantity() : null;
+        orderEventProducer.publishOrderCancelled(order, releaseQuantity, null);
+    }
+
+    /**
+     * 재고 확보 + 선승인 완료 → 매입 대기로 전이하고 매입 요청
+     */
+    private void requestCapture(OrderSaga saga) {
+        saga.advance(SagaStep.AWAITING_PAYMENT, sagaTimeoutConfig.deadlineFor(SagaStep.AWAITING_PAYMENT));
+        Order order = findOrder(saga.getOrderId());
+        orderEventProducer.publishPaymentCaptureRequested(order, saga.getPaymentId());
+        log.info("📩 [Saga] 재고 확보 + 선승인 완료 - orderId: {}, 다음: 매입", saga.getOrderId());
+    }
+
+    private void onPaymentCompleted(PaymentCompletedEvent completedEvent) {
+        log.info("📩 [Kafka Consumer] 결제 완료 이벤트 수신 - orderId: {}, paymentId: {}",
+                completedEvent.getOrderId(), completedEvent.getPaymentId());
+
+        OrderSaga saga = findSaga(completedEvent.getOrderId());
+        Order order = findOrder(completedEvent.getOrderId());
+
+        if (!saga.advance(SagaStep.AWAITING_DELIVERY, sagaTimeoutConfig.deadlineFor(SagaStep.AWAITING_DELIVERY))) {
+            if (saga.getStep() == SagaStep.TIMED_OUT) {
+                // 재고는 시간 초과 시점에 이미 복구 요청됨 → 결제만 취소
+                log.warn("⚠️ [Saga] 시간 초과 후 결제 완료 이벤트 도착 → 결제 취소 요청 - orderId: {}, paymentId: {}",
+                        order.getId(), completedEvent.getPaymentId());
+                orderEventProducer.publishOrderCancelled(order, null, completedEvent.getPaymentId());
+            }
+            return;
+        }
+
+        saga.markPaymentAuthorized(completedEvent.getPaymentId());
+        order.markPaymentCompleted(completedEvent.getPaymentId());
+        orderRepository.save(order);
+        orderViewProjector.onStatusChanged(order);
+
+        log.info("✅ [결제 완료] orderId: {}, 다음: 배송 시작 대기", completedEvent.getOrderId());
+    }
+
+    private void onPaymentFailed(PaymentFailedEvent failedEvent) {
+        log.info("📩 [Kafka Consumer] 결제 실패 이벤트 수신 - orderId: {}",
+                failedEvent.getOrderId());
+
+        // 재고 복구는 Inventory Service가 결제 실패 이벤트로 직접 처리
+        OrderSaga saga = findSaga(failedEvent.getOrderId());
+        if (!saga.finish(SagaStep.CANCELLED)) {
+            return;
+        }
+
+        Order order = findOrder(failedEvent.getOrderId());
+        order.cancel(failedEvent.getReason());
+        orderRepository.save(order);
+        orderViewProjector.onStatusChanged(order);
+
+        log.info("❌ [Saga Failed] 주문 취소 완료 - orderId: {}, reason: {}",
+                failedEvent.getOrderId(), failedEvent.getReason());
+
+        // 주문 취소 이벤트 발행 (Notification Service로, 매입 실패한 선승인은 Payment Service가 승인 취소)
+        orderEventProducer.publishOrderCancelled(order, null, saga.getPaymentId());
+    }
+
+    private void onDeliveryStarted(DeliveryStartedEvent startedEvent) {
+        log.info("📩 [Kafka Consumer] 배송 시작 이벤트 수신 - orderId: {}, deliveryId: {}",
+                startedEvent.getOrderId(), startedEvent.getDeliveryId());
+
+        OrderSaga saga = findSaga(startedEvent.getOrderId());
+        if (!saga.advance(SagaStep.IN_DELIVERY, null)) {
+            if (saga.getStep() == SagaStep.TIMED_OUT) {
+                log.warn("⚠️ [Saga] 시간 초과로 취소된 주문의 배송 시작 - orderId: {}, deliveryId: {} - 고객센터 처리 필요",
+                        startedEvent.getOrderId(), startedEvent.getDeliveryId());
+            }
+            return;
+        }
+
+        Order order = findOrder(startedEvent.getOrderId());
+        order.markDeliveryStarted(startedEvent.getDeliveryId());
+        orderRepository.save(order);
+        orderViewProjector.onStatusChanged(order);
+
+        log.info("🚚 [배송 시작] orderId: {}, deliveryId: {}",
+                startedEvent.getOrderId(), startedEvent.getDeliveryId());
+    }
+
+    private void onDeliveryCompleted(DeliveryCompletedEvent completedEvent) {
+        log.info("📩 [Kafka Consumer] 배송 완료 이벤트 수신 - orderId: {}",
+                completedEvent.getOrderId());
+
+        if (!findSaga(completedEvent.getOrderId()).advance(SagaStep.COMPLETED, null)) {
+            return;
+        }
+
+        Order order = findOrder(completedEvent.getOrderId());
+        order.markDelivered();
+        order.complete(); // 최종 완료
+        orderRepository.save(order);
+        orderViewProjector.onStatusChanged(order);
+
+        log.info("✅ [Saga Success] 주문 최종 완료 - orderId: {}", completedEvent.getOrderId());
+
+        // 주문 완료 이벤트 발행 (Notification Service로)
+        orderEventProducer.publishOrderCompleted(order);
+    }
+
+    private void onDeliveryFailed(DeliveryFailedEvent failedEvent) {
+        log.info("📩 [Kafka Consumer] 배송 실패 이벤트 수신 - orderId: {}",
+                failedEvent.getOrderId());
+
+        // 배송 실패는 고객센터 처리 (주문은 유지)
+        log.warn("⚠️ [배송 실패] orderId: {}, reason: {} - 고객센터 처리 필요",
+                failedEvent.getOrderId(), failedEvent.getReason());
+    }
+
+    private OrderSaga findSaga(Long orderId) {
+        return orderSagaRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
+
+    private Order findOrder(Long orderId) {
+        return orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
+}
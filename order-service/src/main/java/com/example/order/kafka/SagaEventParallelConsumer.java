@@ -0,0 +1,39 @@
+package com.example.order.kafka;
+
+import com.example.common.config.KafkaConsumerConfig;
+import com.example.common.kafka.EventTypeRouter;
+import com.example.common.kafka.KeyOrderedParallelProcessor;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saga 이벤트 구독 - 키 순서 보장 병렬 처리 (saga.consumer.key-ordered-enabled=true 일 때만 동작)
+ *
+ * 순차 처리 대비 개선사항:
+ * - 같은 orderId의 이벤트는 순서대로, 다른 주문은 Virtual Thread에서 동시 처리
+ *   (모든 Saga 이벤트의 키가 orderId이므로 토픽이 달라도 같은 주문은 같은 레인)
+ * - 처리 병렬도가 파티션 수 × 1에 묶이지 않음 → 적체 해소 속도 향상
+ * - 가장 낮은 미완료 오프셋까지만 커밋 → 재시작 시 미완료분부터 재처리 (완료분은 멱등 처리로 건너뜀)
+ */
+@Component
+@RequiredArgsConstructor
+public class SagaEventParallelConsumer {
+
+    private final SagaEventHandler sagaEventHandler;
+    private final KeyOrderedParallelProcessor keyOrderedParallelProcessor;
+
+    @KafkaListener(
+            id = "orderSagaKeyOrderedListener",
+            topics = {"inventory-events", "payment-events", "delivery-events"},
+            groupId = SagaEventHandler.GROUP_ID,
+            containerFactory = KafkaConsumerConfig.KEY_ORDERED_FACTORY,
+            autoStartup = "${saga.consumer.key-ordered-enabled:false}",
+            properties = EventTypeRouter.RAW_VALUE_DESERIALIZER
+    )
+    public void handleSagaEvent(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        keyOrderedParallelProcessor.submit(record, ack, sagaEventHandler::handle);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.order.kafka;
+
+import com.example.common.event.UserChangedEvent;
+import com.example.common.kafka.EventTypeRouter;
+import com.example.order.client.CachedUserClient;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 이벤트 구독 → 사용자 로컬 캐시 무효화
+ * - 캐시는 인스턴스마다 있으므로 인스턴스마다 별도 Consumer Group (모든 인스턴스가 모든 이벤트 수신)
+ * - 새로 뜬 인스턴스는 캐시가 비어 있으므로 지난 이벤트는 읽지 않음 (auto.offset.reset=latest)
+ * - 무효화는 멱등이므로 중복 처리 방지 불필요
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEventConsumer {
+
+    private final CachedUserClient cachedUserClient;
+
+    private final EventTypeRouter router = EventTypeRouter.builder()
+            .on(UserChangedEvent.class, this::invalidate)
+            .build();
+
+    @KafkaListener(
+            topics = "user-events",
+            groupId = "order-service-user-cache-#{T(java.util.UUID).randomUUID()}",
+            properties = {EventTypeRouter.RAW_VALUE_DESERIALIZER, "auto.offset.reset=latest"}
+    )
+    public void handleUserEvent(ConsumerRecord<String, byte[]> record) {
+        router.route(record);
+    }
+
+    private void invalidate(UserChangedEvent event) {
+        cachedUserClient.invalidate(event.getUserId());
+    }
+}
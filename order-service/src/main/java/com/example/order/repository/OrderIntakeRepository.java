@@ -0,0 +1,39 @@
+package com.example.order.repository;
+
+import com.example.order.entity.IntakeStatus;
+import com.example.order.entity.OrderIntake;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderIntakeRepository extends JpaRepository<OrderIntake, String> {
+
+    /**
+     * 처리할 접수 배치 조회 (FOR UPDATE SKIP LOCKED)
+     * - 새 접수(ACCEPTED) + 처리 시작 후 staleBefore 이전에 멈춘 접수(PROCESSING, 인스턴스 장애)
+     * - 여러 인스턴스의 Processor가 같은 접수를 중복으로 가져가지 않도록 잠긴 행은 건너뜀
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT i FROM OrderIntake i " +
+            "WHERE i.status = com.example.order.entity.IntakeStatus.ACCEPTED " +
+            "OR (i.status = com.example.order.entity.IntakeStatus.PROCESSING AND i.claimedAt < :staleBefore) " +
+            "ORDER BY i.createdAt")
+    List<OrderIntake> findClaimableForUpdate(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OrderIntake i WHERE i.status IN :statuses AND i.updatedAt < :before")
+    int deleteDone(@Param("statuses") Collection<IntakeStatus> statuses, @Param("before") LocalDateTime before);
+}
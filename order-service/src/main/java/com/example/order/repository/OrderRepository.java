@@ -1,11 +1,46 @@
 package com.example.order.repository;
 
 import com.example.order.entity.Order;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserId(Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 전체 주문 첫 페이지 (최신순, (createdAt, id) 인덱스)
+     */
+    @Query("SELECT o FROM Order o ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findFirstPage(Pageable pageable);
+
+    /**
+     * 전체 주문 다음 페이지 - 커서 (createdAt, id) 이후만 인덱스 범위 스캔 (OFFSET 없음)
+     */
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 전체 주문 스트리밍 (NDJSON 내보내기용)
+     * - fetch size 단위로 DB에서 나눠 읽음 (MySQL은 useCursorFetch=true 필요)
+     * - 읽기 전용: 더티 체킹용 스냅샷을 만들지 않음
+     * - 호출자는 트랜잭션 안에서 소비하고, 처리한 엔티티는 detach해야 메모리가 일정하게 유지됨
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT o FROM Order o ORDER BY o.createdAt, o.id")
+    Stream<Order> streamAll();
+}
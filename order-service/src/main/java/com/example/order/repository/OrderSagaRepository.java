@@ -0,0 +1,29 @@
+package com.example.order.repository;
+
+import com.example.order.entity.OrderSaga;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderSagaRepository extends JpaRepository<OrderSaga, Long> {
+
+    /**
+     * 마감 시각이 지난 Saga 배치 조회 (FOR UPDATE SKIP LOCKED)
+     * - deadline 인덱스 범위 스캔 (종료된 Saga는 deadline이 null이라 인덱스 범위에 없음)
+     * - 여러 인스턴스의 Sweeper가 같은 Saga를 중복 처리하지 않도록 잠긴 행은 건너뜀
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM OrderSaga s WHERE s.deadline < :now ORDER BY s.deadline")
+    List<OrderSaga> findExpiredForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+}
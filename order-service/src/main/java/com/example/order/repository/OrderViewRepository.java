@@ -0,0 +1,49 @@
+package com.example.order.repository;
+
+import com.example.order.entity.OrderStatus;
+import com.example.order.entity.OrderView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderViewRepository extends JpaRepository<OrderView, Long> {
+
+    /**
+     * 사용자 주문 첫 페이지 (최신순 - Snowflake ID는 시간 순서)
+     */
+    List<OrderView> findByUserIdOrderByOrderIdDesc(Long userId, Pageable pageable);
+
+    /**
+     * 사용자 주문 다음 페이지 (orderId < cursor) - OFFSET 없이 인덱스 범위 스캔
+     */
+    List<OrderView> findByUserIdAndOrderIdLessThanOrderByOrderIdDesc(Long userId, Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OrderView v SET v.status = :status, v.updatedAt = :now WHERE v.orderId IN :orderIds")
+    int updateStatus(@Param("orderIds") Collection<Long> orderIds, @Param("status") OrderStatus status,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OrderView v SET v.userResolved = false, v.userChangedAt = :now WHERE v.userId = :userId")
+    int markUserUnresolved(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자 정보 반영 - 조회 시작 후 변경 이벤트가 온 주문은 제외 (다음 실행에서 다시 조회)
+     */
+    @Modifying
+    @Query("UPDATE OrderView v SET v.userName = :userName, v.userEmail = :userEmail, v.userResolved = true " +
+           "WHERE v.userId = :userId AND (v.userChangedAt IS NULL OR v.userChangedAt < :fetchedAt)")
+    int updateUser(@Param("userId") Long userId, @Param("userName") String userName,
+                   @Param("userEmail") String userEmail, @Param("fetchedAt") LocalDateTime fetchedAt);
+
+    @Query("SELECT DISTINCT v.userId FROM OrderView v WHERE v.userResolved = false")
+    List<Long> findUnresolvedUserIds(Pageable pageable);
+}
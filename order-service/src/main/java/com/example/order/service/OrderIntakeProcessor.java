@@ -0,0 +1,163 @@
+package com.example.order.service;
+
+import com.example.order.client.CachedUserClient;
+import com.example.order.config.OrderIntakeConfig;
+import com.example.order.dto.UserResponse;
+import com.example.order.entity.IntakeStatus;
+import com.example.order.entity.Order;
+import com.example.order.entity.OrderIntake;
+import com.example.order.repository.OrderIntakeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 비동기 주문 접수 처리
+ * - 접수 배치를 SKIP LOCKED로 가져가 PROCESSING 표시 (여러 인스턴스가 나눠서 처리)
+ * - 배치 내 사용자는 일괄 조회 1회로 검증 (User Service 장애 시 동기 API Fallback과 같이 검증 없이 진행)
+ * - 주문 저장 + Saga 시작 + Outbox 저장 + 접수 완료 표시를 한 트랜잭션으로 처리 → 접수 1건당 주문 1건
+ *   (인스턴스 장애로 다시 가져간 접수와 경합하면 @Version 충돌로 한쪽만 커밋)
+ */
+@Slf4j
+@Component
+public class OrderIntakeProcessor {
+
+    private static final String UNKNOWN_USER_REASON = "존재하지 않는 사용자";
+
+    private final OrderIntakeRepository orderIntakeRepository;
+    private final OrderService orderService;
+    private final CachedUserClient userClient;  // 로컬 캐시 경유 (User Service 호출 최소화)
+    private final TransactionTemplate transactionTemplate;
+    private final OrderIntakeConfig config;
+    private final Counter createdCounter;
+    private final Counter rejectedCounter;
+    private final Timer intakeLag;
+
+    public OrderIntakeProcessor(OrderIntakeRepository orderIntakeRepository,
+                                OrderService orderService,
+                                CachedUserClient userClient,
+                                TransactionTemplate transactionTemplate,
+                                OrderIntakeConfig config,
+                                MeterRegistry meterRegistry) {
+        this.orderIntakeRepository = orderIntakeRepository;
+        this.orderService = orderService;
+        this.userClient = userClient;
+        this.transactionTemplate = transactionTemplate;
+        this.config = config;
+        this.createdCounter = Counter.builder("order.intake.processed")
+                .description("처리된 비동기 주문 접수 수")
+                .tag("result", "created")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("order.intake.processed")
+                .description("처리된 비동기 주문 접수 수")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.intakeLag = Timer.builder("order.intake.lag")
+                .description("접수부터 주문 생성까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.intake.poll-interval-ms:100}")
+    public void process() {
+        try {
+            List<OrderIntake> claimed = claimBatch();
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            Map<Long, String> rejectReasons = verifyUsers(claimed);
+            for (OrderIntake intake : claimed) {
+                complete(intake, rejectReasons.get(intake.getUserId()));
+            }
+        } catch (Exception e) {
+            log.error("❌ [Order Intake] 주문 접수 처리 실패", e);
+        }
+    }
+
+    /**
+     * 처리 완료 접수 정리
+     */
+    @Scheduled(fixedDelay = 3600000)
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusHours(config.getRetentionHours());
+        Integer deleted = transactionTemplate.execute(status ->
+                orderIntakeRepository.deleteDone(EnumSet.of(IntakeStatus.CREATED, IntakeStatus.REJECTED), before));
+        if (deleted != null && deleted > 0) {
+            log.info("🧹 [Order Intake] 처리 완료 접수 {}건 삭제", deleted);
+        }
+    }
+
+    private List<OrderIntake> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OrderIntake> intakes = orderIntakeRepository.findClaimableForUpdate(
+                    now.minus(config.getClaimTimeout()), PageRequest.of(0, config.getBatchSize()));
+            intakes.forEach(intake -> intake.claim(now));
+            return intakes;
+        });
+    }
+
+    /**
+     * 배치 내 사용자 일괄 검증 (캐시 미스만 User Service 일괄 조회 1회) → 거절 사유 (null이면 통과)
+     */
+    private Map<Long, String> verifyUsers(List<OrderIntake> intakes) {
+        Set<Long> userIds = new HashSet<>();
+        intakes.forEach(intake -> userIds.add(intake.getUserId()));
+
+        Map<Long, String> rejectReasons = new HashMap<>();
+        try {
+            Map<Long, UserResponse> found = userClient.getUsersByIds(userIds);
+            userIds.stream()
+                    .filter(userId -> !found.containsKey(userId))
+                    .forEach(userId -> rejectReasons.put(userId, UNKNOWN_USER_REASON));
+        } catch (Exception e) {
+            log.warn("⚠️ [Order Intake] User Service 호출 실패 - 사용자 검증 없이 진행 - count: {}, error: {}",
+                    userIds.size(), e.getMessage());
+        }
+        return rejectReasons;
+    }
+
+    private void complete(OrderIntake claimed, String rejectReason) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 가져간 뒤 버전이 바뀌었으면 다른 인스턴스가 다시 가져간 접수
+                // (claimedAt 비교는 DB 왕복 시 정밀도가 잘려 항상 불일치할 수 있으므로 사용하지 않음)
+                OrderIntake intake = orderIntakeRepository.findById(claimed.getToken()).orElse(null);
+                if (intake == null || intake.getStatus() != IntakeStatus.PROCESSING
+                        || !intake.getVersion().equals(claimed.getVersion())) {
+                    return;
+                }
+
+                if (rejectReason != null) {
+                    intake.reject(rejectReason);
+                    rejectedCounter.increment();
+                    log.info("❌ [Order Intake] 주문 접수 거절 - token: {}, reason: {}", intake.getToken(), rejectReason);
+                    return;
+                }
+
+                Order order = orderService.saveWithEvent(intake.toOrder(), null);  // 사용자 정보는 조회 모델에 나중에 채움
+                intake.markCreated(order.getId());
+                createdCounter.increment();
+                intakeLag.record(Duration.between(intake.getCreatedAt(), LocalDateTime.now()));
+                log.info("✅ [Order Intake] 주문 생성 - token: {}, orderId: {}", intake.getToken(), order.getId());
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.info("[Order Intake] 다른 인스턴스가 먼저 처리한 접수 - token: {}", claimed.getToken());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.order.service;
+
+import com.example.order.client.CachedProductClient;
+import com.example.order.dto.OrderIntakeStatusResponse;
+import com.example.order.dto.ProductResponse;
+import com.example.order.entity.IntakeStatus;
+import com.example.order.entity.Order;
+import com.example.order.entity.OrderIntake;
+import com.example.order.entity.OrderSaga;
+import com.example.order.exception.OrderIntakeNotFoundException;
+import com.example.order.repository.OrderIntakeRepository;
+import com.example.order.repository.OrderRepository;
+import com.example.order.repository.OrderSagaRepository;
+import com.example.order.service.OrderService.CreateOrderRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수
+ * - 요청 스레드: 입력값 검증 + 상품 가격 결정(로컬 캐시) + 접수 행 1건 저장 후 토큰 반환 (User Service / 주문 저장 지연과 무관)
+ * - 가격은 접수 시점 기준으로 고정 (처리 전 가격이 바뀌어도 접수 가격으로 주문)
+ * - 실제 주문 생성은 OrderIntakeProcessor, 진행 상태는 토큰으로 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIntakeService {
+
+    private final OrderIntakeRepository orderIntakeRepository;
+    private final OrderRepository orderRepository;
+    private final OrderSagaRepository orderSagaRepository;
+    private final CachedProductClient productClient;
+
+    @Transactional
+    public OrderIntake accept(CreateOrderRequest request) {
+        request.validate();
+        ProductResponse product = productClient.getOrderableProduct(request.getProductId());
+
+        OrderIntake intake = new OrderIntake(
+                UUID.randomUUID().toString(),
+                request.getUserId(),
+                request.getProductId(),
+                product.getName(),
+                request.getQuantity(),
+                product.getPrice()
+        );
+        orderIntakeRepository.save(intake);
+        log.info("[Order Intake] 주문 접수 - token: {}, userId: {}", intake.getToken(), intake.getUserId());
+        return intake;
+    }
+
+    @Transactional(readOnly = true)
+    public OrderIntakeStatusResponse getStatus(String token) {
+        OrderIntake intake = orderIntakeRepository.findById(token)
+                .orElseThrow(() -> new OrderIntakeNotFoundException(token));
+
+        if (intake.getStatus() != IntakeStatus.CREATED) {
+            boolean rejected = intake.getStatus() == IntakeStatus.REJECTED;
+            return new OrderIntakeStatusResponse(token, intake.getStatus(), null, null, null,
+                    intake.getRejectReason(), rejected);
+        }
+
+        Order order = orderRepository.findById(intake.getOrderId()).orElse(null);
+        OrderSaga saga = orderSagaRepository.findById(intake.getOrderId()).orElse(null);
+        return new OrderIntakeStatusResponse(
+                token,
+                intake.getStatus(),
+                intake.getOrderId(),
+                order != null ? order.getStatus() : null,
+                saga != null ? saga.getStep() : null,
+                order != null ? order.getCancelReason() : null,
+                saga != null && saga.getStep().isTerminal()
+        );
+    }
+}
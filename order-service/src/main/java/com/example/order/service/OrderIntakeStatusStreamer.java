@@ -0,0 +1,113 @@
+package com.example.order.service;
+
+import com.example.order.config.OrderIntakeConfig;
+import com.example.order.dto.OrderIntakeStatusResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 주문 접수 상태 스트림 (SSE)
+ * - 스레드 1개가 열린 스트림 전체를 주기적으로 확인하고, 진행 상태가 바뀐 경우에만 전송
+ *   (연결마다 요청 스레드를 붙잡지 않음)
+ * - 접수 거절 / Saga 종료 시 마지막 상태를 보내고 스트림 종료, 최대 연결 시간이 지나면 클라이언트가 재연결
+ */
+@Slf4j
+@Component
+public class OrderIntakeStatusStreamer implements DisposableBean {
+
+    private static final String EVENT_NAME = "status";
+
+    private final OrderIntakeService orderIntakeService;
+    private final OrderIntakeConfig config;
+    private final Map<SseEmitter, Watch> watches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "order-intake-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OrderIntakeStatusStreamer(OrderIntakeService orderIntakeService, OrderIntakeConfig config) {
+        this.orderIntakeService = orderIntakeService;
+        this.config = config;
+        scheduler.scheduleWithFixedDelay(this::pushChanges,
+                config.getStreamPollIntervalMs(), config.getStreamPollIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 상태를 바로 보내고 스트림 등록 (잘못된 토큰이면 OrderIntakeNotFoundException)
+     */
+    public SseEmitter open(String token) {
+        OrderIntakeStatusResponse current = orderIntakeService.getStatus(token);
+        SseEmitter emitter = new SseEmitter(config.getStreamTimeout().toMillis());
+
+        if (!send(emitter, current)) {
+            return emitter;
+        }
+        if (current.isDone() || watches.size() >= config.getMaxStreams()) {
+            emitter.complete();  // 스트림 한도 초과 시 현재 상태만 전달 (클라이언트는 단건 조회로 전환)
+            return emitter;
+        }
+
+        watches.put(emitter, new Watch(token, current));
+        emitter.onCompletion(() -> watches.remove(emitter));
+        emitter.onTimeout(() -> watches.remove(emitter));
+        emitter.onError(e -> watches.remove(emitter));
+        return emitter;
+    }
+
+    private void pushChanges() {
+        watches.forEach((emitter, watch) -> {
+            try {
+                OrderIntakeStatusResponse latest = orderIntakeService.getStatus(watch.token);
+                if (latest.sameProgress(watch.last)) {
+                    return;
+                }
+                watch.last = latest;
+                if (send(emitter, latest) && latest.isDone()) {
+                    watches.remove(emitter);
+                    emitter.complete();
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ [Order Intake] 상태 스트림 갱신 실패 - token: {}, error: {}", watch.token, e.getMessage());
+                watches.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        });
+    }
+
+    private boolean send(SseEmitter emitter, OrderIntakeStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            watches.remove(emitter);  // 클라이언트 연결 끊김
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        watches.keySet().forEach(SseEmitter::complete);
+        watches.clear();
+    }
+
+    private static final class Watch {
+        private final String token;
+        private volatile OrderIntakeStatusResponse last;
+
+        private Watch(String token, OrderIntakeStatusResponse last) {
+            this.token = token;
+            this.last = last;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.order.service;
+
+import com.example.order.config.OrderViewConfig;
+import com.example.order.dto.OrderCursor;
+import com.example.order.dto.OrderPageResponse;
+import com.example.order.dto.OrderViewPageResponse;
+import com.example.order.dto.OrderWithUserResponse;
+import com.example.order.entity.Order;
+import com.example.order.entity.OrderView;
+import com.example.order.repository.OrderRepository;
+import com.example.order.repository.OrderViewRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 주문 조회
+ * - 사용자 주문 + 사용자 정보: CQRS 읽기 모델 order_view 인덱스 조회 1회, User Service 호출 없음
+ * - 전체 주문: (createdAt, id) keyset 페이지 또는 NDJSON 스트리밍 (전체를 메모리에 올리지 않음)
+ * - keyset 페이지: 주문 수와 무관하게 페이지당 비용 일정 (OFFSET 미사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderQueryService {
+
+    /**
+     * 내보내기 중 응답 스트림으로 내보내는 간격 (건)
+     */
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
+    private final OrderViewRepository orderViewRepository;
+    private final OrderRepository orderRepository;
+    private final OrderViewConfig config;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public OrderViewPageResponse getOrdersWithUser(Long userId, Long cursor, Integer size) {
+        int pageSize = pageSize(size);
+
+        // 1건 더 읽어 다음 페이지 존재 여부 판단
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<OrderView> views = cursor == null
+                ? orderViewRepository.findByUserIdOrderByOrderIdDesc(userId, limit)
+                : orderViewRepository.findByUserIdAndOrderIdLessThanOrderByOrderIdDesc(userId, cursor, limit);
+
+        boolean hasNext = views.size() > pageSize;
+        if (hasNext) {
+            views = views.subList(0, pageSize);
+        }
+        List<OrderWithUserResponse> orders = views.stream()
+                .map(OrderWithUserResponse::of)
+                .collect(Collectors.toList());
+        return new OrderViewPageResponse(orders, hasNext ? views.get(views.size() - 1).getOrderId() : null);
+    }
+
+    /**
+     * 전체 주문 (최신순 keyset 페이지)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public OrderPageResponse getOrders(String cursor, Integer size) {
+        int pageSize = pageSize(size);
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Order> orders;
+        if (cursor == null) {
+            orders = orderRepository.findFirstPage(limit);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            orders = orderRepository.findPageAfter(after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = orders.size() > pageSize;
+        if (hasNext) {
+            orders = orders.subList(0, pageSize);
+        }
+        Order last = hasNext ? orders.get(orders.size() - 1) : null;
+        return new OrderPageResponse(orders,
+                last != null ? new OrderCursor(last.getCreatedAt(), last.getId()).encode() : null);
+    }
+
+    /**
+     * 전체 주문 NDJSON 내보내기 (한 줄에 주문 1건, 오래된 순)
+     * - DB 커서로 fetch size씩 읽고 쓴 주문은 바로 detach → 테이블 크기와 무관하게 메모리 일정
+     * - 응답 스트림에 쓰는 동안 읽기 전용 트랜잭션 유지 (StreamingResponseBody 스레드에서 호출)
+     * @return 내보낸 주문 수
+     */
+    @Transactional(readOnly = true)
+    public long exportOrders(OutputStream out) {
+        // 건마다 flush하지 않고 생성기 버퍼 단위로 출력 (응답 스트림은 닫지 않음)
+        ObjectWriter writer = objectMapper.writerFor(Order.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                writer.writeValue(generator, order);
+                generator.writeRaw('\n');
+                entityManager.detach(order);
+
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등 - 읽기 전용 트랜잭션 종료, DB 커서 닫힘
+            throw new UncheckedIOException(e);
+        }
+        log.info("✅ [Order Export] 주문 내보내기 완료 - count: {}", count);
+        return count;
+    }
+
+    private int pageSize(Integer size) {
+        return size == null ? config.getDefaultPageSize() : Math.min(Math.max(size, 1), config.getMaxPageSize());
+    }
+}
@@ -1,122 +1,197 @@
 package com.example.order.service;
 
-import com.example.order.client.UserClient;
-import com.example.order.dto.OrderWithUserResponse;
+import com.example.common.exception.ErrorCode;
+import com.example.common.exception.InvalidValueException;
+import com.example.order.client.AsyncUserClient;
+import com.example.order.client.CachedProductClient;
+import com.example.order.client.CachedUserClient;
+import com.example.order.config.SagaModeConfig;
+import com.example.order.config.SagaTimeoutConfig;
+import com.example.order.dto.ProductResponse;
 import com.example.order.dto.UserResponse;
 import com.example.order.entity.Order;
+import com.example.order.entity.OrderSaga;
+import com.example.order.entity.SagaStep;
 import com.example.order.kafka.OrderEventProducer;
 import com.example.order.repository.OrderRepository;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import com.example.order.repository.OrderSagaRepository;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class OrderService {
+public class OrderService implements DisposableBean {
+
+    /**
+     * 대량 주문 1회 요청 최대 건수
+     */
+    static final int MAX_BATCH_SIZE = 1000;
 
     private final OrderRepository orderRepository;
-    private final UserClient userClient;
+    private final CachedUserClient userClient;  // 로컬 캐시 경유 (User Service 호출 최소화)
+    private final AsyncUserClient asyncUserClient;  // 단건 주문 사용자 검증 (시간 제한)
+    private final CachedProductClient productClient;  // 주문 가격/상품명 결정 (로컬 캐시)
     private final OrderEventProducer orderEventProducer;  // Kafka Producer 추가
-
-    @CircuitBreaker(name = "userClient", fallbackMethod = "createOrderFallback")
-    @TimeLimiter(name = "userClient")
-    public Order createOrder(CreateOrderRequest request) {
+    private final TransactionTemplate transactionTemplate;
+    private final OrderSagaRepository orderSagaRepository;
+    private final SagaTimeoutConfig sagaTimeoutConfig;
+    private final SagaModeConfig sagaModeConfig;
+    private final OrderViewProjector orderViewProjector;
+
+    /**
+     * 단건 주문 비동기 처리 (요청당 가상 스레드 - 원격 조회/DB 대기 중 Tomcat 스레드 점유 없음)
+     */
+    private final ExecutorService orderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 주문 생성 (비동기)
+     * - 사용자 검증(시간 제한 + Circuit Breaker)과 상품 조회를 가상 스레드에서 동시에 진행 → 둘 다 끝나면 저장
+     * - 요청 스레드는 바로 반환 (Spring MVC 비동기 처리), 사용자 검증 지연은 TimeLimiter 시간까지만 기다림
+     * - 저장 단계는 시간 제한 밖: 시간 초과 후 재시도/Fallback으로 같은 주문이 두 번 저장되지 않음
+     */
+    public CompletableFuture<Order> createOrder(CreateOrderRequest request) {
         // 분산 추적 테스트: User Service 호출하여 사용자 검증
-        log.info("주문 생성 요청 - userId: {}, productName: {}", request.getUserId(), request.getProductName());
+        log.info("주문 생성 요청 - userId: {}, productId: {}", request.getUserId(), request.getProductId());
+        request.validate();
+
+        CompletableFuture<UserResponse> user = asyncUserClient.verifyUser(request.getUserId());
+        CompletableFuture<ProductResponse> product = CompletableFuture.supplyAsync(
+                () -> productClient.getOrderableProduct(request.getProductId()), orderExecutor);
+
+        return user.thenCombineAsync(product, (verifiedUser, orderedProduct) -> {
+            if (verifiedUser != null) {
+                log.info("사용자 검증 완료 - userId: {}, userName: {}", verifiedUser.getId(), verifiedUser.getName());
+            }
+            Order savedOrder = saveWithEvent(newOrder(request, orderedProduct), verifiedUser);
+            log.info("주문 생성 완료 - orderId: {}", savedOrder.getId());
+            return savedOrder;
+        }, orderExecutor);
+    }
 
-        // [동기] User Service 호출로 사용자 검증
-        UserResponse user = userClient.getUserById(request.getUserId());
-        log.info("사용자 검증 완료 - userId: {}, userName: {}", user.getId(), user.getName());
+    /**
+     * 대량 주문 생성 (파트너 장바구니 일괄 접수)
+     * - 사용자 검증은 일괄 조회 1회 (User Service 장애 시 단건 API와 같이 검증 없이 진행)
+     * - 가격/상품명은 상품 캐시에서 결정 (주문 불가 상품이 있으면 전체 거절)
+     * - 주문/Saga/Outbox 행을 한 트랜잭션에서 JDBC 배치 INSERT (hibernate.jdbc.batch_size, order_inserts)
+     * - 주문 생성 이벤트는 커밋 후 한 번에 전송 (Outbox: Dispatcher 배치 1회 flush / 직접 발행: flush 1회)
+     * - 한 건이라도 검증에 실패하면 전체 거절
+     */
+    public List<Order> createOrders(List<CreateOrderRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE,
+                    "주문은 1건 이상 " + MAX_BATCH_SIZE + "건 이하로 요청해야 합니다.");
+        }
+        requests.forEach(CreateOrderRequest::validate);
+        Map<Long, UserResponse> users = verifyUsers(requests);
 
-        Order order = new Order(
-            request.getUserId(),
-            request.getProductId(),
-            request.getProductName(),
-            request.getQuantity(),
-            request.getPrice()
-        );
-        Order savedOrder = orderRepository.save(order);
-        log.info("주문 생성 완료 - orderId: {}", savedOrder.getId());
+        Set<Long> productIds = new LinkedHashSet<>();
+        requests.forEach(request -> productIds.add(request.getProductId()));
+        Map<Long, ProductResponse> products = productClient.getOrderableProducts(productIds);
 
-        // Kafka 이벤트 발행
-        orderEventProducer.publishOrderCreated(savedOrder);
+        List<Order> orders = new ArrayList<>(requests.size());
+        for (CreateOrderRequest request : requests) {
+            orders.add(newOrder(request, products.get(request.getProductId())));
+        }
 
-        return savedOrder;
+        List<Order> savedOrders = transactionTemplate.execute(status -> {
+            List<Order> saved = orderRepository.saveAll(orders);
+            boolean preAuthorize = sagaModeConfig.isPreAuthorize();
+            List<OrderSaga> sagas = new ArrayList<>(saved.size());
+            for (Order order : saved) {
+                sagas.add(OrderSaga.start(order.getId(),
+                        sagaTimeoutConfig.deadlineFor(SagaStep.AWAITING_INVENTORY), preAuthorize));
+                orderEventProducer.publishOrderCreated(order, preAuthorize);
+            }
+            orderSagaRepository.saveAll(sagas);
+            orderViewProjector.onCreated(saved, users);
+            return saved;
+        });
+        orderEventProducer.flush();
+
+        log.info("대량 주문 생성 완료 - count: {}", savedOrders.size());
+        return savedOrders;
     }
 
-    // Circuit Breaker Fallback 메서드
-    private Order createOrderFallback(CreateOrderRequest request, Exception ex) {
-        log.error("User Service 호출 실패! Circuit Breaker 작동 - userId: {}, error: {}",
-                  request.getUserId(), ex.getMessage());
+    /**
+     * 사용자 일괄 검증 (캐시 미스만 User Service 일괄 조회 1회) - 존재하지 않는 사용자가 있으면 전체 거절
+     * @return 조회한 사용자 (User Service 장애 시 빈 Map)
+     */
+    private Map<Long, UserResponse> verifyUsers(List<CreateOrderRequest> requests) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        requests.forEach(request -> userIds.add(request.getUserId()));
+
+        Map<Long, UserResponse> found;
+        try {
+            found = userClient.getUsersByIds(userIds);
+        } catch (Exception e) {
+            log.warn("User Service 호출 실패 - 사용자 검증 없이 진행 - count: {}, error: {}", userIds.size(), e.getMessage());
+            return Map.of();
+        }
 
-        // 사용자 검증 없이 주문 생성 (또는 예외를 던질 수도 있음)
-        log.warn("사용자 검증 없이 주문 생성 진행 - userId: {}", request.getUserId());
+        List<Long> unknownUserIds = userIds.stream()
+                .filter(userId -> !found.containsKey(userId))
+                .collect(Collectors.toList());
+        if (!unknownUserIds.isEmpty()) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "존재하지 않는 사용자: " + unknownUserIds);
+        }
+        return found;
+    }
 
-        Order order = new Order(
+    /**
+     * 주문 생성 - 상품명/가격은 요청 값이 아닌 Product Service 기준 값 사용
+     */
+    private Order newOrder(CreateOrderRequest request, ProductResponse product) {
+        return new Order(
             request.getUserId(),
             request.getProductId(),
-            request.getProductName(),
+            product.getName(),
             request.getQuantity(),
-            request.getPrice()
+            product.getPrice()
         );
-        Order savedOrder = orderRepository.save(order);
-
-        // Kafka 이벤트 발행 (Fallback에서도 발행)
-        orderEventProducer.publishOrderCreated(savedOrder);
-
-        return savedOrder;
     }
 
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    /**
+     * 주문 저장 + Saga 시작 + Outbox 이벤트 저장 + 조회 모델 반영을 한 트랜잭션으로 처리
+     * - 비동기 단건 주문은 Executor 스레드에서 호출되므로 @Transactional 대신 TransactionTemplate 사용
+     * - 비동기 접수(OrderIntakeProcessor)는 접수 완료 표시와 같은 트랜잭션에서 호출
+     * @param user 확인한 사용자 정보 (User Service 장애 등으로 없으면 null - 조회 모델에 나중에 채움)
+     */
+    Order saveWithEvent(Order order, UserResponse user) {
+        return transactionTemplate.execute(status -> {
+            Order savedOrder = orderRepository.save(order);
+            boolean preAuthorize = sagaModeConfig.isPreAuthorize();
+            orderSagaRepository.save(OrderSaga.start(savedOrder.getId(),
+                    sagaTimeoutConfig.deadlineFor(SagaStep.AWAITING_INVENTORY), preAuthorize));
+            orderEventProducer.publishOrderCreated(savedOrder, preAuthorize);
+            orderViewProjector.onCreated(savedOrder, user);
+            return savedOrder;
+        });
     }
 
     public List<Order> getOrdersByUserId(Long userId) {
         return orderRepository.findByUserId(userId);
     }
 
-    @CircuitBreaker(name = "userClient", fallbackMethod = "getOrdersWithUserFallback")
-    @TimeLimiter(name = "userClient")
-    public List<OrderWithUserResponse> getOrdersWithUserInfo(Long userId) {
-        log.info("[Order Service] 사용자의 주문 목록 조회 시작 - userId: {}", userId);
-
-        // 1. 해당 사용자의 주문 목록 조회
-        List<Order> orders = orderRepository.findByUserId(userId);
-        log.info("[Order Service] 주문 목록 조회 완료 - userId: {}, orderCount: {}", userId, orders.size());
-
-        // 2. User Service 호출하여 사용자 정보 조회
-        UserResponse user = userClient.getUserById(userId);
-        log.info("[Order Service] 사용자 정보 조회 완료 - userId: {}, userName: {}", user.getId(), user.getName());
-
-        // 3. Order + User 정보 합쳐서 반환
-        List<OrderWithUserResponse> response = orders.stream()
-            .map(order -> OrderWithUserResponse.of(order, user))
-            .collect(Collectors.toList());
-
-        log.info("[Order Service] Order + User 정보 반환 완료");
-        return response;
-    }
-
-    // Circuit Breaker Fallback 메서드
-    private List<OrderWithUserResponse> getOrdersWithUserFallback(Long userId, Exception ex) {
-        log.error("User Service 호출 실패! Circuit Breaker 작동 - userId: {}, error: {}",
-                  userId, ex.getMessage());
-
-        // User 정보 없이 Order만 반환 (기본값)
-        List<Order> orders = orderRepository.findByUserId(userId);
-        return orders.stream()
-            .map(order -> OrderWithUserResponse.of(order,
-                new UserResponse(userId, "Unknown User", "unknown@example.com")))
-            .collect(Collectors.toList());
+    @Override
+    public void destroy() {
+        orderExecutor.shutdown();
     }
 
     @Getter
@@ -125,9 +200,9 @@ public class OrderService {
     public static class CreateOrderRequest {
         private Long userId;
         private Long productId;
-        private String productName;
+        private String productName;  // 무시 (하위 호환용)
         private Integer quantity;
-        private BigDecimal price;
+        private BigDecimal price;    // 무시 (하위 호환용)
 
         public CreateOrderRequest(Long userId, Long productId, String productName, Integer quantity, BigDecimal price) {
             this.userId = userId;
@@ -136,5 +211,18 @@ public class OrderService {
             this.quantity = quantity;
             this.price = price;
         }
+
+        /**
+         * 외부 호출 없이 확인 가능한 값만 검증 (사용자/상품 존재 여부는 별도 확인)
+         * - productName, price는 받지 않음 (Product Service 기준 값으로 결정, 요청 값은 무시)
+         */
+        public void validate() {
+            if (userId == null || productId == null) {
+                throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "userId, productId는 필수입니다.");
+            }
+            if (quantity == null || quantity <= 0) {
+                throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "수량은 1 이상이어야 합니다.");
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.example.order.service;
+
+import com.example.order.client.UserLookupCollapser;
+import com.example.order.config.OrderViewConfig;
+import com.example.order.dto.UserResponse;
+import com.example.order.entity.Order;
+import com.example.order.entity.OrderStatus;
+import com.example.order.entity.OrderView;
+import com.example.order.repository.OrderViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 조회 모델(order_view) 갱신
+ * - 주문 생성 / Saga 이벤트로 인한 상태 변경: 쓰기 모델과 같은 트랜잭션에서 반영 (조회 모델이 주문보다 뒤처지지 않음)
+ * - 사용자 정보: 주문 시 확인한 값으로 채우고, 없거나 user-events로 바뀌면 백그라운드에서 일괄 조회 후 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderViewProjector {
+
+    private final OrderViewRepository orderViewRepository;
+    private final UserLookupCollapser userLookupCollapser;  // 캐시 우회 (무효화 전 이전 값으로 채우지 않도록)
+    private final OrderViewConfig config;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @param user 주문 시 확인한 사용자 정보 (Fallback 등으로 없으면 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(Order order, UserResponse user) {
+        orderViewRepository.save(OrderView.of(order, user));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(List<Order> orders, Map<Long, UserResponse> users) {
+        List<OrderView> views = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            views.add(OrderView.of(order, users.get(order.getUserId())));
+        }
+        orderViewRepository.saveAll(views);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusChanged(Order order) {
+        orderViewRepository.updateStatus(List.of(order.getId()), order.getStatus(), LocalDateTime.now());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusChanged(Collection<Long> orderIds, OrderStatus status) {
+        if (!orderIds.isEmpty()) {
+            orderViewRepository.updateStatus(orderIds, status, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 사용자 변경/삭제 → 해당 사용자 주문의 사용자 정보를 다시 채우도록 표시
+     */
+    @Transactional
+    public void onUserChanged(Long userId) {
+        int marked = orderViewRepository.markUserUnresolved(userId, LocalDateTime.now());
+        log.info("🔄 [Order View] 사용자 정보 갱신 예약 - userId: {}, orders: {}", userId, marked);
+    }
+
+    /**
+     * 사용자 정보가 비어 있거나 바뀐 주문을 일괄 조회 1회로 채움
+     * - 없는 사용자(삭제)는 사용자 정보 없이 확정
+     * - User Service 장애 시 다음 실행에서 재시도
+     */
+    @Scheduled(fixedDelayString = "${order.view.user-resolve-interval-ms:5000}")
+    public void resolveUsers() {
+        List<Long> userIds = orderViewRepository.findUnresolvedUserIds(
+                PageRequest.of(0, config.getUserResolveBatchSize()));
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        Map<Long, UserResponse> found;
+        try {
+            found = userLookupCollapser.getUsersByIds(userIds);
+        } catch (Exception e) {
+            log.warn("⚠️ [Order View] User Service 호출 실패 - 다음 실행에서 재시도 - count: {}, error: {}",
+                    userIds.size(), e.getMessage());
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long userId : userIds) {
+                UserResponse user = found.get(userId);
+                orderViewRepository.updateUser(userId,
+                        user != null ? user.getName() : null,
+                        user != null ? user.getEmail() : null,
+                        fetchedAt);
+            }
+        });
+        log.info("✅ [Order View] 사용자 정보 반영 - users: {}", userIds.size());
+    }
+}
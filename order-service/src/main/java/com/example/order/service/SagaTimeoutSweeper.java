@@ -0,0 +1,127 @@
+package com.example.order.service;
+
+import com.example.order.config.SagaTimeoutConfig;
+import com.example.order.entity.Order;
+import com.example.order.entity.OrderSaga;
+import com.example.order.entity.OrderStatus;
+import com.example.order.entity.SagaStep;
+import com.example.order.kafka.OrderEventProducer;
+import com.example.order.repository.OrderRepository;
+import com.example.order.repository.OrderSagaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Saga 시간 초과 처리
+ * - 이벤트 유실/지연으로 마감 시각이 지난 Saga를 배치로 조회해 주문 취소 + 보상 요청
+ * - deadline 인덱스 범위 스캔 + SKIP LOCKED: 여러 인스턴스가 나눠서 처리, 전체 테이블 스캔 없음
+ * - 배치 1개 = 트랜잭션 1개 (주문 일괄 조회 → 상태 변경 → Outbox 저장 → 조회 모델 일괄 UPDATE)
+ *
+ * 보상 범위 (Saga에 기록된 진행 결과 기준):
+ * - 재고 확보됨 → 재고 복구 요청 / 결제(선승인) 있음 → 결제 취소 요청
+ * - 시간 초과 후 늦게 도착한 재고 확보/결제 이벤트는 SagaEventHandler가 보상 요청
+ */
+@Slf4j
+@Component
+public class SagaTimeoutSweeper {
+
+    private final OrderSagaRepository orderSagaRepository;
+    private final OrderRepository orderRepository;
+    private final OrderEventProducer orderEventProducer;
+    private final OrderViewProjector orderViewProjector;
+    private final TransactionTemplate transactionTemplate;
+    private final SagaTimeoutConfig config;
+    private final Map<SagaStep, Counter> timeoutCounters = new EnumMap<>(SagaStep.class);
+
+    public SagaTimeoutSweeper(OrderSagaRepository orderSagaRepository,
+                              OrderRepository orderRepository,
+                              OrderEventProducer orderEventProducer,
+                              OrderViewProjector orderViewProjector,
+                              TransactionTemplate transactionTemplate,
+                              SagaTimeoutConfig config,
+                              MeterRegistry meterRegistry) {
+        this.orderSagaRepository = orderSagaRepository;
+        this.orderRepository = orderRepository;
+        this.orderEventProducer = orderEventProducer;
+        this.orderViewProjector = orderViewProjector;
+        this.transactionTemplate = transactionTemplate;
+        this.config = config;
+
+        for (SagaStep step : SagaStep.values()) {
+            if (!step.isTerminal()) {
+                timeoutCounters.put(step, Counter.builder("saga.timeouts")
+                        .description("시간 초과로 보상 처리된 Saga 수")
+                        .tag("step", step.name())
+                        .register(meterRegistry));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${saga.timeout.sweep-interval-ms:1000}")
+    public void sweep() {
+        int total = 0;
+        try {
+            for (int i = 0; i < config.getMaxBatchesPerSweep(); i++) {
+                int expired = sweepBatch();
+                total += expired;
+                if (expired < config.getSweepBatchSize()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ [Saga Timeout] 시간 초과 처리 실패", e);
+        }
+
+        if (total > 0) {
+            log.info("🧹 [Saga Timeout] 시간 초과 Saga 보상 처리 - {}건", total);
+        }
+    }
+
+    private int sweepBatch() {
+        Integer processed = transactionTemplate.execute(status -> {
+            List<OrderSaga> sagas = orderSagaRepository.findExpiredForUpdate(
+                    LocalDateTime.now(), PageRequest.of(0, config.getSweepBatchSize()));
+            if (sagas.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, Order> orders = orderRepository.findAllById(
+                            sagas.stream().map(OrderSaga::getOrderId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+            List<Long> cancelledOrderIds = new ArrayList<>(sagas.size());
+            for (OrderSaga saga : sagas) {
+                SagaStep timedOutStep = saga.getStep();
+                saga.finish(SagaStep.TIMED_OUT);
+                timeoutCounters.get(timedOutStep).increment();
+
+                Order order = orders.get(saga.getOrderId());
+                if (order == null) {
+                    continue;
+                }
+                order.cancel("Saga 시간 초과 - " + timedOutStep);
+                cancelledOrderIds.add(order.getId());
+
+                Integer releaseQuantity = saga.isInventoryReserved() ? order.getQuantity() : null;
+                orderEventProducer.publishOrderCancelled(order, releaseQuantity, saga.getPaymentId());
+            }
+            orderViewProjector.onStatusChanged(cancelledOrderIds, OrderStatus.CANCELLED);
+            return sagas.size();
+        });
+        return processed == null ? 0 : processed;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.order.client;
+
+import com.example.order.dto.UserResponse;
+import com.example.order.exception.UserNotFoundException;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+import io.github.resilience4j.springboot3.timelimiter.autoconfigure.TimeLimiterAutoConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * AsyncUserClient 시간 제한 / Fallback 테스트
+ * - TimeLimiter가 실제로 동작해 지연된 조회를 끊고 null로 진행하는지
+ * - 시간 초과 시 조회 스레드가 인터럽트되어 정리되는지 (cancel-running-future)
+ */
+@SpringBootTest(
+        classes = AsyncUserClient.class,
+        properties = {
+                "resilience4j.timelimiter.instances.userClient.timeout-duration=200ms",
+                "resilience4j.timelimiter.instances.userClient.cancel-running-future=true",
+                "resilience4j.circuitbreaker.instances.userClient.ignore-exceptions[0]="
+                        + "com.example.order.exception.UserNotFoundException"
+        })
+@ImportAutoConfiguration({
+        AopAutoConfiguration.class,
+        CircuitBreakerAutoConfiguration.class,
+        TimeLimiterAutoConfiguration.class
+})
+class AsyncUserClientTest {
+
+    @Autowired
+    private AsyncUserClient asyncUserClient;
+
+    @MockBean
+    private CachedUserClient cachedUserClient;
+
+    @Test
+    void 조회_성공시_사용자를_반환한다() throws Exception {
+        UserResponse user = new UserResponse(1L, "홍길동", "hong@example.com");
+        given(cachedUserClient.getUserById(1L)).willReturn(user);
+
+        assertThat(asyncUserClient.verifyUser(1L).get(1, TimeUnit.SECONDS)).isEqualTo(user);
+    }
+
+    @Test
+    void 시간_초과시_null로_진행하고_조회_스레드를_인터럽트한다() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        given(cachedUserClient.getUserById(2L)).willAnswer(invocation -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return new UserResponse(2L, "지연", "slow@example.com");
+        });
+
+        long start = System.nanoTime();
+        UserResponse result = asyncUserClient.verifyUser(2L).get(2, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(result).isNull();
+        assertThat(elapsedMs).isLessThan(1_000);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS))
+                .as("시간 초과된 조회 스레드가 인터럽트되어야 함")
+                .isTrue();
+    }
+
+    @Test
+    void User_Service_장애시_null로_진행한다() throws Exception {
+        given(cachedUserClient.getUserById(3L)).willThrow(new IllegalStateException("connection refused"));
+
+        assertThat(asyncUserClient.verifyUser(3L).get(1, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void 존재하지_않는_사용자는_Fallback_없이_실패한다() {
+        given(cachedUserClient.getUserById(4L)).willThrow(new UserNotFoundException(4L));
+
+        assertThatThrownBy(() -> asyncUserClient.verifyUser(4L).get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(UserNotFoundException.class);
+    }
+}
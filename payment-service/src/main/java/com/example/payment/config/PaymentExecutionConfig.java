@@ -0,0 +1,48 @@
+package com.example.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * PG 호출 실행 설정 - DB 트랜잭션 밖에서 PG를 호출하는 gateway 스레드 풀
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "payment.execution")
+public class PaymentExecutionConfig {
+
+    /**
+     * PG 동시 호출 수 (PG사 동시 요청 한도 이하로)
+     */
+    private int gatewayThreads = 32;
+
+    /**
+     * PG 호출 대기열 크기 - 가득 차면 PENDING으로 남겨 두고 복구 주기에 처리
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * PG 1회 호출 제한 시간 - 넘으면 호출을 중단하고 오류로 집계 (pending-timeout보다 짧아야 함)
+     */
+    private Duration gatewayTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 요청 후 이 시간이 지나도 PG 응답 대기 상태면 PG 재호출 (gateway-timeout보다 길게)
+     */
+    private Duration pendingTimeout = Duration.ofMinutes(1);
+
+    /**
+     * PENDING 결제 복구 주기 (ms)
+     */
+    private long recoveryIntervalMs = 10000;
+
+    /**
+     * 1회 복구 최대 건수
+     */
+    private int recoveryBatchSize = 100;
+}
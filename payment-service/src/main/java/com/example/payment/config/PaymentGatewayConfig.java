@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * PG 설정을 관리하는 Configuration 클래스
  */
@@ -18,6 +20,7 @@ public class PaymentGatewayConfig {
     private TossConfig toss;
     private KakaoConfig kakao;
     private NaverConfig naver;
+    private RoutingConfig routing = new RoutingConfig();
 
     @Getter
     @Setter
@@ -40,4 +43,37 @@ public class PaymentGatewayConfig {
         private String clientSecret;
         private String apiUrl;
     }
+
+    /**
+     * PG 자동 선택 (PaymentGatewayRouter) - pgType 없이 요청한 결제/선승인에 적용
+     */
+    @Getter
+    @Setter
+    public static class RoutingConfig {
+
+        /**
+         * false면 항상 defaultGateway 사용
+         */
+        private boolean enabled = true;
+
+        /**
+         * 지연/오류율 EWMA 가중치 (클수록 최근 호출 반영이 빠름)
+         */
+        private double ewmaAlpha = 0.2;
+
+        /**
+         * 호출 기록이 없는 PG의 초기 지연 (ms)
+         */
+        private double initialLatencyMs = 100;
+
+        /**
+         * 오류율이 이 값을 넘는 PG는 다른 PG가 모두 넘을 때만 선택
+         */
+        private double maxErrorRate = 0.5;
+
+        /**
+         * 이 시간 동안 호출이 없던 PG에는 다음 결제 1건을 보내 상태를 다시 측정 (제외된 PG 복귀)
+         */
+        private Duration probeInterval = Duration.ofSeconds(30);
+    }
 }
@@ -1,6 +1,8 @@
 package com.example.payment.controller;
 
+import com.example.payment.dto.PaymentResponse;
 import com.example.payment.entity.Payment;
+import com.example.payment.factory.PaymentGatewayRouter;
 import com.example.payment.service.PaymentService;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -9,6 +11,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 결제 API 컨트롤러
  * 테스트를 위한 REST API 제공
@@ -20,42 +26,33 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentGatewayRouter gatewayRouter;
 
     /**
      * 결제 처리 (기본 PG사 사용)
+     * - PG 응답까지 요청 스레드를 잡지 않음 (Spring MVC 비동기 처리)
      */
     @PostMapping
-    public ResponseEntity<PaymentResult> processPayment(@RequestBody PaymentProcessRequest request) {
+    public CompletableFuture<ResponseEntity<PaymentResult>> processPayment(@RequestBody PaymentProcessRequest request) {
         log.info("결제 요청 API 호출 - orderId: {}, amount: {}", request.getOrderId(), request.getAmount());
 
-        Payment payment = paymentService.processPayment(request.getOrderId(), request.getAmount());
-
-        if (payment != null) {
-            return ResponseEntity.ok(new PaymentResult(true, payment.getPaymentId(), "결제 성공", null));
-        } else {
-            return ResponseEntity.ok(new PaymentResult(false, null, "결제 실패", null));
-        }
+        return paymentService.processPayment(request.getOrderId(), BigDecimal.valueOf(request.getAmount()))
+                .thenApply(payment -> ResponseEntity.ok(PaymentResult.of(payment, null)));
     }
 
     /**
      * 결제 처리 (PG사 선택)
      */
     @PostMapping("/with-pg")
-    public ResponseEntity<PaymentResult> processPaymentWithPg(@RequestBody PaymentWithPgRequest request) {
+    public CompletableFuture<ResponseEntity<PaymentResult>> processPaymentWithPg(@RequestBody PaymentWithPgRequest request) {
         log.info("결제 요청 API 호출 - orderId: {}, amount: {}, pgType: {}",
                 request.getOrderId(), request.getAmount(), request.getPgType());
 
-        Payment payment = paymentService.processPayment(
-                request.getOrderId(),
-                request.getAmount(),
-                request.getPgType()
-        );
-
-        if (payment != null) {
-            return ResponseEntity.ok(new PaymentResult(true, payment.getPaymentId(), "결제 성공", request.getPgType()));
-        } else {
-            return ResponseEntity.ok(new PaymentResult(false, null, "결제 실패", request.getPgType()));
-        }
+        return paymentService.processPayment(
+                        request.getOrderId(),
+                        BigDecimal.valueOf(request.getAmount()),
+                        request.getPgType())
+                .thenApply(payment -> ResponseEntity.ok(PaymentResult.of(payment, request.getPgType())));
     }
 
     /**
@@ -68,6 +65,22 @@ public class PaymentController {
         return ResponseEntity.ok("결제 취소 요청이 처리되었습니다.");
     }
 
+    /**
+     * 결제 상태 조회 (결제한 PG사에 조회)
+     */
+    @GetMapping("/{orderId}/status")
+    public ResponseEntity<PaymentResponse> getPaymentStatus(@PathVariable Long orderId) {
+        return ResponseEntity.ok(paymentService.getPaymentStatus(orderId));
+    }
+
+    /**
+     * PG별 라우팅 상태 (EWMA 지연 / 오류율 / 동시 호출 수)
+     */
+    @GetMapping("/gateways")
+    public ResponseEntity<List<PaymentGatewayRouter.GatewayHealth>> getGatewayHealth() {
+        return ResponseEntity.ok(gatewayRouter.health());
+    }
+
     @Getter
     @AllArgsConstructor
     public static class PaymentProcessRequest {
@@ -90,5 +103,11 @@ public class PaymentController {
         private String paymentId;
         private String message;
         private String pgType;
+
+        static PaymentResult of(Payment payment, String pgType) {
+            return (payment.getStatus() == Payment.PaymentStatus.COMPLETED)
+                    ? new PaymentResult(true, payment.getPaymentId(), "결제 성공", pgType)
+                    : new PaymentResult(false, null, "결제 실패", pgType);
+        }
     }
 }
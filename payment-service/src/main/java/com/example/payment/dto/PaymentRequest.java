@@ -18,4 +18,9 @@ public class PaymentRequest {
     private String paymentMethod;
     private String customerName;
     private String customerEmail;
+
+    /**
+     * 중복 요청 방지 키 (결제 id) - PG는 같은 키의 재요청에 첫 응답을 그대로 돌려줌 (복구 재호출 시 이중 결제 없음)
+     */
+    private String idempotencyKey;
 }
@@ -1,5 +1,6 @@
 package com.example.payment.entity;
 
+import com.example.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,31 +8,42 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * 결제 엔티티
  */
 @Entity
-@Table(name = "payment")
+@Table(name = "payment",
+       uniqueConstraints = @UniqueConstraint(name = "uk_payment_order_id", columnNames = "orderId"),
+       indexes = @Index(name = "idx_payment_status_requested", columnList = "status, requestedAt"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Payment {
 
+    /**
+     * PG 응답 대기 상태 - 요청 트랜잭션 커밋 후 트랜잭션 밖에서 PG 호출, 오래되면 복구 주기에 재호출
+     */
+    public static final Set<PaymentStatus> AWAITING_GATEWAY = EnumSet.of(
+            PaymentStatus.PENDING, PaymentStatus.AUTHORIZING, PaymentStatus.CAPTURING,
+            PaymentStatus.VOIDING, PaymentStatus.CANCELLING);
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     /**
-     * 주문 ID (연관관계)
+     * 주문 ID (연관관계) - 주문당 결제 1건 (동시 요청은 유니크 제약으로 거절)
      */
     @Column(nullable = false)
     private Long orderId;
 
     /**
-     * 결제 ID (외부 PG사 트랜잭션 ID)
+     * 결제 ID (외부 PG사 트랜잭션 ID) - PG 응답 전(PENDING)에는 없음
      */
-    @Column(nullable = false, unique = true)
+    @Column(unique = true)
     private String paymentId;
 
     /**
@@ -59,6 +71,29 @@ public class Payment {
     @Column(nullable = false)
     private LocalDateTime paymentAt;
 
+    /**
+     * 결제한 PG사 (PG 호출 / 복구 재호출 / 매입 / 취소 / 상태 조회는 모두 이 PG로)
+     */
+    @Column(length = 30)
+    private String gateway;
+
+    /**
+     * 결제/매입 실패 시 재고 복구 대상 (재고 확보 이벤트로 시작한 결제는 결과 이벤트 발행 여부도 이것으로 판단)
+     */
+    private Long productId;
+
+    private Integer quantity;
+
+    /**
+     * PG 호출 요청 시각 (오래된 PG 응답 대기 결제는 복구 대상)
+     */
+    private LocalDateTime requestedAt;
+
+    /**
+     * 실패 사유
+     */
+    private String failureReason;
+
     public Payment(Long orderId, String paymentId, BigDecimal amount, String paymentMethod) {
         this.orderId = orderId;
         this.paymentId = paymentId;
@@ -68,9 +103,139 @@ public class Payment {
         this.paymentAt = LocalDateTime.now();
     }
 
+    /**
+     * 선승인(hold) 결제 생성 - 매입 전 상태
+     */
+    public static Payment authorized(Long orderId, String paymentId, BigDecimal amount, String paymentMethod,
+                                     String gateway) {
+        Payment payment = new Payment(orderId, paymentId, amount, paymentMethod);
+        payment.status = PaymentStatus.AUTHORIZED;
+        payment.gateway = gateway;
+        return payment;
+    }
+
+    /**
+     * PG 호출 전 결제 생성 - 짧은 트랜잭션으로 저장 후 트랜잭션 밖에서 PG 호출
+     */
+    public static Payment pending(Long orderId, BigDecimal amount, String paymentMethod, String gateway,
+                                  Long productId, Integer quantity) {
+        Payment payment = new Payment(orderId, null, amount, paymentMethod);
+        payment.status = PaymentStatus.PENDING;
+        payment.gateway = gateway;
+        payment.productId = productId;
+        payment.quantity = quantity;
+        payment.requestedAt = payment.paymentAt;
+        return payment;
+    }
+
+    /**
+     * 선승인 요청 - PG 응답 전이라 paymentId 없음
+     */
+    public static Payment authorizing(Long orderId, BigDecimal amount, String paymentMethod, String gateway) {
+        Payment payment = new Payment(orderId, null, amount, paymentMethod);
+        payment.status = PaymentStatus.AUTHORIZING;
+        payment.gateway = gateway;
+        payment.requestedAt = payment.paymentAt;
+        return payment;
+    }
+
     public enum PaymentStatus {
-        COMPLETED,  // 결제 완료
-        CANCELLED   // 결제 취소 (보상 트랜잭션)
+        PENDING,     // PG 응답 대기 (결제)
+        AUTHORIZING, // PG 응답 대기 (선승인)
+        CAPTURING,   // PG 응답 대기 (매입)
+        VOIDING,     // PG 응답 대기 (선승인 취소)
+        CANCELLING,  // PG 응답 대기 (결제 취소)
+        FAILED,      // PG 결제/선승인 실패
+        AUTHORIZED,  // 선승인 (매입 대기)
+        COMPLETED,   // 결제 완료
+        VOIDED,      // 선승인 취소 (매입 전 보상)
+        CANCELLED    // 결제 취소 (보상 트랜잭션)
+    }
+
+    public boolean isAwaitingGateway() {
+        return AWAITING_GATEWAY.contains(status);
+    }
+
+    /**
+     * PG 결제 성공
+     */
+    public void complete(String paymentId) {
+        this.paymentId = paymentId;
+        this.status = PaymentStatus.COMPLETED;
+        this.paymentAt = LocalDateTime.now();
+    }
+
+    /**
+     * PG 선승인 성공
+     */
+    public void authorize(String paymentId) {
+        this.paymentId = paymentId;
+        this.status = PaymentStatus.AUTHORIZED;
+        this.paymentAt = LocalDateTime.now();
+    }
+
+    /**
+     * PG 결제/선승인 실패
+     */
+    public void fail(String reason) {
+        this.status = PaymentStatus.FAILED;
+        this.failureReason = reason;
+    }
+
+    /**
+     * Saga(재고 확보 이벤트)로 시작한 결제인지 - 결과 이벤트 발행 대상
+     */
+    public boolean isSagaPayment() {
+        return productId != null;
+    }
+
+    /**
+     * 매입 요청 - 매입 실패 시 재고 복구 대상도 함께 기록
+     */
+    public void requestCapture(Long productId, Integer quantity) {
+        this.status = PaymentStatus.CAPTURING;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.requestedAt = LocalDateTime.now();
+    }
+
+    /**
+     * PG 매입 거절 - 선승인 상태로 되돌림 (주문 취소 시 선승인 취소 대상)
+     */
+    public void rejectCapture(String reason) {
+        this.status = PaymentStatus.AUTHORIZED;
+        this.failureReason = reason;
+    }
+
+    /**
+     * 선승인 매입 완료
+     */
+    public void capture() {
+        this.status = PaymentStatus.COMPLETED;
+        this.paymentAt = LocalDateTime.now();
+    }
+
+    /**
+     * 선승인 취소 요청
+     */
+    public void requestVoid() {
+        this.status = PaymentStatus.VOIDING;
+        this.requestedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 결제 취소 요청
+     */
+    public void requestCancel() {
+        this.status = PaymentStatus.CANCELLING;
+        this.requestedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 선승인 취소 (매입 전 보상)
+     */
+    public void voidAuthorization() {
+        this.status = PaymentStatus.VOIDED;
     }
 
     /**
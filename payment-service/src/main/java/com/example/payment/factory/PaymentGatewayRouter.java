@@ -0,0 +1,210 @@
+package com.example.payment.factory;
+
+import com.example.payment.config.PaymentExecutionConfig;
+import com.example.payment.config.PaymentGatewayConfig;
+import com.example.payment.dto.PaymentResponse;
+import com.example.payment.exception.PaymentFailedException;
+import com.example.payment.strategy.PaymentGatewayStrategy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * PG 라우팅 - PG별 지연/오류율/동시 호출 수를 추적해 새 결제를 가장 상태가 좋은 PG로 보냄
+ * - 점수 = EWMA 지연 × (동시 호출 수 + 1) / (1 - EWMA 오류율) → 가장 낮은 PG 선택
+ * - 오류율이 max-error-rate를 넘는 PG는 제외 (모두 넘으면 그중 점수가 낮은 PG)
+ * - probe-interval 동안 호출이 없던 PG는 다음 결제 1건으로 다시 측정 (제외된 PG 복귀)
+ * - 오류는 PG 호출 예외(타임아웃/연결 실패)만 집계 - 잔액 부족 등 결제 거절은 PG 상태와 무관
+ * - 모든 호출은 gateway-timeout 안에 끝나야 함 (넘으면 호출 스레드를 인터럽트하고 오류로 집계)
+ *
+ * 이미 생성된 결제의 후속 호출(매입/취소/상태 조회)은 결제에 기록된 PG로 call()
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentGatewayRouter {
+
+    private final PaymentGatewayFactory gatewayFactory;
+    private final List<PaymentGatewayStrategy> strategies;
+    private final PaymentGatewayConfig gatewayConfig;
+    private final PaymentExecutionConfig executionConfig;
+
+    private final Map<String, GatewayStats> statsMap = new LinkedHashMap<>();
+
+    /**
+     * PG 호출 스레드 (호출자는 제한 시간까지만 대기)
+     */
+    private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PostConstruct
+    public void init() {
+        double initialLatencyMs = gatewayConfig.getRouting().getInitialLatencyMs();
+        for (PaymentGatewayStrategy strategy : strategies) {
+            statsMap.put(strategy.getGatewayType(), new GatewayStats(strategy.getGatewayType(), initialLatencyMs));
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        callExecutor.shutdownNow();
+    }
+
+    /**
+     * 새 결제를 보낼 PG 선택
+     * @return PG 타입
+     */
+    public String select() {
+        PaymentGatewayConfig.RoutingConfig routing = gatewayConfig.getRouting();
+        if (!routing.isEnabled() || statsMap.isEmpty()) {
+            return gatewayConfig.getDefaultGateway();
+        }
+
+        long now = System.currentTimeMillis();
+        long probeIntervalMs = routing.getProbeInterval().toMillis();
+        GatewayStats healthy = null;
+        GatewayStats fallback = null;
+        for (GatewayStats stats : statsMap.values()) {
+            if (stats.tryProbe(now, probeIntervalMs)) {
+                log.debug("[Gateway Router] PG 상태 재측정 - {}", stats.gatewayType);
+                return stats.gatewayType;
+            }
+            if (fallback == null || stats.score() < fallback.score()) {
+                fallback = stats;
+            }
+            if (stats.errorRate() <= routing.getMaxErrorRate()
+                    && (healthy == null || stats.score() < healthy.score())) {
+                healthy = stats;
+            }
+        }
+
+        if (healthy == null) {
+            log.warn("⚠️ [Gateway Router] 모든 PG 오류율 초과 - 점수가 가장 낮은 PG 사용: {}", fallback.gatewayType);
+            return fallback.gatewayType;
+        }
+        return healthy.gatewayType;
+    }
+
+    /**
+     * PG 호출 + 지연/오류/동시 호출 수 기록
+     */
+    public PaymentResponse call(String gatewayType, Function<PaymentGatewayStrategy, PaymentResponse> call) {
+        PaymentGatewayStrategy strategy = gatewayFactory.getStrategy(gatewayType);
+        GatewayStats stats = statsMap.get(gatewayType);
+        if (stats == null) {
+            return callWithTimeout(gatewayType, strategy, call);
+        }
+
+        stats.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            PaymentResponse response = callWithTimeout(gatewayType, strategy, call);
+            error = false;
+            return response;
+        } finally {
+            stats.inFlight.decrementAndGet();
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            stats.record(elapsedMs, error, gatewayConfig.getRouting().getEwmaAlpha());
+        }
+    }
+
+    /**
+     * 제한 시간(gateway-timeout) 안에 PG 응답을 받지 못하면 호출을 중단하고 예외
+     */
+    private PaymentResponse callWithTimeout(String gatewayType, PaymentGatewayStrategy strategy,
+                                            Function<PaymentGatewayStrategy, PaymentResponse> call) {
+        Future<PaymentResponse> future = callExecutor.submit(() -> call.apply(strategy));
+        try {
+            return future.get(executionConfig.getGatewayTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("⚠️ [Gateway Router] PG 응답 시간 초과 - {}, timeout: {}", gatewayType, executionConfig.getGatewayTimeout());
+            throw new PaymentFailedException("PG 응답 시간 초과 - " + gatewayType);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PaymentFailedException("PG 호출 중단 - " + gatewayType);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("PG 호출 실패 - " + gatewayType, e.getCause());
+        }
+    }
+
+    /**
+     * PG별 현재 상태 (조회 API용)
+     */
+    public List<GatewayHealth> health() {
+        List<GatewayHealth> result = new ArrayList<>(statsMap.size());
+        statsMap.values().forEach(stats -> result.add(stats.toHealth()));
+        return result;
+    }
+
+    public record GatewayHealth(String gatewayType, double latencyMs, double errorRate, int inFlight) {
+    }
+
+    /**
+     * PG별 호출 통계 (EWMA)
+     */
+    private static final class GatewayStats {
+
+        private final String gatewayType;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double latencyMs;
+        private double errorRate;
+        private long lastCallAt;  // 마지막 호출 완료(또는 재측정 선택) 시각
+
+        GatewayStats(String gatewayType, double initialLatencyMs) {
+            this.gatewayType = gatewayType;
+            this.latencyMs = initialLatencyMs;
+        }
+
+        synchronized void record(long elapsedMs, boolean error, double alpha) {
+            latencyMs = alpha * elapsedMs + (1 - alpha) * latencyMs;
+            errorRate = alpha * (error ? 1 : 0) + (1 - alpha) * errorRate;
+            lastCallAt = System.currentTimeMillis();
+        }
+
+        /**
+         * 오래 호출이 없었으면 이번 결제를 가져감 (동시에 여러 건이 몰리지 않도록 호출 시각을 먼저 갱신)
+         */
+        synchronized boolean tryProbe(long now, long probeIntervalMs) {
+            if (now - lastCallAt < probeIntervalMs) {
+                return false;
+            }
+            lastCallAt = now;
+            return true;
+        }
+
+        synchronized double score() {
+            return latencyMs * (inFlight.get() + 1) / Math.max(1 - errorRate, 0.05);
+        }
+
+        synchronized double errorRate() {
+            return errorRate;
+        }
+
+        synchronized GatewayHealth toHealth() {
+            return new GatewayHealth(gatewayType, latencyMs, errorRate, inFlight.get());
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.example.payment.kafka;
 
+import com.example.common.event.EventHeaders;
 import com.example.common.event.InventoryReservedEvent;
-import com.example.payment.entity.Payment;
+import com.example.common.idempotency.IdempotentConsumerStore;
+import com.example.common.kafka.EventTypeRouter;
 import com.example.payment.service.PaymentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Inventory 이벤트 구독
@@ -17,7 +21,13 @@ import org.springframework.stereotype.Component;
 public class InventoryEventConsumer {
 
     private final PaymentService paymentService;
-    private final PaymentEventProducer paymentEventProducer;
+    private final IdempotentConsumerStore idempotentConsumerStore;
+
+    private static final String GROUP_ID = "payment-service-group";
+
+    private final EventTypeRouter router = EventTypeRouter.builder()
+            .on(InventoryReservedEvent.class, this::processPayment)
+            .build();
 
     /**
      * 재고 확보 성공 이벤트 수신 → 결제 처리
@@ -25,28 +35,42 @@ public class InventoryEventConsumer {
      * 개선사항:
      * - try-catch 제거: DB 연결 실패 등은 자동 재시도
      * - 비즈니스 실패(잔액 부족)는 명시적 처리
+     * - 재전달된 이벤트는 건너뜀 (멱등 처리 - 이중 결제 방지)
+     * - PG 응답을 기다리지 않고 커밋 (PG 호출 동안 DB 커넥션 점유 없음)
      */
     @KafkaListener(
             topics = "inventory-events",
-            groupId = "payment-service-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            groupId = GROUP_ID,
+            containerFactory = "kafkaListenerContainerFactory",
+            properties = EventTypeRouter.RAW_VALUE_DESERIALIZER
     )
-    public void handleInventoryReserved(InventoryReservedEvent event) {
+    @Transactional
+    public void handleInventoryReserved(ConsumerRecord<String, byte[]> record) {
+        if (!router.isSubscribed(record)) {
+            return;
+        }
+        if (!idempotentConsumerStore.tryAcquire(GROUP_ID, EventTypeRouter.headerValue(record, EventHeaders.EVENT_ID))) {
+            return;
+        }
+        router.route(record);
+    }
+
+    private void processPayment(InventoryReservedEvent event) {
+        if (Boolean.TRUE.equals(event.getPreAuthorized())) {
+            return;  // 선승인 병렬 모드: Order Service의 매입 요청으로 결제
+        }
+
         log.info("📩 [Kafka Consumer] 재고 확보 성공 이벤트 수신 - orderId: {}, 결제 처리 시작",
                 event.getOrderId());
 
-        // DB 예외 발생 시 자동 재시도 (CommonErrorHandler)
-        Payment payment = paymentService.processPayment(
+        // PENDING 결제 저장만 이 트랜잭션에서 처리 (DB 예외 발생 시 자동 재시도 - CommonErrorHandler)
+        // PG 호출은 커밋 후 트랜잭션 밖에서 진행, 결제 완료/실패 이벤트는 결과 반영 트랜잭션에서 발행
+        paymentService.requestPayment(
                 event.getOrderId(),
-                event.getTotalPrice()
+                event.getTotalPrice(),
+                null,
+                event.getProductId(),
+                event.getQuantity()
         );
-
-        if (payment != null) {
-            // 결제 성공 → 트랜잭션 커밋 후 이벤트 발행
-            paymentEventProducer.publishPaymentCompleted(event, payment);
-        } else {
-            // 결제 실패 (비즈니스 로직) → 보상 트랜잭션 이벤트 발행
-            paymentEventProducer.publishPaymentFailed(event);
-        }
     }
 }
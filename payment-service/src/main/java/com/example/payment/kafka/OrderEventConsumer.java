@@ -0,0 +1,101 @@
+package com.example.payment.kafka;
+
+import com.example.common.event.EventHeaders;
+import com.example.common.event.OrderCancelledEvent;
+import com.example.common.event.OrderCreatedEvent;
+import com.example.common.event.PaymentCaptureRequestedEvent;
+import com.example.common.idempotency.IdempotentConsumerStore;
+import com.example.common.kafka.EventTypeRouter;
+import com.example.payment.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Order 이벤트 구독
+ * - 결제 선승인 병렬 모드: 주문 생성 → 선승인, 매입 요청 → 매입
+ * - 이 트랜잭션에서는 요청 상태만 저장하고 PG 호출은 커밋 후 트랜잭션 밖에서 진행 (결과 이벤트는 결과 반영 시 발행)
+ * - 주문 취소 이벤트 중 결제 취소 요청(refundPaymentId)이 있는 것만 처리
+ * - 그 외 주문 이벤트는 역직렬화 없이 건너뜀 (eventType 헤더 라우팅)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderEventConsumer {
+
+    private final PaymentService paymentService;
+    private final PaymentEventProducer paymentEventProducer;
+    private final IdempotentConsumerStore idempotentConsumerStore;
+
+    private static final String GROUP_ID = "payment-service-group";
+
+    private final EventTypeRouter router = EventTypeRouter.builder()
+            .on(OrderCreatedEvent.class, this::authorize)
+            .on(PaymentCaptureRequestedEvent.class, this::capture)
+            .on(OrderCancelledEvent.class, this::refund)
+            .build();
+
+    /**
+     * 주문 이벤트 수신
+     * - PG 호출 실패 등 예외는 자동 재시도 (CommonErrorHandler)
+     */
+    @KafkaListener(
+            topics = "order-events",
+            groupId = GROUP_ID,
+            containerFactory = "kafkaListenerContainerFactory",
+            properties = EventTypeRouter.RAW_VALUE_DESERIALIZER
+    )
+    @Transactional
+    public void handleOrderCancelled(ConsumerRecord<String, byte[]> record) {
+        if (!router.isSubscribed(record)) {
+            return;
+        }
+        if (!idempotentConsumerStore.tryAcquire(GROUP_ID, EventTypeRouter.headerValue(record, EventHeaders.EVENT_ID))) {
+            return;
+        }
+        router.route(record);
+    }
+
+    /**
+     * 주문 생성 (선승인 병렬 모드) → 재고 확보를 기다리지 않고 결제 선승인
+     */
+    private void authorize(OrderCreatedEvent event) {
+        if (!Boolean.TRUE.equals(event.getPreAuthorize())) {
+            return;  // 순차 모드: 재고 확보 이벤트로 결제
+        }
+        log.info("📩 [Kafka Consumer] 주문 생성(선승인) 이벤트 수신 - orderId: {}, 결제 선승인 시작",
+                event.getOrderId());
+
+        paymentService.requestAuthorization(event.getOrderId(), event.getTotalPrice());
+    }
+
+    /**
+     * 매입 요청 → 매입 (재고 확보 + 선승인 모두 성공한 주문)
+     */
+    private void capture(PaymentCaptureRequestedEvent event) {
+        log.info("📩 [Kafka Consumer] 매입 요청 이벤트 수신 - orderId: {}, paymentId: {}",
+                event.getOrderId(), event.getPaymentId());
+
+        if (paymentService.requestCapture(event.getOrderId(), event.getProductId(), event.getQuantity()) == null) {
+            // 매입 불가 → 재고 복구 + 주문 취소
+            paymentEventProducer.publishPaymentFailed(event);
+        }
+    }
+
+    /**
+     * 주문 취소 → 결제 취소 (보상 트랜잭션)
+     * - Saga 시간 초과 / 재고 확보 실패로 취소된 주문의 결제(또는 선승인)를 되돌리는 경로
+     */
+    private void refund(OrderCancelledEvent event) {
+        if (event.getRefundPaymentId() == null) {
+            return;
+        }
+        log.info("📩 [Kafka Consumer] 주문 취소(결제 취소 요청) 이벤트 수신 - orderId: {}, paymentId: {}",
+                event.getOrderId(), event.getRefundPaymentId());
+
+        paymentService.cancelPayment(event.getOrderId());
+    }
+}
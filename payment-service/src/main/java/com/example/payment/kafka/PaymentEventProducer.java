@@ -1,34 +1,36 @@
 package com.example.payment.kafka;
 
-import com.example.common.event.InventoryReservedEvent;
+import com.example.common.event.PaymentAuthorizationFailedEvent;
+import com.example.common.event.PaymentAuthorizedEvent;
+import com.example.common.event.PaymentCaptureRequestedEvent;
 import com.example.common.event.PaymentCompletedEvent;
 import com.example.common.event.PaymentFailedEvent;
+import com.example.common.outbox.EventPublisher;
 import com.example.payment.entity.Payment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Payment 이벤트 발행
+ * - outbox.enabled=true 이면 결제 저장 트랜잭션에 참여하여 Outbox에 저장
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaymentEventProducer {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventPublisher eventPublisher;
     private static final String TOPIC = "payment-events";
 
     /**
-     * 결제 완료 이벤트 발행
+     * 결제 완료 이벤트 발행 (순차 결제 / 선승인 매입 공통)
      */
-    public void publishPaymentCompleted(InventoryReservedEvent inventoryEvent, Payment payment) {
+    public void publishPaymentCompleted(Payment payment) {
         PaymentCompletedEvent event = PaymentCompletedEvent.builder()
-                .orderId(inventoryEvent.getOrderId())
+                .orderId(payment.getOrderId())
                 .paymentId(payment.getPaymentId())
                 .amount(payment.getAmount())
                 .paymentMethod(payment.getPaymentMethod())
@@ -38,26 +40,17 @@ public class PaymentEventProducer {
         log.info("📤 [Kafka Producer] 결제 완료 이벤트 발행 - orderId: {}, topic: {}",
                 event.getOrderId(), TOPIC);
 
-        CompletableFuture<org.springframework.kafka.support.SendResult<String, Object>> future =
-                kafkaTemplate.send(TOPIC, event.getOrderId().toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("✅ [Kafka Producer] 결제 완료 이벤트 발행 완료 - orderId: {}", event.getOrderId());
-            } else {
-                log.error("❌ [Kafka Producer] 이벤트 발행 실패 - orderId: {}", event.getOrderId(), ex);
-            }
-        });
+        eventPublisher.publish(TOPIC, event.getOrderId().toString(), event);
     }
 
     /**
-     * 결제 실패 이벤트 발행
+     * 결제 실패 이벤트 발행 (재고 확보 이벤트로 시작한 결제 - 재고 복구 대상은 결제에 저장된 값)
      */
-    public void publishPaymentFailed(InventoryReservedEvent inventoryEvent) {
+    public void publishPaymentFailed(Payment payment) {
         PaymentFailedEvent event = PaymentFailedEvent.builder()
-                .orderId(inventoryEvent.getOrderId())
-                .productId(inventoryEvent.getProductId())
-                .quantity(inventoryEvent.getQuantity())
+                .orderId(payment.getOrderId())
+                .productId(payment.getProductId())
+                .quantity(payment.getQuantity())
                 .reason("결제 실패: 잔액 부족")
                 .failedAt(LocalDateTime.now())
                 .build();
@@ -65,15 +58,73 @@ public class PaymentEventProducer {
         log.info("📤 [Kafka Producer] 결제 실패 이벤트 발행 - orderId: {}, productId: {}, topic: {}",
                 event.getOrderId(), event.getProductId(), TOPIC);
 
-        CompletableFuture<org.springframework.kafka.support.SendResult<String, Object>> future =
-                kafkaTemplate.send(TOPIC, event.getOrderId().toString(), event);
+        eventPublisher.publish(TOPIC, event.getOrderId().toString(), event);
+    }
+
+    /**
+     * 매입 실패 이벤트 발행 (선승인 병렬 모드 - 매입할 수 없는 결제 상태)
+     * - 재고는 이미 확보된 상태이므로 기존 결제 실패 이벤트로 재고 복구까지 진행
+     */
+    public void publishPaymentFailed(PaymentCaptureRequestedEvent captureEvent) {
+        PaymentFailedEvent event = PaymentFailedEvent.builder()
+                .orderId(captureEvent.getOrderId())
+                .productId(captureEvent.getProductId())
+                .quantity(captureEvent.getQuantity())
+                .reason("결제 실패: 매입 실패")
+                .failedAt(LocalDateTime.now())
+                .build();
+
+        log.info("📤 [Kafka Producer] 결제 실패(매입) 이벤트 발행 - orderId: {}, topic: {}", event.getOrderId(), TOPIC);
+
+        eventPublisher.publish(TOPIC, event.getOrderId().toString(), event);
+    }
+
+    /**
+     * 매입 실패 이벤트 발행 (선승인 병렬 모드 - PG 매입 거절, 재고 복구 대상은 매입 요청 시 결제에 저장된 값)
+     */
+    public void publishCaptureFailed(Payment payment) {
+        PaymentFailedEvent event = PaymentFailedEvent.builder()
+                .orderId(payment.getOrderId())
+                .productId(payment.getProductId())
+                .quantity(payment.getQuantity())
+                .reason("결제 실패: 매입 실패")
+                .failedAt(LocalDateTime.now())
+                .build();
+
+        log.info("📤 [Kafka Producer] 결제 실패(매입) 이벤트 발행 - orderId: {}, topic: {}", event.getOrderId(), TOPIC);
+
+        eventPublisher.publish(TOPIC, event.getOrderId().toString(), event);
+    }
+
+    /**
+     * 결제 선승인 성공 이벤트 발행
+     */
+    public void publishPaymentAuthorized(Payment payment) {
+        PaymentAuthorizedEvent event = PaymentAuthorizedEvent.builder()
+                .orderId(payment.getOrderId())
+                .paymentId(payment.getPaymentId())
+                .amount(payment.getAmount())
+                .authorizedAt(LocalDateTime.now())
+                .build();
+
+        log.info("📤 [Kafka Producer] 결제 선승인 이벤트 발행 - orderId: {}, paymentId: {}, topic: {}",
+                event.getOrderId(), event.getPaymentId(), TOPIC);
+
+        eventPublisher.publish(TOPIC, event.getOrderId().toString(), event);
+    }
+
+    /**
+     * 결제 선승인 실패 이벤트 발행
+     */
+    public void publishPaymentAuthorizationFailed(Long orderId) {
+        PaymentAuthorizationFailedEvent event = PaymentAuthorizationFailedEvent.builder()
+                .orderId(orderId)
+                .reason("결제 선승인 실패: 잔액 부족")
+                .failedAt(LocalDateTime.now())
+                .build();
+
+        log.info("📤 [Kafka Producer] 결제 선승인 실패 이벤트 발행 - orderId: {}, topic: {}", orderId, TOPIC);
 
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("✅ [Kafka Producer] 결제 실패 이벤트 발행 완료 - orderId: {}", event.getOrderId());
-            } else {
-                log.error("❌ [Kafka Producer] 이벤트 발행 실패 - orderId: {}", event.getOrderId(), ex);
-            }
-        });
+        eventPublisher.publish(TOPIC, orderId.toString(), event);
     }
 }
@@ -1,9 +1,16 @@
 package com.example.payment.repository;
 
 import com.example.payment.entity.Payment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +20,26 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      * 주문 ID로 결제 조회
      */
     Optional<Payment> findByOrderId(Long orderId);
+
+    /**
+     * PG 응답을 받지 못한 오래된 결제 id (인스턴스 장애 / 대기열 초과 / PG 호출 예외)
+     * @param statuses PG 응답 대기 상태 (Payment.AWAITING_GATEWAY)
+     */
+    @Query("SELECT p.id FROM Payment p WHERE p.status IN :statuses " +
+            "AND p.requestedAt < :before ORDER BY p.requestedAt")
+    List<Long> findStalePendingIds(@Param("statuses") Collection<Payment.PaymentStatus> statuses,
+                                   @Param("before") LocalDateTime before,
+                                   Pageable pageable);
+
+    /**
+     * 오래된 PG 응답 대기 결제 재요청 선점 - 요청 시각을 갱신한 인스턴스만 PG를 다시 호출
+     * @return 1이면 선점 성공
+     */
+    @Modifying
+    @Query("UPDATE Payment p SET p.requestedAt = :now WHERE p.id = :id " +
+            "AND p.status IN :statuses AND p.requestedAt < :before")
+    int claimStalePending(@Param("id") Long id,
+                          @Param("statuses") Collection<Payment.PaymentStatus> statuses,
+                          @Param("before") LocalDateTime before,
+                          @Param("now") LocalDateTime now);
 }
@@ -1,35 +1,93 @@
 package com.example.payment.service;
 
+import com.example.payment.config.PaymentExecutionConfig;
 import com.example.payment.config.PaymentGatewayConfig;
+import com.example.payment.exception.PaymentFailedException;
 import com.example.payment.exception.PaymentNotFoundException;
 import com.example.payment.dto.PaymentRequest;
 import com.example.payment.dto.PaymentResponse;
 import com.example.payment.entity.Payment;
 import com.example.payment.factory.PaymentGatewayFactory;
+import com.example.payment.factory.PaymentGatewayRouter;
+import com.example.payment.kafka.PaymentEventProducer;
 import com.example.payment.repository.PaymentRepository;
-import com.example.payment.strategy.PaymentGatewayStrategy;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class PaymentService {
+public class PaymentService implements DisposableBean {
 
     private final PaymentRepository paymentRepository;
     private final PaymentGatewayFactory gatewayFactory;
+    private final PaymentGatewayRouter gatewayRouter;
     private final PaymentGatewayConfig gatewayConfig;
+    private final PaymentExecutionConfig executionConfig;
+    private final PaymentEventProducer paymentEventProducer;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * 결제 처리 (전략 패턴 적용)
-     * @return 결제 성공 시 Payment 객체, 실패 시 null
+     * PG 호출 전용 스레드 풀 (동시 호출 수 / 대기열 제한)
      */
-    @Transactional
-    public Payment processPayment(Long orderId, BigDecimal amount) {
+    private ThreadPoolExecutor gatewayExecutor;
+
+    /**
+     * PG 응답 대기 결제 복구
+     */
+    private ScheduledExecutorService recoveryScheduler;
+
+    @PostConstruct
+    public void init() {
+        // 호출 제한 시간이 복구 기준보다 길면 진행 중인 호출과 복구 재호출이 겹침
+        if (executionConfig.getGatewayTimeout().compareTo(executionConfig.getPendingTimeout()) >= 0) {
+            throw new IllegalStateException("payment.execution.gateway-timeout("
+                    + executionConfig.getGatewayTimeout() + ")은 pending-timeout("
+                    + executionConfig.getPendingTimeout() + ")보다 짧아야 합니다.");
+        }
+        gatewayExecutor = new ThreadPoolExecutor(
+                executionConfig.getGatewayThreads(), executionConfig.getGatewayThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(executionConfig.getQueueCapacity()),
+                r -> new Thread(r, "payment-gateway"));
+        recoveryScheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "payment-recovery"));
+        recoveryScheduler.scheduleWithFixedDelay(this::recoverPending, executionConfig.getRecoveryIntervalMs(),
+                executionConfig.getRecoveryIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        recoveryScheduler.shutdownNow();
+        gatewayExecutor.shutdownNow();  // 응답 전 결제는 요청 상태로 남아 재시작 후 복구
+    }
+
+    /**
+     * 결제 처리 (기본 PG사 사용)
+     * @return PG 결과가 반영된 결제 (성공 COMPLETED / 실패 FAILED)
+     */
+    public CompletableFuture<Payment> processPayment(Long orderId, BigDecimal amount) {
         return processPayment(orderId, amount, null);
     }
 
@@ -38,38 +96,120 @@ public class PaymentService {
      * @param orderId 주문 ID
      * @param amount 결제 금액
      * @param pgType PG사 타입 (null이면 기본 PG사 사용)
-     * @return 결제 성공 시 Payment 객체, 실패 시 null
+     * @return PG 결과가 반영된 결제 (성공 COMPLETED / 실패 FAILED)
      */
-    @Transactional
-    public Payment processPayment(Long orderId, BigDecimal amount, String pgType) {
+    public CompletableFuture<Payment> processPayment(Long orderId, BigDecimal amount, String pgType) {
+        try {
+            return transactionTemplate.execute(status -> requestPayment(orderId, amount, pgType, null, null));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문의 결제가 동시에 요청됨 (orderId 유니크) - 먼저 저장된 결제를 그대로 반환
+            Payment existing = paymentRepository.findByOrderId(orderId).orElseThrow(() -> e);
+            log.info("[Payment Service] 이미 요청된 결제 - orderId: {}, status: {}", orderId, existing.getStatus());
+            return CompletableFuture.completedFuture(existing);
+        }
+    }
+
+    /**
+     * 결제 요청 (1단계 - 호출자 트랜잭션에 참여)
+     * - PENDING 결제만 저장하고, PG 호출은 커밋 후 gateway 스레드에서 트랜잭션 없이 진행
+     *   → DB 커넥션은 PENDING 저장 / 결과 반영의 짧은 트랜잭션 동안만 사용 (PG 응답 대기 중 점유 없음)
+     * - productId/quantity가 있으면 Saga 결제: 결과 반영 트랜잭션에서 결제 완료/실패 이벤트 발행
+     * - 같은 주문의 결제가 이미 있으면 그대로 반환 (재요청)
+     * - 동시 요청으로 orderId 유니크 제약에 걸리면 DataIntegrityViolationException
+     *   → 트랜잭션 롤백 후 재시도(Kafka 재전달 / processPayment)에서 기존 결제로 처리
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public CompletableFuture<Payment> requestPayment(Long orderId, BigDecimal amount, String pgType,
+                                                     Long productId, Integer quantity) {
         log.info("[Payment Service] 결제 처리 요청 - orderId: {}, amount: {}, pgType: {}",
                 orderId, amount, pgType);
 
-        // PG 전략 선택
-        PaymentGatewayStrategy strategy = (pgType != null)
-            ? gatewayFactory.getStrategy(pgType)
-            : gatewayFactory.getStrategy(gatewayConfig.getDefaultGateway());
+        Optional<Payment> existing = paymentRepository.findByOrderId(orderId);
+        if (existing.isPresent()) {
+            log.info("[Payment Service] 이미 요청된 결제 - orderId: {}, status: {}", orderId, existing.get().getStatus());
+            return CompletableFuture.completedFuture(existing.get());
+        }
 
-        // PG를 통한 결제 처리
-        PaymentRequest request = new PaymentRequest(orderId, amount, "CARD", "Customer", "customer@example.com");
-        PaymentResponse response = strategy.processPayment(request);
+        // PG 선택 (지정 없으면 상태가 가장 좋은 PG, 지원하지 않는 PG사면 저장 전에 거절)
+        // 선택한 PG를 결제에 기록 → 복구 재호출/취소/상태 조회도 같은 PG로
+        String gateway = (pgType != null) ? pgType : gatewayRouter.select();
+        gatewayFactory.getStrategy(gateway);
 
-        if (response.isSuccess()) {
-            Payment payment = new Payment(orderId, response.getPaymentId(), amount, "CARD");
-            paymentRepository.save(payment);
+        Payment payment = saveRequested(Payment.pending(orderId, amount, "CARD", gateway, productId, quantity));
+        return dispatchAfterCommit(payment);
+    }
 
-            log.info("✅ [Payment Service] 결제 성공 - orderId: {}, paymentId: {}, PG: {}",
-                    orderId, response.getPaymentId(), response.getPgType());
+    /**
+     * 결제 선승인 요청 (결제 선승인 병렬 모드 - 호출자 트랜잭션에 참여)
+     * - 재고 확보와 동시에 진행, 매입/취소는 Order Service의 요청으로 결정
+     * - AUTHORIZING 결제만 저장하고 PG 호출은 커밋 후 트랜잭션 밖에서 진행
+     * - 선승인 성공/실패 이벤트는 결과 반영 트랜잭션에서 발행
+     * - 동시 요청으로 orderId 유니크 제약에 걸리면 롤백 → Kafka 재전달 시 이미 요청된 선승인으로 처리
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void requestAuthorization(Long orderId, BigDecimal amount) {
+        log.info("[Payment Service] 결제 선승인 요청 - orderId: {}, amount: {}", orderId, amount);
+
+        Optional<Payment> existing = paymentRepository.findByOrderId(orderId);
+        if (existing.isPresent()) {
+            log.info("[Payment Service] 이미 요청된 선승인 - orderId: {}, status: {}", orderId, existing.get().getStatus());
+            return;
+        }
+
+        String gateway = gatewayRouter.select();
+        Payment payment = saveRequested(Payment.authorizing(orderId, amount, "CARD", gateway));
+        dispatchAfterCommit(payment);
+    }
+
+    /**
+     * 요청 상태 결제 저장 (주문당 결제 1건 - orderId 유니크)
+     * - 즉시 flush해 동시 요청과의 충돌을 커밋 전에 감지 (커밋 후 PG 호출 등록 전에 실패)
+     * - 제약 위반 시 이 트랜잭션은 더 쓸 수 없으므로 예외를 그대로 던져 롤백
+     */
+    private Payment saveRequested(Payment payment) {
+        try {
+            return paymentRepository.saveAndFlush(payment);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("⚠️ [Payment Service] 같은 주문의 결제가 동시에 요청됨 - orderId: {}, 롤백 후 재시도 시 기존 결제로 처리",
+                    payment.getOrderId());
+            throw e;
+        }
+    }
+
+    /**
+     * 선승인 매입 요청 (재고 확보 + 선승인 모두 성공 시 - 호출자 트랜잭션에 참여)
+     * - CAPTURING으로 바꾸고 PG 호출은 커밋 후 트랜잭션 밖에서 진행
+     * - 매입 완료/실패 이벤트는 결과 반영 트랜잭션에서 발행 (이미 매입된 결제는 완료 이벤트만 다시 발행)
+     * @return 매입 요청된 결제, 매입할 수 없는 상태면 null
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Payment requestCapture(Long orderId, Long productId, Integer quantity) {
+        log.info("[Payment Service] 결제 매입 요청 - orderId: {}", orderId);
+
+        Payment payment = paymentRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new PaymentNotFoundException(orderId));
+        if (payment.getStatus() == Payment.PaymentStatus.COMPLETED) {
+            paymentEventProducer.publishPaymentCompleted(payment);
             return payment;
-        } else {
-            log.warn("⚠️ [Payment Service] 결제 실패 - orderId: {}, PG: {}, message: {}",
-                    orderId, response.getPgType(), response.getMessage());
+        }
+        if (payment.getStatus() == Payment.PaymentStatus.CAPTURING) {
+            return payment;
+        }
+        if (payment.getStatus() != Payment.PaymentStatus.AUTHORIZED) {
+            log.warn("⚠️ [Payment Service] 매입 불가 상태 - orderId: {}, status: {}", orderId, payment.getStatus());
             return null;
         }
+
+        payment.requestCapture(productId, quantity);
+        dispatchAfterCommit(payment);
+        return payment;
     }
 
     /**
      * 결제 취소 (보상 트랜잭션)
+     * - 선승인 상태면 매입 전 승인 취소(void), 매입 완료면 결제 취소
+     * - VOIDING/CANCELLING으로 바꾸고 PG 호출은 커밋 후 트랜잭션 밖에서 진행
+     * - PG가 취소를 거절하면 취소 요청 상태로 남겨 복구 주기에 재시도
      */
     @Transactional
     public void cancelPayment(Long orderId) {
@@ -78,19 +218,231 @@ public class PaymentService {
         Payment payment = paymentRepository.findByOrderId(orderId)
                 .orElseThrow(() -> new PaymentNotFoundException(orderId));
 
-        // PG사에 취소 요청
-        PaymentGatewayStrategy strategy = gatewayFactory.getStrategy(gatewayConfig.getDefaultGateway());
-        PaymentResponse response = strategy.cancelPayment(payment.getPaymentId());
+        switch (payment.getStatus()) {
+            // PG 응답 대기 중이면 결과 반영 후 다시 처리 (예외 → Consumer 재시도)
+            case PENDING, AUTHORIZING, CAPTURING ->
+                    throw new PaymentFailedException(orderId, "PG 응답 대기 중 - " + payment.getStatus());
+            // 결제되지 않았거나 중복 보상 요청이면 무시
+            case FAILED, VOIDING, VOIDED, CANCELLING, CANCELLED ->
+                    log.info("[Payment Service] 이미 취소된 결제 - orderId: {}, paymentId: {}, status: {}",
+                            orderId, payment.getPaymentId(), payment.getStatus());
+            case AUTHORIZED -> {
+                payment.requestVoid();
+                dispatchAfterCommit(payment);
+            }
+            case COMPLETED -> {
+                payment.requestCancel();
+                dispatchAfterCommit(payment);
+            }
+        }
+    }
+
+    /**
+     * 요청 트랜잭션이 커밋되면 PG 호출을 gateway 스레드로 넘김
+     * @return PG 결과가 반영된 결제
+     */
+    private CompletableFuture<Payment> dispatchAfterCommit(Payment payment) {
+        Long id = payment.getId();
+        Long orderId = payment.getOrderId();
+        CompletableFuture<Payment> result = new CompletableFuture<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    dispatch(id, result);
+                } else {
+                    result.completeExceptionally(new PaymentFailedException(orderId, "결제 요청 저장 실패"));
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * PG 호출을 gateway 스레드로 넘김
+     * - 대기열이 가득 차면 요청 상태로 남겨 두고 복구 주기에 처리
+     */
+    private void dispatch(Long id, CompletableFuture<Payment> result) {
+        try {
+            gatewayExecutor.execute(() -> {
+                try {
+                    result.complete(callGateway(id));
+                } catch (Exception e) {
+                    log.error("❌ [Payment Service] PG 호출 실패 - id: {}, 복구 주기에 재시도", id, e);
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ [Payment Service] PG 호출 대기열 초과 - id: {}, 복구 주기에 처리", id);
+            result.completeExceptionally(new PaymentFailedException("PG 호출 대기열 초과 - 잠시 후 처리됩니다."));
+        }
+    }
 
+    /**
+     * PG 호출 (2단계 - 트랜잭션 밖) → 결과 반영 (3단계 - 짧은 트랜잭션)
+     * - 요청 시각 + (pending-timeout - gateway-timeout)이 지난 호출은 시작하지 않음
+     *   → 진행 중인 호출은 복구 재호출 전에 끝나므로 같은 요청을 동시에 보내지 않음
+     * - 그래도 다시 보내게 되는 경우(응답 반영 전 장애)는 Idempotency-Key(결제 id)로 PG가 중복을 거름
+     */
+    private Payment callGateway(Long id) {
+        Payment payment = findPayment(id);
+        Payment.PaymentStatus requested = payment.getStatus();
+        if (!payment.isAwaitingGateway()) {
+            return payment;
+        }
+
+        LocalDateTime callDeadline = payment.getRequestedAt()
+                .plus(executionConfig.getPendingTimeout())
+                .minus(executionConfig.getGatewayTimeout());
+        if (LocalDateTime.now().isAfter(callDeadline)) {
+            log.warn("⚠️ [Payment Service] PG 호출 시작 시한 초과 - id: {}, status: {}, 복구 주기에 처리", id, requested);
+            return payment;
+        }
+
+        PaymentResponse response = gatewayRouter.call(gatewayOf(payment), strategy -> switch (requested) {
+            case PENDING -> strategy.processPayment(gatewayRequest(payment));
+            case AUTHORIZING -> strategy.authorize(gatewayRequest(payment));
+            case CAPTURING -> strategy.capture(payment.getPaymentId(), payment.getAmount());
+            case VOIDING -> strategy.voidAuthorization(payment.getPaymentId());
+            case CANCELLING -> strategy.cancelPayment(payment.getPaymentId());
+            default -> throw new IllegalStateException("PG 응답 대기 상태가 아닙니다: " + requested);
+        });
+
+        return transactionTemplate.execute(status -> finish(id, requested, response));
+    }
+
+    private PaymentRequest gatewayRequest(Payment payment) {
+        return new PaymentRequest(payment.getOrderId(), payment.getAmount(), payment.getPaymentMethod(),
+                "Customer", "customer@example.com", String.valueOf(payment.getId()));
+    }
+
+    private Payment finish(Long id, Payment.PaymentStatus requested, PaymentResponse response) {
+        Payment payment = findPayment(id);
+        if (payment.getStatus() != requested) {
+            return payment;  // 복구 경로에서 이미 반영됨
+        }
+
+        switch (requested) {
+            case PENDING -> finishPayment(payment, response);
+            case AUTHORIZING -> finishAuthorization(payment, response);
+            case CAPTURING -> finishCapture(payment, response);
+            default -> finishCancel(payment, response);
+        }
+        return payment;
+    }
+
+    private void finishPayment(Payment payment, PaymentResponse response) {
         if (response.isSuccess()) {
-            payment.cancel();
-            paymentRepository.save(payment);
+            payment.complete(response.getPaymentId());
+            log.info("✅ [Payment Service] 결제 성공 - orderId: {}, paymentId: {}, PG: {}",
+                    payment.getOrderId(), response.getPaymentId(), response.getPgType());
+            if (payment.isSagaPayment()) {
+                paymentEventProducer.publishPaymentCompleted(payment);
+            }
+        } else {
+            payment.fail(response.getMessage());
+            log.warn("⚠️ [Payment Service] 결제 실패 - orderId: {}, PG: {}, message: {}",
+                    payment.getOrderId(), response.getPgType(), response.getMessage());
+            if (payment.isSagaPayment()) {
+                paymentEventProducer.publishPaymentFailed(payment);
+            }
+        }
+    }
 
-            log.info("✅ [Payment Service] 결제 취소 완료 - orderId: {}, paymentId: {}, PG: {}",
-                    orderId, payment.getPaymentId(), response.getPgType());
+    private void finishAuthorization(Payment payment, PaymentResponse response) {
+        if (response.isSuccess()) {
+            payment.authorize(response.getPaymentId());
+            log.info("✅ [Payment Service] 결제 선승인 성공 - orderId: {}, paymentId: {}, PG: {}",
+                    payment.getOrderId(), response.getPaymentId(), response.getPgType());
+            paymentEventProducer.publishPaymentAuthorized(payment);
+        } else {
+            payment.fail(response.getMessage());
+            log.warn("⚠️ [Payment Service] 결제 선승인 실패 - orderId: {}, PG: {}, message: {}",
+                    payment.getOrderId(), response.getPgType(), response.getMessage());
+            paymentEventProducer.publishPaymentAuthorizationFailed(payment.getOrderId());
+        }
+    }
+
+    private void finishCapture(Payment payment, PaymentResponse response) {
+        if (response.isSuccess()) {
+            payment.capture();
+            log.info("✅ [Payment Service] 결제 매입 완료 - orderId: {}, paymentId: {}",
+                    payment.getOrderId(), payment.getPaymentId());
+            paymentEventProducer.publishPaymentCompleted(payment);
+        } else {
+            // 매입 실패 → 재고 복구 + 주문 취소 (선승인은 주문 취소 이벤트로 해제)
+            payment.rejectCapture(response.getMessage());
+            log.warn("⚠️ [Payment Service] 결제 매입 실패 - orderId: {}, PG: {}, message: {}",
+                    payment.getOrderId(), response.getPgType(), response.getMessage());
+            paymentEventProducer.publishCaptureFailed(payment);
+        }
+    }
+
+    private void finishCancel(Payment payment, PaymentResponse response) {
+        if (!response.isSuccess()) {
+            log.error("❌ [Payment Service] 결제 취소 실패 - orderId: {}, status: {}, message: {}, 복구 주기에 재시도",
+                    payment.getOrderId(), payment.getStatus(), response.getMessage());
+            return;
+        }
+
+        if (payment.getStatus() == Payment.PaymentStatus.VOIDING) {
+            payment.voidAuthorization();
+            log.info("✅ [Payment Service] 선승인 취소 완료 - orderId: {}, paymentId: {}",
+                    payment.getOrderId(), payment.getPaymentId());
         } else {
-            log.error("❌ [Payment Service] 결제 취소 실패 - orderId: {}, message: {}",
-                    orderId, response.getMessage());
+            payment.cancel();
+            log.info("✅ [Payment Service] 결제 취소 완료 - orderId: {}, paymentId: {}, PG: {}",
+                    payment.getOrderId(), payment.getPaymentId(), response.getPgType());
+        }
+    }
+
+    /**
+     * 오래된 PG 응답 대기 결제 PG 재호출 (인스턴스 장애 / 대기열 초과 / PG 호출 예외·시간 초과)
+     * - 요청 시각 갱신으로 선점한 인스턴스만 재호출
+     */
+    void recoverPending() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(executionConfig.getPendingTimeout());
+            List<Long> ids = paymentRepository.findStalePendingIds(
+                    Payment.AWAITING_GATEWAY, before, PageRequest.of(0, executionConfig.getRecoveryBatchSize()));
+            for (Long id : ids) {
+                Integer claimed = transactionTemplate.execute(status -> paymentRepository.claimStalePending(
+                        id, Payment.AWAITING_GATEWAY, before, LocalDateTime.now()));
+                if (claimed != null && claimed == 1) {
+                    log.warn("🔄 [Payment Service] PG 응답 대기 결제 재호출 - id: {}", id);
+                    dispatch(id, new CompletableFuture<>());
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ [Payment Service] PG 응답 대기 결제 복구 실패", e);
+        }
+    }
+
+    private Payment findPayment(Long id) {
+        return paymentRepository.findById(id)
+                .orElseThrow(() -> new PaymentNotFoundException("결제 정보를 찾을 수 없습니다. id: " + id));
+    }
+
+    /**
+     * 결제 상태 조회 - 결제한 PG사에 조회 (PG 조회는 트랜잭션 밖)
+     */
+    public PaymentResponse getPaymentStatus(Long orderId) {
+        Payment payment = paymentRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new PaymentNotFoundException(orderId));
+        if (payment.getPaymentId() == null) {
+            return PaymentResponse.builder()
+                    .success(false)
+                    .message("PG 결제 전 상태: " + payment.getStatus())
+                    .pgType(payment.getGateway())
+                    .build();
         }
+        return gatewayRouter.call(gatewayOf(payment), strategy -> strategy.getPaymentStatus(payment.getPaymentId()));
+    }
+
+    /**
+     * 결제한 PG사 (PG 기록 이전 결제는 기본 PG사)
+     */
+    private String gatewayOf(Payment payment) {
+        return (payment.getGateway() != null) ? payment.getGateway() : gatewayConfig.getDefaultGateway();
     }
 }
@@ -0,0 +1,67 @@
+package com.example.payment.strategy;
+
+import com.example.payment.dto.PaymentRequest;
+import com.example.payment.dto.PaymentResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Idempotency-Key별 첫 응답 보관 (시뮬레이션 PG용 - 메모리)
+ * - 실제 PG는 같은 키의 재요청에 보관된 응답을 일정 기간 그대로 돌려줌
+ * - ttl이 지난 응답은 정리 (키가 무한히 쌓이지 않도록)
+ *   → ttl은 복구 재호출(payment.execution.pending-timeout)보다 충분히 길어야 이중 결제 방지 유지
+ */
+public class IdempotentResponseStore {
+
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final long ttlMillis;
+    private final Map<String, StoredResponse> responsesByKey = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeAt;
+
+    public IdempotentResponseStore() {
+        this(DEFAULT_TTL);
+    }
+
+    public IdempotentResponseStore(Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+        this.nextPurgeAt = new AtomicLong(System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * 같은 Idempotency-Key의 재요청이면 보관된 첫 응답 반환, 아니면 호출 후 보관
+     * - 키가 없으면 매번 호출
+     */
+    public PaymentResponse getOrCall(PaymentRequest request, Function<PaymentRequest, PaymentResponse> call) {
+        if (request.getIdempotencyKey() == null) {
+            return call.apply(request);
+        }
+        long now = System.currentTimeMillis();
+        purgeExpired(now);
+        return responsesByKey.compute(request.getIdempotencyKey(), (key, stored) ->
+                stored != null && stored.expiresAt() > now
+                        ? stored
+                        : new StoredResponse(call.apply(request), now + ttlMillis)).response();
+    }
+
+    public int size() {
+        return responsesByKey.size();
+    }
+
+    /**
+     * 만료 응답 정리 - ttl마다 한 스레드만 전체 순회 (요청마다 순회하지 않음)
+     */
+    private void purgeExpired(long now) {
+        long purgeAt = nextPurgeAt.get();
+        if (now >= purgeAt && nextPurgeAt.compareAndSet(purgeAt, now + ttlMillis)) {
+            responsesByKey.values().removeIf(stored -> stored.expiresAt() <= now);
+        }
+    }
+
+    private record StoredResponse(PaymentResponse response, long expiresAt) {
+    }
+}
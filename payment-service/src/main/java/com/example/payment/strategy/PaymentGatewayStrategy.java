@@ -3,6 +3,8 @@ package com.example.payment.strategy;
 import com.example.payment.dto.PaymentRequest;
 import com.example.payment.dto.PaymentResponse;
 
+import java.math.BigDecimal;
+
 /**
  * PG 전략 인터페이스
  * 다양한 PG사(토스페이먼츠, 카카오페이, 네이버페이 등)를 추상화
@@ -10,10 +12,25 @@ import com.example.payment.dto.PaymentResponse;
 public interface PaymentGatewayStrategy {
 
     /**
-     * 결제 처리
+     * 결제 처리 - 같은 idempotencyKey의 재요청은 첫 응답을 그대로 반환
      */
     PaymentResponse processPayment(PaymentRequest request);
 
+    /**
+     * 결제 선승인 (hold) - 한도만 잡고 매입하지 않음, 같은 idempotencyKey의 재요청은 첫 응답을 그대로 반환
+     */
+    PaymentResponse authorize(PaymentRequest request);
+
+    /**
+     * 선승인 매입 (capture)
+     */
+    PaymentResponse capture(String paymentId, BigDecimal amount);
+
+    /**
+     * 선승인 취소 (void) - 매입 전이므로 환불 없이 한도 해제
+     */
+    PaymentResponse voidAuthorization(String paymentId);
+
     /**
      * 결제 취소
      */
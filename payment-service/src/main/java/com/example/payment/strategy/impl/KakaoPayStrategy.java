@@ -2,11 +2,14 @@ package com.example.payment.strategy.impl;
 
 import com.example.payment.dto.PaymentRequest;
 import com.example.payment.dto.PaymentResponse;
+import com.example.payment.strategy.IdempotentResponseStore;
 import com.example.payment.strategy.PaymentGatewayStrategy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * 카카오페이 PG 전략 구현체
@@ -18,8 +21,17 @@ public class KakaoPayStrategy implements PaymentGatewayStrategy {
 
     private static final String GATEWAY_TYPE = "KAKAO_PAY";
 
+    /**
+     * Idempotency-Key별 첫 응답 (실제 PG는 같은 키의 재요청에 보관된 응답을 그대로 돌려줌 - 시뮬레이션은 메모리, TTL 정리)
+     */
+    private final IdempotentResponseStore responses = new IdempotentResponseStore();
+
     @Override
     public PaymentResponse processPayment(PaymentRequest request) {
+        return idempotent(request, this::pay);
+    }
+
+    private PaymentResponse pay(PaymentRequest request) {
         log.info("[{}] 결제 요청 - orderId: {}, amount: {}",
                 GATEWAY_TYPE, request.getOrderId(), request.getAmount());
 
@@ -50,6 +62,71 @@ public class KakaoPayStrategy implements PaymentGatewayStrategy {
         }
     }
 
+    @Override
+    public PaymentResponse authorize(PaymentRequest request) {
+        return idempotent(request, this::hold);
+    }
+
+    private PaymentResponse hold(PaymentRequest request) {
+        log.info("[{}] 선승인 요청 - orderId: {}, amount: {}",
+                GATEWAY_TYPE, request.getOrderId(), request.getAmount());
+
+        // 실제로는 카카오페이 승인 API 호출
+        // POST https://kapi.kakao.com/v1/payment/approve (hold 옵션)
+
+        boolean success = simulatePayment();
+
+        if (success) {
+            String pgTransactionId = "kakao_" + UUID.randomUUID().toString();
+            log.info("[{}] 선승인 성공 - transactionId: {}", GATEWAY_TYPE, pgTransactionId);
+
+            return PaymentResponse.builder()
+                    .success(true)
+                    .paymentId("PAY-" + UUID.randomUUID().toString().substring(0, 8))
+                    .pgTransactionId(pgTransactionId)
+                    .message("카카오페이 선승인 성공")
+                    .pgType(GATEWAY_TYPE)
+                    .build();
+        } else {
+            log.warn("[{}] 선승인 실패", GATEWAY_TYPE);
+            return PaymentResponse.builder()
+                    .success(false)
+                    .message("카카오페이 선승인 실패")
+                    .pgType(GATEWAY_TYPE)
+                    .build();
+        }
+    }
+
+    @Override
+    public PaymentResponse capture(String paymentId, BigDecimal amount) {
+        log.info("[{}] 매입 요청 - paymentId: {}, amount: {}", GATEWAY_TYPE, paymentId, amount);
+
+        // 실제로는 카카오페이 매입 API 호출
+        // POST https://kapi.kakao.com/v1/payment/capture
+
+        return PaymentResponse.builder()
+                .success(true)
+                .paymentId(paymentId)
+                .message("카카오페이 매입 완료")
+                .pgType(GATEWAY_TYPE)
+                .build();
+    }
+
+    @Override
+    public PaymentResponse voidAuthorization(String paymentId) {
+        log.info("[{}] 선승인 취소 요청 - paymentId: {}", GATEWAY_TYPE, paymentId);
+
+        // 실제로는 카카오페이 취소 API 호출
+        // POST https://kapi.kakao.com/v1/payment/cancel (매입 전 취소 = 승인 취소)
+
+        return PaymentResponse.builder()
+                .success(true)
+                .paymentId(paymentId)
+                .message("카카오페이 선승인 취소 완료")
+                .pgType(GATEWAY_TYPE)
+                .build();
+    }
+
     @Override
     public PaymentResponse cancelPayment(String paymentId) {
         log.info("[{}] 결제 취소 요청 - paymentId: {}", GATEWAY_TYPE, paymentId);
@@ -84,6 +161,13 @@ public class KakaoPayStrategy implements PaymentGatewayStrategy {
                 .build();
     }
 
+    /**
+     * 같은 Idempotency-Key의 재요청이면 첫 응답 반환 (복구 재호출 시 이중 결제 방지)
+     */
+    private PaymentResponse idempotent(PaymentRequest request, Function<PaymentRequest, PaymentResponse> call) {
+        return responses.getOrCall(request, call);
+    }
+
     /**
      * 결제 시뮬레이션 (85% 성공률)
      */
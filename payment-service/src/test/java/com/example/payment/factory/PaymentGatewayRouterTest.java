@@ -0,0 +1,147 @@
+package com.example.payment.factory;
+
+import com.example.payment.config.PaymentExecutionConfig;
+import com.example.payment.config.PaymentGatewayConfig;
+import com.example.payment.dto.PaymentResponse;
+import com.example.payment.strategy.PaymentGatewayStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PG 라우팅 테스트
+ * - 오류율 초과 PG 제외 / 모두 초과 시 점수가 가장 낮은 PG / 오래 호출이 없던 PG 재측정
+ */
+class PaymentGatewayRouterTest {
+
+    private static final String FAST = "FAST_PG";
+    private static final String SLOW = "SLOW_PG";
+
+    private PaymentGatewayRouter router;
+
+    @AfterEach
+    void tearDown() {
+        if (router != null) {
+            router.destroy();
+        }
+    }
+
+    @Test
+    void 라우팅을_끄면_기본_PG를_사용한다() {
+        PaymentGatewayConfig config = gatewayConfig(Duration.ofHours(1));
+        config.getRouting().setEnabled(false);
+        router = router(config);
+
+        assertThat(router.select()).isEqualTo(FAST);
+    }
+
+    @Test
+    void 처음에는_호출_기록이_없는_PG를_차례로_측정한다() {
+        router = router(gatewayConfig(Duration.ofHours(1)));
+
+        assertThat(router.select()).isEqualTo(FAST);
+        assertThat(router.select()).isEqualTo(SLOW);
+    }
+
+    @Test
+    void 오류율을_넘는_PG는_점수가_더_낮아도_제외한다() {
+        router = router(gatewayConfig(Duration.ofHours(1)));
+        failTimes(FAST, 3);     // 지연 ~12ms, 오류율 0.875 → 점수 ~100
+        succeed(SLOW, 200);     // 지연 ~150ms, 오류율 0 → 점수 ~150
+
+        assertThat(router.health())
+                .filteredOn(health -> health.gatewayType().equals(FAST))
+                .singleElement()
+                .satisfies(health -> assertThat(health.errorRate()).isGreaterThan(0.5));
+        assertThat(router.select()).isEqualTo(SLOW);
+        assertThat(router.select()).isEqualTo(SLOW);
+    }
+
+    @Test
+    void 모든_PG가_오류율을_넘으면_점수가_가장_낮은_PG를_사용한다() {
+        router = router(gatewayConfig(Duration.ofHours(1)));
+        failTimes(FAST, 3);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> router.call(SLOW, strategy -> {
+                sleep(100);
+                throw new IllegalStateException("connection reset");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(router.select()).isEqualTo(FAST);
+    }
+
+    @Test
+    void 제외된_PG도_재측정_주기가_지나면_다음_결제_1건을_받는다() {
+        router = router(gatewayConfig(Duration.ofMillis(300)));
+        failTimes(SLOW, 3);
+        succeed(FAST, 0);
+        assertThat(router.select()).isEqualTo(FAST);
+
+        sleep(400);
+        succeed(FAST, 0);  // FAST는 계속 호출 중, SLOW만 재측정 주기 경과
+
+        assertThat(router.select()).isEqualTo(SLOW);
+        assertThat(router.select()).as("재측정은 1건만").isEqualTo(FAST);
+    }
+
+    private PaymentGatewayRouter router(PaymentGatewayConfig config) {
+        List<PaymentGatewayStrategy> strategies = List.of(strategy(FAST), strategy(SLOW));
+        PaymentGatewayFactory factory = new PaymentGatewayFactory(strategies);
+        factory.init();
+
+        PaymentExecutionConfig executionConfig = new PaymentExecutionConfig();
+        executionConfig.setGatewayTimeout(Duration.ofSeconds(5));
+
+        PaymentGatewayRouter router = new PaymentGatewayRouter(factory, strategies, config, executionConfig);
+        router.init();
+        return router;
+    }
+
+    private static PaymentGatewayConfig gatewayConfig(Duration probeInterval) {
+        PaymentGatewayConfig config = new PaymentGatewayConfig();
+        config.setDefaultGateway(FAST);
+        config.getRouting().setEwmaAlpha(0.5);
+        config.getRouting().setInitialLatencyMs(100);
+        config.getRouting().setMaxErrorRate(0.5);
+        config.getRouting().setProbeInterval(probeInterval);
+        return config;
+    }
+
+    private static PaymentGatewayStrategy strategy(String gatewayType) {
+        PaymentGatewayStrategy strategy = mock(PaymentGatewayStrategy.class);
+        given(strategy.getGatewayType()).willReturn(gatewayType);
+        return strategy;
+    }
+
+    private void succeed(String gatewayType, long latencyMs) {
+        router.call(gatewayType, strategy -> {
+            sleep(latencyMs);
+            return PaymentResponse.builder().success(true).pgType(gatewayType).build();
+        });
+    }
+
+    private void failTimes(String gatewayType, int times) {
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(() -> router.call(gatewayType, strategy -> {
+                throw new IllegalStateException("connection refused");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
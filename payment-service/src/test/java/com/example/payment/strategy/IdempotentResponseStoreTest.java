@@ -0,0 +1,64 @@
+package com.example.payment.strategy;
+
+import com.example.payment.dto.PaymentRequest;
+import com.example.payment.dto.PaymentResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Idempotency-Key 응답 보관 테스트
+ * - 같은 키는 첫 응답 / ttl이 지나면 다시 호출하고 만료 응답은 정리
+ */
+class IdempotentResponseStoreTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Function<PaymentRequest, PaymentResponse> gateway = request -> PaymentResponse.builder()
+            .success(true)
+            .paymentId("PG-" + calls.incrementAndGet())
+            .build();
+
+    @Test
+    void 같은_키의_재요청은_첫_응답을_반환한다() {
+        IdempotentResponseStore store = new IdempotentResponseStore();
+
+        PaymentResponse first = store.getOrCall(request("1"), gateway);
+        PaymentResponse retried = store.getOrCall(request("1"), gateway);
+
+        assertThat(retried.getPaymentId()).isEqualTo(first.getPaymentId());
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void 키가_없으면_매번_호출한다() {
+        IdempotentResponseStore store = new IdempotentResponseStore();
+
+        store.getOrCall(request(null), gateway);
+        store.getOrCall(request(null), gateway);
+
+        assertThat(calls).hasValue(2);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void ttl이_지난_응답은_정리되고_다시_호출한다() throws InterruptedException {
+        IdempotentResponseStore store = new IdempotentResponseStore(Duration.ofMillis(20));
+        store.getOrCall(request("1"), gateway);
+        store.getOrCall(request("2"), gateway);
+
+        Thread.sleep(50);
+        PaymentResponse renewed = store.getOrCall(request("1"), gateway);
+
+        assertThat(renewed.getPaymentId()).isEqualTo("PG-3");
+        assertThat(store.size()).isEqualTo(1);  // 만료된 "2"는 정리
+    }
+
+    private PaymentRequest request(String idempotencyKey) {
+        return new PaymentRequest(1L, BigDecimal.TEN, "CARD", null, null, idempotencyKey);
+    }
+}
@@ -5,6 +5,7 @@ import com.example.product.entity.Category;
 import com.example.product.entity.Product;
 import com.example.product.service.ProductService;
 import com.example.product.service.ProductService.CreateProductRequest;
+import com.example.product.service.ProductService.UpdatePriceRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -64,6 +65,20 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 판매 중 상품 카탈로그 (id 순 keyset 페이지, 최대 1000건)
+     * - 다음 페이지는 afterId = 이전 페이지 마지막 상품 id, 빈 목록이면 끝
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<List<ProductResponse>> getCatalog(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "500") int size) {
+        List<ProductResponse> response = productService.getCatalogPage(afterId, Math.min(Math.max(size, 1), 1000)).stream()
+                .map(ProductResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 상품 ID로 조회
      */
@@ -74,6 +89,16 @@ public class ProductController {
         return ResponseEntity.ok(ProductResponse.from(product));
     }
 
+    /**
+     * 상품 가격 변경
+     */
+    @PatchMapping("/{id}/price")
+    public ResponseEntity<ProductResponse> updatePrice(@PathVariable Long id, @RequestBody UpdatePriceRequest request) {
+        log.info("[Product Controller] 가격 변경 - productId: {}, price: {}", id, request.getPrice());
+        Product product = productService.updatePrice(id, request.getPrice());
+        return ResponseEntity.ok(ProductResponse.from(product));
+    }
+
     /**
      * 상품 비활성화 (판매 중단)
      */
@@ -0,0 +1,46 @@
+package com.example.product.kafka;
+
+import com.example.common.event.ProductChangedEvent;
+import com.example.common.outbox.EventPublisher;
+import com.example.product.entity.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Product 이벤트 발행 (Outbox)
+ * - 상품 변경과 같은 트랜잭션에서 저장 → 커밋된 가격 변경은 Order Service 캐시에 반드시 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductEventProducer {
+
+    private static final String TOPIC = "product-events";
+
+    public static final String CREATED = "CREATED";
+    public static final String PRICE_CHANGED = "PRICE_CHANGED";
+    public static final String DEACTIVATED = "DEACTIVATED";
+
+    private final EventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishProductChanged(Product product, String changeType) {
+        ProductChangedEvent event = ProductChangedEvent.builder()
+                .productId(product.getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .active(product.getActive())
+                .changeType(changeType)
+                .changedAt(LocalDateTime.now())
+                .build();
+
+        eventPublisher.publish(TOPIC, product.getId().toString(), event);
+        log.info("📤 [Kafka Producer] 상품 변경 이벤트 Outbox 저장 - productId: {}, changeType: {}",
+                product.getId(), changeType);
+    }
+}
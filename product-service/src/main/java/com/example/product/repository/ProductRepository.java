@@ -2,6 +2,7 @@ package com.example.product.repository;
 
 import com.example.product.entity.Category;
 import com.example.product.entity.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -35,4 +36,9 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * 활성화된 상품 조회 (ID)
      */
     Optional<Product> findByIdAndActiveTrue(Long id);
+
+    /**
+     * 활성화된 상품 keyset 페이지 (id > afterId, id 순)
+     */
+    List<Product> findByActiveTrueAndIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
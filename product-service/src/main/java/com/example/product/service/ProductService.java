@@ -3,12 +3,14 @@ package com.example.product.service;
 import com.example.product.entity.Category;
 import com.example.product.entity.Product;
 import com.example.product.exception.ProductNotFoundException;
+import com.example.product.kafka.ProductEventProducer;
 import com.example.product.repository.ProductRepository;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ import java.util.List;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductEventProducer productEventProducer;
 
     /**
      * 상품 생성
@@ -40,6 +43,7 @@ public class ProductService {
         );
 
         Product savedProduct = productRepository.save(product);
+        productEventProducer.publishProductChanged(savedProduct, ProductEventProducer.CREATED);
         log.info("[Product Service] 상품 생성 완료 - productId: {}", savedProduct.getId());
 
         return savedProduct;
@@ -62,6 +66,16 @@ public class ProductService {
                 .orElseThrow(() -> new ProductNotFoundException(id));
     }
 
+    /**
+     * 판매 중 상품 카탈로그 (id 순 keyset 페이지) - Order Service 캐시 초기 적재용
+     * @param afterId 이전 페이지의 마지막 id (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public List<Product> getCatalogPage(Long afterId, int size) {
+        return productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(
+                afterId == null ? Long.MIN_VALUE : afterId, PageRequest.of(0, size));
+    }
+
     /**
      * 카테고리별 상품 조회
      */
@@ -96,7 +110,9 @@ public class ProductService {
         Product product = getProductById(id);
         product.updatePrice(newPrice);
 
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        productEventProducer.publishProductChanged(savedProduct, ProductEventProducer.PRICE_CHANGED);
+        return savedProduct;
     }
 
     /**
@@ -111,6 +127,7 @@ public class ProductService {
 
         product.deactivate();
         productRepository.save(product);
+        productEventProducer.publishProductChanged(product, ProductEventProducer.DEACTIVATED);
     }
 
     /**
@@ -137,4 +154,14 @@ public class ProductService {
             this.imageUrl = imageUrl;
         }
     }
+
+    /**
+     * 가격 변경 요청 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class UpdatePriceRequest {
+        private BigDecimal price;
+    }
 }
@@ -3,6 +3,7 @@ package com.example.user.controller;
 import com.example.user.entity.User;
 import com.example.user.service.UserService;
 import com.example.user.service.UserService.CreateUserRequest;
+import com.example.user.service.UserService.UpdateUserRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -40,6 +41,28 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    /**
+     * 사용자 일괄 조회 (최대 1000개) - 없는 id는 응답에서 빠짐
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<User>> getUsersByIds(@RequestBody List<Long> ids) {
+        log.info("[User Controller] 사용자 일괄 조회 API 호출됨 - count: {}", ids.size());
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody UpdateUserRequest request) {
+        log.info("[User Controller] 사용자 수정 API 호출됨 - userId: {}", id);
+        return ResponseEntity.ok(userService.updateUser(id, request));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
+        log.info("[User Controller] 사용자 삭제 API 호출됨 - userId: {}", id);
+        userService.deleteUser(id);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/email/{email}")
     public ResponseEntity<Optional<User>> getUserByEmail(@PathVariable String email) {
         Optional<User> user = userService.getUserByEmail(email);
@@ -0,0 +1,40 @@
+package com.example.user.kafka;
+
+import com.example.common.event.UserChangedEvent;
+import com.example.common.outbox.EventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * User 이벤트 발행 (Outbox)
+ * - 사용자 변경과 같은 트랜잭션에서 저장 → 커밋된 변경의 캐시 무효화 이벤트는 유실되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventProducer {
+
+    private static final String TOPIC = "user-events";
+
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private final EventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishUserChanged(Long userId, String changeType) {
+        UserChangedEvent event = UserChangedEvent.builder()
+                .userId(userId)
+                .changeType(changeType)
+                .changedAt(LocalDateTime.now())
+                .build();
+
+        eventPublisher.publish(TOPIC, userId.toString(), event);
+        log.info("📤 [Kafka Producer] 사용자 변경 이벤트 Outbox 저장 - userId: {}, changeType: {}", userId, changeType);
+    }
+}
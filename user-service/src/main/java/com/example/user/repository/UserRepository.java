@@ -4,9 +4,16 @@ import com.example.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    /**
+     * 여러 사용자 일괄 조회 (WHERE id IN (...)) - 없는 id는 결과에서 빠짐
+     */
+    List<User> findByIdIn(Collection<Long> ids);
 }
\ No newline at end of file
@@ -1,13 +1,16 @@
 package com.example.user.service;
 
 import com.example.user.entity.User;
+import com.example.user.kafka.UserEventProducer;
 import com.example.user.repository.UserRepository;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +18,13 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserService {
 
+    /**
+     * 일괄 조회 1회 최대 id 수
+     */
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final UserRepository userRepository;
+    private final UserEventProducer userEventProducer;
 
     public User createUser(CreateUserRequest request) {
         User user = new User(request.getEmail(), request.getName());
@@ -31,10 +40,49 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + id));
     }
 
+    /**
+     * 여러 사용자 일괄 조회 (IN 쿼리 1회) - 없는 id는 결과에서 빠짐
+     */
+    public List<User> getUsersByIds(List<Long> ids) {
+        LinkedHashSet<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Too many ids (max " + MAX_BATCH_SIZE + "): " + distinctIds.size());
+        }
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findByIdIn(distinctIds);
+    }
+
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
 
+    /**
+     * 사용자 정보 수정 + 변경 이벤트 발행 (Order Service 캐시 무효화)
+     */
+    @Transactional
+    public User updateUser(Long id, UpdateUserRequest request) {
+        User user = getUserById(id);
+        if (request.getEmail() != null) {
+            user.setEmail(request.getEmail());
+        }
+        if (request.getName() != null) {
+            user.setName(request.getName());
+        }
+        userEventProducer.publishUserChanged(id, UserEventProducer.UPDATED);
+        return user;
+    }
+
+    /**
+     * 사용자 삭제 + 변경 이벤트 발행 (Order Service 캐시 무효화)
+     */
+    @Transactional
+    public void deleteUser(Long id) {
+        userRepository.delete(getUserById(id));
+        userEventProducer.publishUserChanged(id, UserEventProducer.DELETED);
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -47,4 +95,12 @@ public class UserService {
             this.name = name;
         }
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class UpdateUserRequest {
+        private String email;
+        private String name;
+    }
+}